@@ -2,8 +2,10 @@ package net.peng1104;
 
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.Nullable;
+import net.peng1104.commands.MapTemplateCommand;
 import net.peng1104.game.GameManager;
 import net.peng1104.game.RoomManager;
+import net.peng1104.game.TimerWheel;
 import net.peng1104.game.maps.MapManager;
 import net.peng1104.storage.files.main.ArcadeConfigFile;
 
@@ -33,6 +35,14 @@ public class Arcade extends PengPlugin {
 	
 	private ArcadeConfigFile configFile;
 	
+	/**
+	 * The {@link TimerWheel} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private TimerWheel timerWheel;
+	
 	/**
 	 * The {@link RoomManager} instance
 	 * 
@@ -66,11 +76,39 @@ public class Arcade extends PengPlugin {
 		
 		if (!hasLicense()) return;
 		
+		long start = System.nanoTime();
+		
 		configFile = new ArcadeConfigFile();
+		timerWheel = new TimerWheel();
 		
 		mapManager = new MapManager();
 		gameManager = new GameManager();
 		roomManager = new RoomManager();
+		
+		getCommand("arcademodelo").setExecutor(new MapTemplateCommand());
+		
+		getLogger().info("Enabled in " + (System.nanoTime() - start) / 1000000 + " ms ("
+				+ mapManager.getAvalibleMaps().size() + " maps)");
+	}
+	
+	@Override
+	public void onDisable() {
+		if (timerWheel != null) {
+			timerWheel.shutdown();
+		}
+		if (gameManager != null) {
+			gameManager.shutdown();
+		}
+		if (mapManager != null) {
+			mapManager.getChunkPreloader().shutdown();
+			mapManager.getRollbackManager().shutdown();
+			mapManager.getWorldCreationQueue().shutdown();
+			mapManager.getMapFileWriter().shutdown();
+			mapManager.getWorldPool().shutdown();
+			mapManager.getArenaManager().shutdown();
+			mapManager.getWorldReclaimer().shutdown();
+		}
+		super.onDisable();
 	}
 	
 	@Override
@@ -91,6 +129,19 @@ public class Arcade extends PengPlugin {
 		return instance;
 	}
 	
+	/**
+	 * Get the {@link TimerWheel} that drives all the {@link Arcade} countdowns
+	 * 
+	 * @return The {@link TimerWheel} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = TimerWheel.class)
+	public TimerWheel getTimerWheel() {
+		return timerWheel;
+	}
+	
 	/**
 	 * Get the {@link RoomManager} instance
 	 * 
@@ -0,0 +1,239 @@
+package net.peng1104.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.ChatColor;
+import org.bukkit.World;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.maps.GameMap;
+import net.peng1104.game.maps.MapManager;
+import net.peng1104.game.maps.MapTemplate;
+import net.peng1104.game.maps.WorldCloner;
+import net.peng1104.game.maps.WorldReclaimer;
+
+/**
+ * {@link CommandExecutor} of the command that converts the existing {@link GameMap}s into
+ * {@link MapTemplate}s and measures how long a {@link World} takes to be created from each of
+ * them, the {@link GameMap}s are converted one at a time so only one maintenance {@link World} is
+ * loaded at once
+ * 
+ * <pre>
+ * /arcademodelo &lt;mapa&gt;        Converte um mapa
+ * /arcademodelo todos          Converte todos os mapas
+ * /arcademodelo medir &lt;mapa&gt;  Mede a criação e a leitura de um mapa
+ * </pre>
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class MapTemplateCommand implements CommandExecutor {
+	
+	/**
+	 * The prefix of the messages of this command
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String PREFIX = "&c[&4Arcade&c] &f";
+	
+	/**
+	 * The argument to convert all the {@link GameMap}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String ALL = "todos";
+	
+	/**
+	 * The argument to measure a {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String MEASURE = "medir";
+	
+	@Override
+	public boolean onCommand(CommandSender sender, Command command, String label,
+			String[] arguments) {
+		
+		if (arguments.length == 1) {
+			MapManager mapManager = Arcade.getInstance().getMapManager();
+			Deque<String> names = new ArrayDeque<>();
+			
+			if (arguments[0].equalsIgnoreCase(ALL)) {
+				names.addAll(mapManager.getAvalibleMaps());
+			}
+			else if (mapManager.get(arguments[0]) != null) {
+				names.add(arguments[0]);
+			}
+			else {
+				send(sender, "O mapa &c" + arguments[0] + " &fnão existe.");
+				return true;
+			}
+			send(sender, "Convertendo &c" + names.size() + " &fmapa(s) em modelos...");
+			convertNext(sender, names, 0);
+			return true;
+		}
+		if (arguments.length == 2 && arguments[0].equalsIgnoreCase(MEASURE)) {
+			measure(sender, arguments[1]);
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Internal {@link Method} to convert the next {@link GameMap} of a queue, the next one is only
+	 * started once the previous one has finished
+	 * 
+	 * @param sender The {@link CommandSender} that receives the progress
+	 * @param names The names of the {@link GameMap}s still to convert
+	 * @param converted The amount of {@link GameMap}s converted so far
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void convertNext(@NotNull CommandSender sender, @NotNull Deque<String> names,
+			int converted) {
+		
+		String name = names.pollFirst();
+		
+		if (name == null) {
+			send(sender, "&c" + converted + " &fmapa(s) convertido(s).");
+			return;
+		}
+		long start = System.nanoTime();
+		
+		Arcade.getInstance().getMapManager().convertToTemplate(name).whenComplete(
+				(result, exception) -> {
+					boolean success = exception == null && result;
+					
+					if (success) {
+						send(sender, "Mapa &c" + name + " &fconvertido em &c" + millis(start)
+								+ " &fms.");
+					}
+					else {
+						send(sender, "Não foi possível converter o mapa &c" + name
+								+ "&f, veja o console para o motivo.");
+					}
+					convertNext(sender, names, success ? converted + 1 : converted);
+				});
+	}
+	
+	/**
+	 * Internal {@link Method} to measure how much a {@link GameMap} reads from the disk and how
+	 * long its {@link World} takes to be created from its {@link MapTemplate} and by cloning its
+	 * source, the created {@link World}s are given to the {@link WorldReclaimer} right away, it
+	 * runs in the main thread and stalls the server while the {@link World}s are created
+	 * 
+	 * @param sender The {@link CommandSender} that receives the results
+	 * @param name The name of the {@link GameMap} to measure
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void measure(@NotNull CommandSender sender, @NotNull String name) {
+		MapManager mapManager = Arcade.getInstance().getMapManager();
+		GameMap gameMap = mapManager.get(name);
+		File templateFile = MapManager.getTemplateFile(name);
+		
+		if (gameMap == null || !templateFile.isFile()) {
+			send(sender, "O mapa &c" + name + " &fnão existe ou não foi convertido.");
+			return;
+		}
+		long start = System.nanoTime();
+		MapTemplate template = MapTemplate.read(templateFile);
+		long templateRead = millis(start);
+		
+		if (template == null) {
+			send(sender, "O modelo do mapa &c" + name + " &festá corrompido.");
+			return;
+		}
+		File[] regions = new File(gameMap.getWorldSource(), "region").listFiles();
+		long regionBytes = 0;
+		
+		start = System.nanoTime();
+		
+		if (regions != null) {
+			byte[] buffer = new byte[1 << 16];
+			
+			for (File region : regions) {
+				try (InputStream in = Files.newInputStream(region.toPath())) {
+					for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+						regionBytes += read;
+					}
+				}
+				catch (IOException exception) {
+					// The unreadable region files are not counted
+				}
+			}
+		}
+		long regionRead = millis(start);
+		
+		send(sender, "Leitura: modelo &c" + templateFile.length() / 1024 + " &fKiB em &c"
+				+ templateRead + " &fms, regiões &c" + regionBytes / 1024 + " &fKiB em &c"
+				+ regionRead + " &fms.");
+		
+		WorldReclaimer reclaimer = mapManager.getWorldReclaimer();
+		
+		start = System.nanoTime();
+		World generated = template.createWorld(WorldReclaimer.newWorldName("", "medir_" + name));
+		long generatedTime = millis(start);
+		
+		start = System.nanoTime();
+		World cloned = WorldCloner.createWorld(gameMap.getWorldSource(),
+				WorldReclaimer.newWorldName("", "medir_" + name));
+		long clonedTime = millis(start);
+		
+		if (generated != null) {
+			reclaimer.reclaim(generated);
+		}
+		if (cloned != null) {
+			reclaimer.reclaim(cloned);
+		}
+		send(sender, "Criação: modelo &c" + (generated == null ? "falhou" : generatedTime + " ms")
+				+ "&f, cópia &c" + (cloned == null ? "falhou" : clonedTime + " ms") + "&f.");
+	}
+	
+	/**
+	 * Internal {@link Method} to get the milliseconds elapsed since a {@link System#nanoTime()}
+	 * 
+	 * @param start The {@link System#nanoTime()} of the start
+	 * 
+	 * @return The elapsed milliseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	private static long millis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+	
+	/**
+	 * Internal {@link Method} to send a colored message of this command
+	 * 
+	 * @param sender The {@link CommandSender} to send the message to
+	 * @param message The message, colored with the {@code &} codes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void send(@NotNull CommandSender sender, @NotNull String message) {
+		sender.sendMessage(ChatColor.translateAlternateColorCodes('&', PREFIX + message));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+/**
+ * {@link java.lang.Package} containing all the commands of the Arcade
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+package net.peng1104.commands;
\ No newline at end of file
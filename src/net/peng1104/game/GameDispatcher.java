@@ -0,0 +1,502 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.util.Vector;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.games.Game;
+import net.peng1104.game.maps.ArenaSlot;
+import net.peng1104.game.maps.GameWorld;
+import net.peng1104.game.maps.PlayerSpatialHash;
+import net.peng1104.game.maps.PlayerSpatialHash.Hit;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link Class} to forward the Bukkit events to the {@link Game} of the {@link Room} that is
+ * playing in the {@link World} where they happened, the {@link GameWorld}s are kept by their
+ * {@link World}s and the {@link Room}s by their {@link GameWorld}s in identity maps, so the events
+ * of the other {@link World}s are dropped with a single lookup
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class GameDispatcher implements Listener {
+	
+	/**
+	 * The {@link GameWorld}s being played by their {@link World}s, a shared {@link World} has one
+	 * {@link GameWorld} for each {@link ArenaSlot} being played
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<World, GameWorld[]> worlds = new IdentityHashMap<>();
+	
+	/**
+	 * The {@link Room}s by the {@link GameWorld}s they are playing in
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<GameWorld, Room> rooms = new IdentityHashMap<>();
+	
+	/**
+	 * Create a new {@link GameDispatcher} and register it as a {@link Listener}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public GameDispatcher() {
+		Bukkit.getPluginManager().registerEvents(this, Arcade.getInstance());
+	}
+	
+	/**
+	 * {@link Method} to start forwarding the events of a {@link GameWorld} to a {@link Room}
+	 * 
+	 * @param gameWorld The {@link GameWorld} the {@link Room} is playing in
+	 * @param room The {@link Room} that receives the events
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void bind(@NotNull GameWorld gameWorld, @NotNull Room room) {
+		if (gameWorld == null || room == null || rooms.put(gameWorld, room) != null) return;
+		
+		GameWorld[] bound = worlds.get(gameWorld.getWorld());
+		
+		if (bound == null) {
+			bound = new GameWorld[] { gameWorld };
+		}
+		else {
+			bound = Arrays.copyOf(bound, bound.length + 1);
+			bound[bound.length - 1] = gameWorld;
+		}
+		worlds.put(gameWorld.getWorld(), bound);
+		
+		PlayerSpatialHash playerHash = gameWorld.getPlayerHash();
+		
+		if (playerHash == null) return;
+		
+		for (Player player : gameWorld.getWorld().getPlayers()) {
+			Location location = player.getLocation();
+			
+			if (getGameWorld(location.getWorld(), location.getBlockX(),
+					location.getBlockZ()) == gameWorld && isTarget(player, gameWorld)) {
+				
+				playerHash.update(player, location);
+			}
+		}
+	}
+	
+	/**
+	 * {@link Method} to stop forwarding the events of a {@link GameWorld}
+	 * 
+	 * @param gameWorld The {@link GameWorld} to unbind
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void unbind(@NotNull GameWorld gameWorld) {
+		if (gameWorld == null || rooms.remove(gameWorld) == null) return;
+		
+		PlayerSpatialHash playerHash = gameWorld.getPlayerHash();
+		
+		if (playerHash != null) {
+			playerHash.clear();
+		}
+		World world = gameWorld.getWorld();
+		GameWorld[] bound = worlds.get(world);
+		
+		if (bound == null) return;
+		
+		if (bound.length == 1) {
+			worlds.remove(world);
+			return;
+		}
+		GameWorld[] result = new GameWorld[bound.length - 1];
+		int index = 0;
+		
+		for (GameWorld value : bound) {
+			if (value != gameWorld && index < result.length) {
+				result[index++] = value;
+			}
+		}
+		worlds.put(world, result);
+	}
+	
+	/**
+	 * {@link Method} to find the first {@link Player} or solid {@link Block} hit by a shot fired in
+	 * a {@link GameWorld}, only the {@link Player}s still alive in its {@link Game} can be hit,
+	 * this {@link Method} must be called in the main thread
+	 * 
+	 * @param gameWorld The {@link GameWorld} where the shot has been fired
+	 * @param origin The position where the shot starts
+	 * @param direction The direction of the shot
+	 * @param maxDistance The range of the shot in blocks
+	 * @param shooter The {@link Player} that fired, it is never hit, or null
+	 * 
+	 * @return The {@link Hit}, or null if the shot did not hit anything within its range or the
+	 * given {@link GameWorld} has no {@link PlayerSpatialHash}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see PlayerSpatialHash#raycast(Vector, Vector, double, Player, java.util.function.Predicate)
+	 */
+	
+	@Nullable
+	public Hit raycast(@NotNull GameWorld gameWorld, @NotNull Vector origin,
+			@NotNull Vector direction, double maxDistance, @Nullable Player shooter) {
+		
+		PlayerSpatialHash playerHash = gameWorld == null ? null : gameWorld.getPlayerHash();
+		
+		if (playerHash == null) return null;
+		
+		return playerHash.raycast(origin, direction, maxDistance, shooter,
+				player -> isTarget(player, gameWorld));
+	}
+	
+	/**
+	 * Get the {@link Room} that is playing at a position
+	 * 
+	 * @param world The {@link World} of the position
+	 * @param x The block x coordinate of the position
+	 * @param z The block z coordinate of the position
+	 * 
+	 * @return The {@link Room} playing at the given position, or null if there is none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Room getRoom(@NotNull World world, int x, int z) {
+		GameWorld gameWorld = getGameWorld(world, x, z);
+		return gameWorld == null ? null : rooms.get(gameWorld);
+	}
+	
+	/**
+	 * Get the {@link GameWorld} being played at a position, a {@link GameWorld} that owns its
+	 * whole {@link World} is found with a single lookup, the ones of a shared {@link World} are
+	 * found by their {@link ArenaBounds}
+	 * 
+	 * @param world The {@link World} of the position
+	 * @param x The block x coordinate of the position
+	 * @param z The block z coordinate of the position
+	 * 
+	 * @return The {@link GameWorld} being played at the given position, or null if there is none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public GameWorld getGameWorld(@NotNull World world, int x, int z) {
+		GameWorld[] bound = world == null ? null : worlds.get(world);
+		
+		if (bound == null) return null;
+		
+		if (bound.length == 1 && bound[0].getArenaSlot() == null) return bound[0];
+		
+		for (GameWorld gameWorld : bound) {
+			ArenaBounds bounds = gameWorld.getBounds();
+			
+			if (bounds == null || x >= bounds.getMinX() && x <= bounds.getMaxX()
+					&& z >= bounds.getMinZ() && z <= bounds.getMaxZ()) {
+				
+				return gameWorld;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Get the amount of {@link GameWorld}s whose events are being forwarded
+	 * 
+	 * @return The amount of bound {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getBoundAmount() {
+		return rooms.size();
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link GameDispatcher} and forget all the bound
+	 * {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		HandlerList.unregisterAll(this);
+		worlds.clear();
+		rooms.clear();
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to forward the damage of an
+	 * {@link org.bukkit.entity.Entity}
+	 * 
+	 * @param event The {@link EntityDamageEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(ignoreCancelled = true)
+	public void onEntityDamage(EntityDamageEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		Game game = getGame(event.getEntity().getLocation());
+		
+		if (game != null) {
+			game.onDamage(event);
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to forward the move of a
+	 * {@link org.bukkit.entity.Player}
+	 * 
+	 * @param event The {@link PlayerMoveEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(ignoreCancelled = true)
+	public void onPlayerMove(PlayerMoveEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		Game game = getGame(event.getFrom());
+		
+		if (game != null) {
+			game.onMove(event);
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to keep the {@link PlayerSpatialHash}s updated
+	 * with the final position of a moved {@link Player}
+	 * 
+	 * @param event The {@link PlayerMoveEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPlayerTrack(PlayerMoveEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		track(event.getPlayer(), event.getFrom(), event.getTo());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to keep the {@link PlayerSpatialHash}s updated
+	 * with the destination of a teleported {@link Player}
+	 * 
+	 * @param event The {@link PlayerTeleportEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPlayerTeleport(PlayerTeleportEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		track(event.getPlayer(), event.getFrom(), event.getTo());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to stop tracking a {@link Player} that has left
+	 * 
+	 * @param event The {@link PlayerQuitEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPlayerQuit(PlayerQuitEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		Player player = event.getPlayer();
+		track(player, player.getLocation(), null);
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to forward a placed {@link Block}
+	 * 
+	 * @param event The {@link BlockPlaceEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(ignoreCancelled = true)
+	public void onBlockPlace(BlockPlaceEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		Game game = getGame(event.getBlock());
+		
+		if (game != null) {
+			game.onBlockPlace(event);
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to forward a broken {@link Block}
+	 * 
+	 * @param event The {@link BlockBreakEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(ignoreCancelled = true)
+	public void onBlockBreak(BlockBreakEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		Game game = getGame(event.getBlock());
+		
+		if (game != null) {
+			game.onBlockBreak(event);
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to forward the hit of a
+	 * {@link org.bukkit.entity.Projectile}
+	 * 
+	 * @param event The {@link ProjectileHitEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler
+	public void onProjectileHit(ProjectileHitEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		Game game = getGame(event.getEntity().getLocation());
+		
+		if (game != null) {
+			game.onProjectileHit(event);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to get the {@link Game} being played at a {@link Location}
+	 * 
+	 * @param location The {@link Location} of the event
+	 * 
+	 * @return The {@link Game} being played at the given {@link Location}, or null if there is
+	 * none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private Game getGame(@NotNull Location location) {
+		Room room = getRoom(location.getWorld(), location.getBlockX(), location.getBlockZ());
+		return room == null ? null : room.getGame();
+	}
+	
+	/**
+	 * Internal {@link Method} to get the {@link Game} being played at a {@link Block}
+	 * 
+	 * @param block The {@link Block} of the event
+	 * 
+	 * @return The {@link Game} being played at the given {@link Block}, or null if there is none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private Game getGame(@NotNull Block block) {
+		Room room = getRoom(block.getWorld(), block.getX(), block.getZ());
+		return room == null ? null : room.getGame();
+	}
+	
+	/**
+	 * Internal {@link Method} to move a {@link Player} between the {@link PlayerSpatialHash}s of
+	 * the {@link GameWorld}s, the {@link GameWorld} of the old {@link Location} only forgets the
+	 * {@link Player} when it is not the {@link GameWorld} of the new one, a {@link Player} that
+	 * cannot be hit there is not tracked at all
+	 * 
+	 * @param player The moved {@link Player}
+	 * @param from The old {@link Location} of the {@link Player}
+	 * @param to The new {@link Location} of the {@link Player}, or null if it has left
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void track(@NotNull Player player, @NotNull Location from, @Nullable Location to) {
+		GameWorld previous = getGameWorld(from.getWorld(), from.getBlockX(), from.getBlockZ());
+		GameWorld next = to == null ? null
+				: getGameWorld(to.getWorld(), to.getBlockX(), to.getBlockZ());
+		
+		if (next != null && !isTarget(player, next)) {
+			PlayerSpatialHash playerHash = next.getPlayerHash();
+			
+			if (playerHash != null) {
+				playerHash.remove(player);
+			}
+			next = null;
+		}
+		if (previous != null && previous != next) {
+			PlayerSpatialHash playerHash = previous.getPlayerHash();
+			
+			if (playerHash != null) {
+				playerHash.remove(player);
+			}
+		}
+		if (next != null) {
+			PlayerSpatialHash playerHash = next.getPlayerHash();
+			
+			if (playerHash != null) {
+				playerHash.update(player, to);
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to check if a {@link Player} can be hit by the shots fired in a
+	 * {@link GameWorld}, it must be alive, not in {@link org.bukkit.GameMode#SPECTATOR} and still
+	 * playing the {@link Game} of the {@link Room} of the {@link GameWorld}
+	 * 
+	 * @param player The {@link Player} to check
+	 * @param gameWorld The {@link GameWorld} of the {@link Player}
+	 * 
+	 * @return True if the given {@link Player} can be hit
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private boolean isTarget(@NotNull Player player, @NotNull GameWorld gameWorld) {
+		Room room = rooms.get(gameWorld);
+		Game game = room == null ? null : room.getGame();
+		
+		return game != null && PlayerSpatialHash.canBeHit(player, null)
+				&& game.isAlive(player.getUniqueId());
+	}
+}
\ No newline at end of file
@@ -1,19 +1,304 @@
 package net.peng1104.game;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.games.Game;
+import net.peng1104.game.maps.GameWorld;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+
+/**
+ * {@link Class} to keep the {@link Game}s being played by the {@link Room}s and tick them, a
+ * single {@link BukkitTask} runs all the {@link Game}s in a fixed-timestep loop, so a slow server
+ * tick is caught up with extra steps and each {@link Game} only gets its own budget per step
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
 
 public class GameManager {
 	
-	private final Map<Integer, LobbyGame> games = new HashMap<>();
+	/**
+	 * The duration of each fixed step in nanoseconds, the same as a server tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final long STEP = TimeUnit.MILLISECONDS.toNanos(50);
+	
+	/**
+	 * The most steps run in a single server tick to catch up, the time behind that is dropped
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAX_STEPS = 4;
+	
+	/**
+	 * The {@link Game}s being played by the ids of their {@link Room}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Integer, Game> games = new HashMap<>();
+	
+	/**
+	 * See {@link #getDispatcher()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameDispatcher dispatcher = new GameDispatcher();
+	
+	/**
+	 * The {@link BukkitTask} that ticks the {@link Game}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * The {@link Game}s being played, rebuilt only after a {@link Game} starts or stops so they
+	 * can stop while they are ticked
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Game[] running = new Game[0];
 	
+	/**
+	 * If the {@link #running} {@link Game}s must be rebuilt
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean changed = false;
+	
+	/**
+	 * The {@link System#nanoTime()} of the last server tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long lastTime = System.nanoTime();
+	
+	/**
+	 * The time not stepped yet in nanoseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long accumulated = STEP;
+	
+	/**
+	 * See {@link #getSteps()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long steps = 0;
+	
+	/**
+	 * See {@link #getDroppedSteps()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long droppedSteps = 0;
+	
+	/**
+	 * Create a new {@link GameManager} and start its {@link BukkitTask}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public GameManager() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, 1, 1);
+	}
 	
+	/**
+	 * {@link Method} to start the {@link Game} of a {@link Room} in its {@link GameWorld}, the
+	 * events of the {@link GameWorld} are forwarded to it until it is stopped
+	 * 
+	 * @param room The {@link Room} that will play the {@link Game}
+	 * 
+	 * @return The started {@link Game}, or null if the {@link Room} has no {@link GameWorld} or its
+	 * {@link Game} has not been implemented yet
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #stop(Room)
+	 */
+	
+	@Nullable
+	public Game start(@NotNull Room room) {
+		GameWorld gameWorld = room == null ? null : room.getGameWorld();
+		
+		if (gameWorld == null) return null;
+		
+		Game game = Game.create(room);
+		
+		if (game != null) {
+			games.put(room.getId(), game);
+			dispatcher.bind(gameWorld, room);
+			changed = true;
+		}
+		return game;
+	}
+	
+	/**
+	 * {@link Method} to stop the {@link Game} of a {@link Room} and the forwarding of the events
+	 * of its {@link GameWorld}
+	 * 
+	 * @param room The {@link Room} that is playing the {@link Game}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void stop(@NotNull Room room) {
+		if (room == null) return;
+		
+		Game game = games.remove(room.getId());
+		
+		if (game != null) {
+			game.getEventBus().clear();
+			changed = true;
+		}
+		if (room.getGameWorld() != null) {
+			dispatcher.unbind(room.getGameWorld());
+		}
+	}
+	
+	/**
+	 * Get the {@link Game}s being played
+	 * 
+	 * @return An unmodifiable {@link Collection} containing the {@link Game}s being played
+	 * 
+	 * @since 1.0.0
+	 */
 	
 	@Default(value = Collection.class)
-	public Collection<LobbyGame> getGames() {
-		return games.values();
+	public Collection<Game> getGames() {
+		return Collections.unmodifiableCollection(games.values());
+	}
+	
+	/**
+	 * Get the {@link GameDispatcher} that forwards the Bukkit events to the {@link Game}s
+	 * 
+	 * @return The {@link GameDispatcher} of this {@link GameManager}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = GameDispatcher.class)
+	public GameDispatcher getDispatcher() {
+		return dispatcher;
+	}
+	
+	/**
+	 * Get the amount of fixed steps run since this {@link GameManager} was created
+	 * 
+	 * @return The amount of steps
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getSteps() {
+		return steps;
+	}
+	
+	/**
+	 * Get the amount of fixed steps skipped because the server was too far behind
+	 * 
+	 * @return The amount of dropped steps
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getDroppedSteps() {
+		return droppedSteps;
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link GameManager}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		games.clear();
+		running = new Game[0];
+		dispatcher.shutdown();
+	}
+	
+	/**
+	 * Internal {@link Method} to run the fixed steps that fit in the time since the last server
+	 * tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void tick() {
+		long now = System.nanoTime();
+		
+		accumulated += now - lastTime;
+		lastTime = now;
+		
+		for (int i = 0; i < MAX_STEPS && accumulated >= STEP; i++) {
+			accumulated -= STEP;
+			step();
+		}
+		if (accumulated >= STEP) {
+			droppedSteps += accumulated / STEP;
+			accumulated %= STEP;
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to run a fixed step of all the {@link Game}s, the ones stopped by an
+	 * earlier {@link Game} of the same step are skipped and a {@link Game} that fails is logged
+	 * and does not stop the others
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void step() {
+		if (changed) {
+			running = games.values().toArray(new Game[games.size()]);
+			changed = false;
+		}
+		long budget = TimeUnit.MICROSECONDS.toNanos(Math.max(1,
+				Storage.getLong(ArcadeConfig.GAME_MICROS_PER_TICK)));
+		
+		steps++;
+		
+		for (Game game : running) {
+			if (game.getRoom().getGame() != game) continue;
+			
+			try {
+				game.tick(steps, budget);
+			}
+			catch (RuntimeException exception) {
+				Arcade.getInstance().getLogger().warning("Could not tick the game of the room "
+						+ game.getRoom().getId() + ": " + exception);
+			}
+		}
 	}
 }
\ No newline at end of file
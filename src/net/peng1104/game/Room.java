@@ -3,24 +3,27 @@ package net.peng1104.game;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
 import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
 import net.peng1104.game.games.Game;
 import net.peng1104.game.maps.GameMap;
+import net.peng1104.game.maps.GameWorld;
+import net.peng1104.game.maps.GameWorldPool;
+import net.peng1104.game.maps.MapManager;
+import net.peng1104.game.maps.WorldCreationQueue;
 import net.peng1104.gui.Gui;
 import net.peng1104.profiles.Profile;
-import net.peng1104.special.TimedThread;
 import net.peng1104.storage.Storage;
 import net.peng1104.storage.enums.main.ArcadeConfig;
 import net.peng1104.storage.game.enums.GameType;
@@ -37,21 +40,21 @@ import net.peng1104.storage.game.enums.RoomState;
 public class Room {
 	
 	/**
-	 * The {@link Random} instance unsed to make {@link Random} operations in the {@link Room}
-	 * {@link Class}
+	 * The {@link Pattern} to check if a password {@link String} contains only digits
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	private static final Random RANDOM = new Random();
+	private static final Pattern PATTERN = Pattern.compile("\\D");
 	
 	/**
-	 * The {@link Pattern} to check if a password {@link String} contains only digits
+	 * The amount of seconds before the end of the voting when the arena of the
+	 * {@link #getWinnerMap()} starts to be prepared
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	private static final Pattern PATTERN = Pattern.compile("\\D");
+	private static final long ARENA_PREPARE_TIME = 10;
 	
 	/**
 	 * {@link Method} to check if a {@link String} is a valid password
@@ -82,7 +85,7 @@ public class Room {
 	 * @since 1.0.0
 	 */
 	
-	private final Set<UUID> playersSet = new HashSet<>();
+	private final UUIDSet playersSet = new UUIDSet();
 	
 	/**
 	 * The {@link Set} containing all the moderators {@link Profile}s of this {@link Room}
@@ -90,7 +93,7 @@ public class Room {
 	 * @since 1.0.0
 	 */
 	
-	private final Set<UUID> moderatorsSet = new HashSet<>();
+	private final UUIDSet moderatorsSet = new UUIDSet();
 	
 	/**
 	 * The {@link Set} containing all the banned {@link Profile}s by their {@link UUID} of this
@@ -99,16 +102,24 @@ public class Room {
 	 * @since 1.0.0
 	 */
 	
-	private final Set<UUID> banSet = new HashSet<>();
+	private final UUIDSet banSet = new UUIDSet();
+	
+	/**
+	 * The {@link VoteTally} of this {@link Room}, it contains all the {@link GameMap} options for
+	 * the next {@link Game}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final VoteTally voteTally = new VoteTally();
 	
 	/**
-	 * The vote {@link Map} of this {@link Room}, this map contains all the {@link GameMap} options
-	 * for the next {@link Game}
+	 * The buffer reused by {@link #updateVoteMap()} to pick the {@link GameMap} options
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	private final Map<String, Set<UUID>> voteMap = new HashMap<>();
+	private String[] sampleBuffer = new String[0];
 	
 	/**
 	 * The id of this {@link Room}
@@ -167,20 +178,62 @@ public class Room {
 	private RoomState state;
 	
 	/**
-	 * The {@link Room} {@link TimedThread}
+	 * The {@link Room} {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private WheelTimer roomThread;
+	
+	/**
+	 * The private {@link Room} delete {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private WheelTimer deleteThread;
+	
+	/**
+	 * The {@link GameMap} of the {@link #gameWorld}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private GameMap gameMap;
+	
+	/**
+	 * See {@link #getGameWorld()}
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	private TimedThread roomThread;
+	private GameWorld gameWorld;
 	
 	/**
-	 * The private {@link Room} delete {@link TimedThread}
+	 * The {@link CompletableFuture} of the {@link #gameWorld} while it is being created by the
+	 * {@link WorldCreationQueue}
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	private TimedThread deleteThread;
+	private CompletableFuture<GameWorld> pendingGameWorld;
+	
+	/**
+	 * If the creation of the {@link #gameWorld} has failed, so it is not requested again until
+	 * this {@link Room} goes back to the voting
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean gameWorldFailed = false;
+	
+	/**
+	 * See {@link #getGame()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Game game;
 	
 	/**
 	 * Create a new public {@link Room}
@@ -291,10 +344,103 @@ public class Room {
 		return playersSet.contains(uuid);
 	}
 	
+	/**
+	 * {@link Method} to make a {@link Profile} join this {@link Room}, a {@link Profile} can only
+	 * be in one {@link Room} at the same time
+	 * 
+	 * @param profile The {@link Profile} that wants to join this {@link Room}
+	 * 
+	 * @return True if the given {@link Profile} has joined this {@link Room}, false if it is
+	 * banned, this {@link Room} is full or it is already in a {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean join(@NotNull Profile profile) {
+		if (profile == null || profile.getUUID() == null || isBanned(profile)
+				|| playersSet.size() >= slots) {
+			return false;
+		}
+		UUID uuid = profile.getUUID();
+		
+		if (!Arcade.getInstance().getRoomManager().link(uuid, this)) {
+			return false;
+		}
+		playersSet.add(uuid);
+		updateIndex();
+		return true;
+	}
+	
+	/**
+	 * {@link Method} to make a {@link Profile} quit this {@link Room}
+	 * 
+	 * @param profile The {@link Profile} that wants to quit this {@link Room}
+	 * 
+	 * @return True if the given {@link Profile} was in this {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean quit(@NotNull Profile profile) {
+		return profile != null && quit(profile.getUUID());
+	}
+	
+	/**
+	 * {@link Method} to make a {@link Profile} quit this {@link Room} by its {@link UUID}
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile} that wants to quit this {@link Room}
+	 * 
+	 * @return True if the given {@link Profile} was in this {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean quit(@NotNull UUID uuid) {
+		if (uuid != null && playersSet.remove(uuid)) {
+			voteTally.retract(uuid);
+			Arcade.getInstance().getRoomManager().unlink(uuid, this);
+			updateIndex();
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Get the amount of {@link Profile}s in this {@link Room}
+	 * 
+	 * @return The amount of {@link Profile}s in this {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getPlayersAmount() {
+		return playersSet.size();
+	}
+	
+	/**
+	 * Get the amount of {@link Profile}s that can join this {@link Room}
+	 * 
+	 * @return The amount of slots of this {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 12)
+	public int getSlots() {
+		return slots;
+	}
+	
 	public void setGameType(GameType gameType) {
 		// TODO fazer mudança de gameType
 		
+		if (!Game.isImplemented(gameType)) return;
+		
 		this.gameType = gameType;
+		updateIndex();
 	}
 	
 	/**
@@ -357,7 +503,9 @@ public class Room {
 				
 				// TODO Voltar a faze pre start
 				
-				if (playersSet.size() > getMinPlayersAmount()) {
+				releaseGameWorld(true);
+				
+				if (playersSet.size() > getMinPlayersAmount() && Game.isImplemented(gameType)) {
 					state = RoomState.VOTING;
 				}
 				else {
@@ -369,7 +517,10 @@ public class Room {
 					roomThread.cancel();
 					roomThread = null;
 				}
-				deleteThread = new TimedThread(
+				if (deleteThread != null) {
+					deleteThread.cancel();
+				}
+				deleteThread = new WheelTimer(
 						Storage.getLong(ArcadeConfig.PRIVATE_ROOM_DELETE_TIME)) {
 					
 					@Override
@@ -378,9 +529,17 @@ public class Room {
 								.getDeleteMessages().get(getCount()));
 					}
 					
+					@Override
+					protected long nextLoop(long count) {
+						Long next = Arcade.getInstance().getConfiguration().getDeleteMessages()
+								.lowerKey(count);
+						
+						return next == null ? 0 : next;
+					}
+					
 					@Override
 					public void execute() {
-						// TODO Apagar a sala
+						Arcade.getInstance().getRoomManager().deleteRoom(id);
 					}
 				};
 				deleteThread.start();
@@ -390,21 +549,220 @@ public class Room {
 					deleteThread.cancel();
 					deleteThread = null;
 				}
-				roomThread = new TimedThread(time) {
-					
-					@Override
-					public void onLoop() {
-						// TODO fazer loop (avisos de startGame)
-					}
-					
-					@Override
-					public void execute() {
-						// startGame();
-					}
-				};
-				roomThread.start();
+				if (roomThread != null) {
+					roomThread.cancel();
+				}
+				releaseGameWorld(false);
+				startRoomTimer(time);
+			}
+			updateIndex();
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to start the voting {@link WheelTimer} of this {@link Room}, the
+	 * arena of the {@link #getWinnerMap()} is prepared in the last {@link #ARENA_PREPARE_TIME}
+	 * seconds and the {@link WheelTimer} is extended while its {@link GameWorld} is being created
+	 * or its arena is not ready
+	 * 
+	 * @param time The time of the {@link WheelTimer} in seconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void startRoomTimer(long time) {
+		roomThread = new WheelTimer(time) {
+			
+			@Override
+			public void onLoop() {
+				// TODO fazer loop (avisos de startGame)
+				
+				if (getCount() <= ARENA_PREPARE_TIME) {
+					prepareGameWorld(getCount());
+				}
+			}
+			
+			@Override
+			public void execute() {
+				prepareGameWorld(0);
+				
+				if (gameWorld != null && gameWorld.isArenaFailed()) {
+					releaseGameWorld(true);
+				}
+				if (pendingGameWorld != null || gameWorld != null && !gameWorld.isArenaReady()) {
+					startRoomTimer(1);
+					return;
+				}
+				startGame();
+			}
+		};
+		roomThread.start();
+	}
+	
+	/**
+	 * Internal {@link Method} to acquire the {@link GameWorld} of the {@link #getWinnerMap()} and
+	 * start preparing its arena once it has been created, nothing happens if it has already been
+	 * acquired or requested
+	 * 
+	 * @param delay The amount of seconds until this {@link Room} starts, the
+	 * {@link WorldCreationQueue} creates the {@link GameWorld}s of the first {@link Room}s first
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void prepareGameWorld(long delay) {
+		if (gameWorld != null || pendingGameWorld != null || gameWorldFailed) return;
+		
+		MapManager mapManager = Arcade.getInstance().getMapManager();
+		String winner = getWinnerMap();
+		
+		gameMap = winner == null ? null : mapManager.get(winner);
+		
+		if (gameMap != null) {
+			CompletableFuture<GameWorld> future = mapManager.getWorldPool().acquireAsync(gameMap,
+					gameType, id, System.currentTimeMillis() + delay * 1000);
+			
+			pendingGameWorld = future;
+			
+			future.whenComplete((created, exception) -> {
+				if (pendingGameWorld != future) return;
+				
+				pendingGameWorld = null;
+				
+				if (created == null || exception != null) {
+					gameWorldFailed = true;
+					return;
+				}
+				gameWorld = created;
+				created.prepareArena();
+			});
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to give the {@link #getGameWorld()} back to the
+	 * {@link GameWorldPool}, its arena is released first, a {@link GameWorld} still being created
+	 * is cancelled and goes to the {@link GameWorldPool} when it is ready
+	 * 
+	 * @param used True if the {@link #getGameWorld()} has been played and must be deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void releaseGameWorld(boolean used) {
+		gameWorldFailed = false;
+		
+		if (pendingGameWorld != null) {
+			CompletableFuture<GameWorld> future = pendingGameWorld;
+			
+			pendingGameWorld = null;
+			future.cancel(false);
+		}
+		if (game != null) {
+			Arcade.getInstance().getGameManager().stop(this);
+			game = null;
+		}
+		if (gameWorld != null) {
+			gameWorld.releaseArena();
+			Arcade.getInstance().getMapManager().getWorldPool().release(gameMap, gameWorld, used);
+			
+			gameWorld = null;
+			gameMap = null;
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to start the {@link Game} of this {@link Room} in the
+	 * {@link #getGameWorld()}, the {@link Room} is reset if there is no {@link GameWorld} or its
+	 * {@link GameType} has no {@link Game}, before any {@link Profile} is teleported, so it votes
+	 * again or waits with its {@link Profile}s told that the {@link GameType} cannot be played
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void startGame() {
+		roomThread = null;
+		
+		if (gameWorld == null) {
+			resetRoom();
+			return;
+		}
+		game = Arcade.getInstance().getGameManager().start(this);
+		
+		if (game == null) {
+			Arcade.getInstance().getLogger().warning("The room " + id + " cannot start a "
+					+ gameType + " match, its game has not been implemented yet");
+			
+			resetRoom();
+			return;
+		}
+		state = RoomState.STARTING;
+		
+		List<Profile> profiles = new ArrayList<>(playersSet.size());
+		
+		for (UUID uuid : playersSet) {
+			Profile profile = Arcade.getProfileManager().getProfile(uuid);
+			
+			if (profile != null) {
+				profiles.add(profile);
 			}
 		}
+		gameWorld.randomTeleportNotRepeated(profiles);
+		updateIndex();
+	}
+	
+	/**
+	 * Internal {@link Method} to check if the {@link Profile}s of this {@link Room} have already
+	 * been sent to the {@link #getGameWorld()}
+	 * 
+	 * @return True if the {@link #getGameWorld()} cannot be reused
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private boolean isGameWorldUsed() {
+		return state == RoomState.STARTING || state == RoomState.PLAYING
+				|| state == RoomState.ENDING;
+	}
+	
+	/**
+	 * Get the {@link GameWorld} that this {@link Room} is preparing or playing in
+	 * 
+	 * @return The {@link GameWorld} of this {@link Room}, or null if it has not been acquired yet
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public GameWorld getGameWorld() {
+		return gameWorld;
+	}
+	
+	/**
+	 * Get the {@link Game} that this {@link Room} is playing
+	 * 
+	 * @return The {@link Game} of this {@link Room}, or null if it is not playing
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Game getGame() {
+		return game;
+	}
+	
+	/**
+	 * Get the {@link RoomState} of this {@link Room}
+	 * 
+	 * @return The {@link RoomState} of this {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = RoomState.class)
+	public RoomState getState() {
+		return state;
 	}
 	
 	@Default(Long = -1)
@@ -453,24 +811,100 @@ public class Room {
 	}
 	
 	/**
-	 * {@link Method} to reset this {@link Room}
+	 * {@link Method} to delete this {@link Room}, all the {@link Profile}s are removed and the
+	 * {@link Room} timers are cancelled
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see RoomManager#deleteRoom(int)
+	 */
+	
+	void delete() {
+		releaseGameWorld(isGameWorldUsed());
+		state = RoomState.STOPED;
+		
+		if (roomThread != null) {
+			roomThread.cancel();
+			roomThread = null;
+		}
+		if (deleteThread != null) {
+			deleteThread.cancel();
+			deleteThread = null;
+		}
+		for (UUID uuid : playersSet) {
+			Arcade.getInstance().getRoomManager().unlink(uuid, this);
+		}
+		playersSet.clear();
+	}
+	
+	/**
+	 * {@link Method} to reset this {@link Room}, the votes of the last round are cleared and a
+	 * {@link Room} that goes back to the voting gets new {@link GameMap} options
 	 * 
 	 * @since 1.0.0
 	 */
 	
 	public void resetRoom() {
+		releaseGameWorld(isGameWorldUsed());
+		
 		if (event) {
 			gameType = GameType.MURDER;
 			event = false;
 		}
-		if (playersSet.size() >= getMinPlayersAmount()) {
+		if (!Game.isImplemented(gameType)) {
+			state = RoomState.WAITING;
+			sendMessage(Arcade.getInstance().getConfiguration().getNotImplementedMessage());
+		}
+		else if (playersSet.size() >= getMinPlayersAmount()) {
 			state = RoomState.VOTING;
 		}
 		else {
 			state = RoomState.WAITING;
 		}
+		voteTally.clear();
 		checkPreMap();
+		
+		if (state == RoomState.VOTING) {
+			updateVoteMap();
+		}
 		setRoomTimer(Storage.getLong(ArcadeConfig.GAME_WAIT_TIME));
+		updateIndex();
+	}
+	
+	/**
+	 * Internal {@link Method} to send a message to the online {@link Profile}s of this
+	 * {@link Room}
+	 * 
+	 * @param message The message to send, nothing is sent if it is null or empty
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void sendMessage(@Nullable String message) {
+		if (message == null || message.isEmpty()) return;
+		
+		for (UUID uuid : playersSet) {
+			Player player = Bukkit.getPlayer(uuid);
+			
+			if (player != null) {
+				player.sendMessage(message);
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to update this {@link Room} in the {@link RoomManager} indices
+	 * after a change in its {@link GameType}, {@link RoomState} or {@link Profile}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void updateIndex() {
+		RoomManager roomManager = Arcade.getInstance().getRoomManager();
+		
+		if (roomManager != null) {
+			roomManager.reindex(this);
+		}
 	}
 	
 	/**
@@ -493,21 +927,67 @@ public class Room {
 	}
 	
 	public void updateVoteMap() {
-		List<String> options = Arcade.getInstance().getMapManager().getAvalibleMaps(gameType);
+		if (voteTally.getOptionsAmount() >= this.options) return;
 		
-		while (!options.isEmpty() && voteMap.size() < this.options) {
-			String option = options.get(RANDOM.nextInt(options.size()));
-			
-			if (!voteMap.containsKey(option)) {
-				voteMap.put(option, new HashSet<>());
+		if (sampleBuffer.length < this.options) {
+			sampleBuffer = new String[this.options];
+		}
+		MapManager mapManager = Arcade.getInstance().getMapManager();
+		int amount = mapManager.sample(gameType, this.options, sampleBuffer);
+		
+		for (int i = 0; i < amount && voteTally.getOptionsAmount() < this.options; i++) {
+			if (voteTally.addOption(sampleBuffer[i])) {
+				mapManager.warm(sampleBuffer[i], gameType);
 			}
-			options.remove(option);
 		}
 	}
 	
-	@Default(value = HashMap.class)
-	public Map<String, Set<UUID>> getVoteMap() {
-		return voteMap;
+	/**
+	 * Get the {@link VoteTally} with the {@link GameMap} options of this {@link Room}
+	 * 
+	 * @return The {@link VoteTally} of this {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = VoteTally.class)
+	public VoteTally getVoteTally() {
+		return voteTally;
+	}
+	
+	/**
+	 * {@link Method} to make a {@link Profile} of this {@link Room} vote for a {@link GameMap}
+	 * 
+	 * @param profile The {@link Profile} that is voting
+	 * @param option The name of the {@link GameMap} to vote for
+	 * 
+	 * @return True if the vote of the given {@link Profile} has changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean vote(@NotNull Profile profile, @NotNull String option) {
+		if (state != RoomState.VOTING || !isInRoom(profile)
+				|| !voteTally.vote(profile.getUUID(), option)) {
+			return false;
+		}
+		Arcade.getInstance().getMapManager().warm(option, gameType);
+		return true;
+	}
+	
+	/**
+	 * Get the {@link GameMap} that will be played if the vote ends now
+	 * 
+	 * @return The name of the {@link #getPreMap()} if set, otherwise the most voted
+	 * {@link GameMap}, or null if there are no options
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public String getWinnerMap() {
+		return preMap != null ? preMap : voteTally.getLeader();
 	}
 	
 	public void setPreMap(@Nullable String preMap) {
@@ -536,15 +1016,15 @@ public class Room {
 	 * {@link Method} to get all the banned {@link Profile}s of this {@link Room} by their
 	 * {@link UUID}s
 	 * 
-	 * @return The {@link List} containing all the banned {@link Profile}s of this {@link Room} by
-	 * their {@link UUID}s
+	 * @return An unmodifiable view of the {@link Set} containing all the banned {@link Profile}s
+	 * of this {@link Room} by their {@link UUID}s
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	@Default(value = ArrayList.class)
-	public List<UUID> getBanSet() {
-		return new ArrayList<>(banSet);
+	@Default(value = Set.class)
+	public Set<UUID> getBanSet() {
+		return Collections.unmodifiableSet(banSet);
 	}
 	
 	/**
@@ -560,9 +1040,8 @@ public class Room {
 	@Default(Boolean = false)
 	public boolean ban(@NotNull Profile profile) {
 		if (profile != null) {
-			if (playersSet.contains(profile.getUUID())) {
-				// quit(profile)
-			}
+			quit(profile);
+			
 			return banSet.add(profile.getUUID());
 		}
 		return false;
@@ -696,15 +1175,15 @@ public class Room {
 	 * {@link Method} to get all the moderators {@link Profile}s of this {@link Room} by their
 	 * {@link UUID}s
 	 * 
-	 * @return A {@link List} containing all the moderators {@link Profile}s of this {@link Room} by
-	 * their {@link UUID}s
+	 * @return An unmodifiable view of the {@link Set} containing all the moderators
+	 * {@link Profile}s of this {@link Room} by their {@link UUID}s
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	@Default(value = ArrayList.class)
-	public List<UUID> getModeratorsSet() {
-		return new ArrayList<>(moderatorsSet);
+	@Default(value = Set.class)
+	public Set<UUID> getModeratorsSet() {
+		return Collections.unmodifiableSet(moderatorsSet);
 	}
 	
 	/**
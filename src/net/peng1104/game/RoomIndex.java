@@ -0,0 +1,247 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.enums.RoomState;
+
+/**
+ * {@link Class} to index the {@link Room}s by {@link GameType}, {@link RoomState}, privacy and
+ * free slots, so the {@link Room} browser can find the {@link Room}s it needs without scanning all
+ * of them
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+class RoomIndex {
+	
+	/**
+	 * The {@link GameType} values
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final GameType[] TYPES = GameType.values();
+	
+	/**
+	 * The {@link RoomState} values
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final RoomState[] STATES = RoomState.values();
+	
+	/**
+	 * The {@link Room}s of each {@link GameType}, {@link RoomState} and privacy combination by
+	 * their amount of free slots
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final List<TreeMap<Integer, Set<Room>>> buckets;
+	
+	/**
+	 * The current bucket and amount of free slots of each indexed {@link Room} by its id
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Integer, int[]> positions = new HashMap<>();
+	
+	/**
+	 * Create a new empty {@link RoomIndex}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	RoomIndex() {
+		int size = TYPES.length * STATES.length * 2;
+		
+		buckets = new ArrayList<>(size);
+		
+		for (int i = 0; i < size; i++) {
+			buckets.add(new TreeMap<>());
+		}
+	}
+	
+	/**
+	 * {@link Method} to add or update a {@link Room} in this {@link RoomIndex}
+	 * 
+	 * @param room The {@link Room} to index
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void add(@NotNull Room room) {
+		remove(room);
+		
+		int bucket = getBucket(room.getGameType(), room.getState(), room.isPrivate());
+		int free = Math.max(0, room.getSlots() - room.getPlayersAmount());
+		
+		buckets.get(bucket).computeIfAbsent(free, key -> new LinkedHashSet<>()).add(room);
+		positions.put(room.getId(), new int[] { bucket, free });
+	}
+	
+	/**
+	 * {@link Method} to update an indexed {@link Room}, {@link Room}s that are not in this
+	 * {@link RoomIndex} are ignored
+	 * 
+	 * @param room The {@link Room} that has changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void update(@NotNull Room room) {
+		int[] position = positions.get(room.getId());
+		
+		if (position == null) return;
+		
+		int bucket = getBucket(room.getGameType(), room.getState(), room.isPrivate());
+		int free = Math.max(0, room.getSlots() - room.getPlayersAmount());
+		
+		if (position[0] != bucket || position[1] != free) {
+			add(room);
+		}
+	}
+	
+	/**
+	 * {@link Method} to remove a {@link Room} of this {@link RoomIndex}
+	 * 
+	 * @param room The {@link Room} to remove
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void remove(@NotNull Room room) {
+		int[] position = positions.remove(room.getId());
+		
+		if (position != null) {
+			TreeMap<Integer, Set<Room>> bucket = buckets.get(position[0]);
+			Set<Room> set = bucket.get(position[1]);
+			
+			if (set != null && set.remove(room) && set.isEmpty()) {
+				bucket.remove(position[1]);
+			}
+		}
+	}
+	
+	/**
+	 * {@link Method} to get the {@link Room}s that match a {@link RoomQuery}, sorted by their
+	 * amount of free slots so the fuller {@link Room}s come first
+	 * 
+	 * @param query The {@link RoomQuery} to match
+	 * @param page The page to get, starting at zero
+	 * @param pageSize The amount of {@link Room}s of each page
+	 * 
+	 * @return A {@link List} containing the {@link Room}s of the given page
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArrayList.class)
+	List<Room> query(@NotNull RoomQuery query, int page, int pageSize) {
+		List<Room> result = new ArrayList<>();
+		
+		if (page < 0 || pageSize <= 0) return result;
+		
+		List<TreeMap<Integer, Set<Room>>> matches = new ArrayList<>();
+		
+		for (GameType type : TYPES) {
+			if (query.getGameType() != null && query.getGameType() != type) continue;
+			
+			for (RoomState state : STATES) {
+				if (query.getState() != null && query.getState() != state) continue;
+				
+				for (int privacy = 0; privacy < 2; privacy++) {
+					if (query.getPrivate() != null && query.getPrivate() != (privacy == 1)) continue;
+					
+					TreeMap<Integer, Set<Room>> bucket = buckets.get(getBucket(type, state,
+							privacy == 1));
+					
+					if (!bucket.isEmpty()) {
+						matches.add(bucket);
+					}
+				}
+			}
+		}
+		long skip = (long) page * pageSize;
+		Integer free = query.getMinFreeSlots();
+		
+		while (free != null) {
+			Integer next = null;
+			
+			for (TreeMap<Integer, Set<Room>> bucket : matches) {
+				Set<Room> rooms = bucket.get(free);
+				
+				if (rooms != null) {
+					if (skip >= rooms.size()) {
+						skip -= rooms.size();
+					}
+					else {
+						for (Room room : rooms) {
+							if (skip > 0) {
+								skip--;
+							}
+							else {
+								result.add(room);
+								
+								if (result.size() >= pageSize) return result;
+							}
+						}
+					}
+				}
+				Integer higher = bucket.higherKey(free);
+				
+				if (higher != null && (next == null || higher < next)) {
+					next = higher;
+				}
+			}
+			free = next;
+		}
+		return result;
+	}
+	
+	/**
+	 * Get the amount of indexed {@link Room}s
+	 * 
+	 * @return The amount of {@link Room}s in this {@link RoomIndex}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	int size() {
+		return positions.size();
+	}
+	
+	/**
+	 * Internal {@link Method} to get the bucket index of a {@link GameType}, {@link RoomState}
+	 * and privacy combination
+	 * 
+	 * @param type The {@link GameType}
+	 * @param state The {@link RoomState}
+	 * @param privateRoom If the {@link Room} is private
+	 * 
+	 * @return The index of the bucket
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	private static int getBucket(@NotNull GameType type, @NotNull RoomState state,
+			boolean privateRoom) {
+		
+		return (type.ordinal() * STATES.length + state.ordinal()) * 2 + (privateRoom ? 1 : 0);
+	}
+}
\ No newline at end of file
@@ -1,11 +1,17 @@
 package net.peng1104.game;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
+import net.peng1104.game.games.Game;
 import net.peng1104.profiles.Profile;
 import net.peng1104.storage.game.enums.GameType;
 
@@ -15,6 +21,22 @@ public class RoomManager {
 	
 	private Map<Integer, Room> rooms;
 	
+	/**
+	 * The {@link Room} of each {@link Profile} by its {@link UUID}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<UUID, Room> playerRooms = new ConcurrentHashMap<>();
+	
+	/**
+	 * The {@link RoomIndex} used by {@link #query(RoomQuery, int, int)}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final RoomIndex index = new RoomIndex();
+	
 	public RoomManager() {
 		rooms = new HashMap<>();
 	}
@@ -26,12 +48,13 @@ public class RoomManager {
 	
 	@Nullable
 	public Room createRoom(@NotNull GameType gameType, @NotNull String password) {
-		if (gameType != null && Room.isValidPassword(password)) {
+		if (Game.isImplemented(gameType) && Room.isValidPassword(password)) {
 			int id = idCounter++;
 			
 			Room room = new Room(id, gameType, password);
 			
 			rooms.put(id, room);
+			index.add(room);
 			return room;
 		}
 		return null;
@@ -50,8 +73,152 @@ public class RoomManager {
 			Room room = new Room(id, GameType.MURDER, uuid, password);
 			
 			rooms.put(id, room);
+			index.add(room);
 			return room;
 		}
 		return null;
 	}
+	
+	/**
+	 * Get a {@link Room} by its id
+	 * 
+	 * @param id The id of the {@link Room}
+	 * 
+	 * @return The {@link Room} with the given id, or null if there is no {@link Room} with it
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Room getRoom(int id) {
+		return rooms.get(id);
+	}
+	
+	/**
+	 * Get the {@link Room} that a {@link Profile} is in
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile}
+	 * 
+	 * @return The {@link Room} that the given {@link Profile} is in, or null if it is not in a
+	 * {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Room getRoom(@NotNull UUID uuid) {
+		return uuid == null ? null : playerRooms.get(uuid);
+	}
+	
+	/**
+	 * Get the {@link Room} that a {@link Profile} is in
+	 * 
+	 * @param profile The {@link Profile}
+	 * 
+	 * @return The {@link Room} that the given {@link Profile} is in, or null if it is not in a
+	 * {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Room getRoom(@NotNull Profile profile) {
+		return profile == null ? null : getRoom(profile.getUUID());
+	}
+	
+	/**
+	 * {@link Method} to find the {@link Room}s that match a {@link RoomQuery}, sorted by their
+	 * amount of free slots so the fuller {@link Room}s come first
+	 * 
+	 * @param query The {@link RoomQuery} to match
+	 * @param page The page to get, starting at zero
+	 * @param pageSize The amount of {@link Room}s of each page
+	 * 
+	 * @return A {@link List} containing the {@link Room}s of the given page
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArrayList.class)
+	public List<Room> query(@NotNull RoomQuery query, int page, int pageSize) {
+		return query == null ? new ArrayList<>() : index.query(query, page, pageSize);
+	}
+	
+	/**
+	 * Get the amount of {@link Room}s
+	 * 
+	 * @return The amount of existing {@link Room}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getRoomsAmount() {
+		return rooms.size();
+	}
+	
+	/**
+	 * {@link Method} to delete a {@link Room}, all the {@link Profile}s in it are removed
+	 * 
+	 * @param id The id of the {@link Room} to delete
+	 * 
+	 * @return True if the {@link Room} with the given id has been deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean deleteRoom(int id) {
+		Room room = rooms.remove(id);
+		
+		if (room != null) {
+			room.delete();
+			index.remove(room);
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Internal {@link Method} to link a {@link Profile} to a {@link Room}
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile}
+	 * @param room The {@link Room} that the {@link Profile} is joining
+	 * 
+	 * @return True if the {@link Profile} has been linked, false if it is already in a
+	 * {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	boolean link(@NotNull UUID uuid, @NotNull Room room) {
+		return playerRooms.putIfAbsent(uuid, room) == null;
+	}
+	
+	/**
+	 * Internal {@link Method} to unlink a {@link Profile} of a {@link Room}
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile}
+	 * @param room The {@link Room} that the {@link Profile} is leaving
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void unlink(@NotNull UUID uuid, @NotNull Room room) {
+		playerRooms.remove(uuid, room);
+	}
+	
+	/**
+	 * Internal {@link Method} to update a {@link Room} in the {@link RoomIndex} after it has
+	 * changed
+	 * 
+	 * @param room The {@link Room} that has changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void reindex(@NotNull Room room) {
+		index.update(room);
+	}
 }
\ No newline at end of file
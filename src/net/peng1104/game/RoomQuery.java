@@ -0,0 +1,172 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.enums.RoomState;
+
+/**
+ * {@link Class} to describe which {@link Room}s a {@link RoomManager#query(RoomQuery, int, int)}
+ * must return, a null filter matches any value
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class RoomQuery {
+	
+	/**
+	 * See {@link #getGameType()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private GameType gameType;
+	
+	/**
+	 * See {@link #getState()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private RoomState state;
+	
+	/**
+	 * See {@link #getPrivate()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Boolean privateRoom;
+	
+	/**
+	 * See {@link #getMinFreeSlots()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int minFreeSlots = 0;
+	
+	/**
+	 * {@link Method} to only match the {@link Room}s of a {@link GameType}
+	 * 
+	 * @param gameType The {@link GameType} to match, null to match any {@link GameType}
+	 * 
+	 * @return This {@link RoomQuery}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = RoomQuery.class)
+	public RoomQuery setGameType(@Nullable GameType gameType) {
+		this.gameType = gameType;
+		return this;
+	}
+	
+	/**
+	 * Get the {@link GameType} that this {@link RoomQuery} matches
+	 * 
+	 * @return The {@link GameType} to match, or null if any {@link GameType} matches
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public GameType getGameType() {
+		return gameType;
+	}
+	
+	/**
+	 * {@link Method} to only match the {@link Room}s in a {@link RoomState}
+	 * 
+	 * @param state The {@link RoomState} to match, null to match any {@link RoomState}
+	 * 
+	 * @return This {@link RoomQuery}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = RoomQuery.class)
+	public RoomQuery setState(@Nullable RoomState state) {
+		this.state = state;
+		return this;
+	}
+	
+	/**
+	 * Get the {@link RoomState} that this {@link RoomQuery} matches
+	 * 
+	 * @return The {@link RoomState} to match, or null if any {@link RoomState} matches
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public RoomState getState() {
+		return state;
+	}
+	
+	/**
+	 * {@link Method} to only match private or public {@link Room}s
+	 * 
+	 * @param privateRoom True to match only private {@link Room}s, false to match only public
+	 * {@link Room}s and null to match both
+	 * 
+	 * @return This {@link RoomQuery}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see Room#isPrivate()
+	 */
+	
+	@Default(value = RoomQuery.class)
+	public RoomQuery setPrivate(@Nullable Boolean privateRoom) {
+		this.privateRoom = privateRoom;
+		return this;
+	}
+	
+	/**
+	 * Get the privacy that this {@link RoomQuery} matches
+	 * 
+	 * @return True if only private {@link Room}s match, false if only public {@link Room}s match
+	 * and null if both match
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Boolean getPrivate() {
+		return privateRoom;
+	}
+	
+	/**
+	 * {@link Method} to only match the {@link Room}s with at least an amount of free slots
+	 * 
+	 * @param minFreeSlots The minimum amount of free slots
+	 * 
+	 * @return This {@link RoomQuery}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = RoomQuery.class)
+	public RoomQuery setMinFreeSlots(int minFreeSlots) {
+		this.minFreeSlots = Math.max(0, minFreeSlots);
+		return this;
+	}
+	
+	/**
+	 * Get the minimum amount of free slots that this {@link RoomQuery} matches
+	 * 
+	 * @return The minimum amount of free slots
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getMinFreeSlots() {
+		return minFreeSlots;
+	}
+}
\ No newline at end of file
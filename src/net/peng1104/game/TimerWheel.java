@@ -0,0 +1,267 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+
+/**
+ * {@link Class} to drive all the {@link WheelTimer}s of the {@link Arcade} from a single
+ * {@link BukkitTask}, the {@link WheelTimer}s are kept in a hierarchical timing wheel so each tick
+ * only costs the {@link WheelTimer}s that wake up in it, no matter how many are running
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class TimerWheel {
+	
+	/**
+	 * The amount of bits used by the slot index of each level
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int SLOT_BITS = 6;
+	
+	/**
+	 * The amount of slots in each level
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int SLOTS = 1 << SLOT_BITS;
+	
+	/**
+	 * The mask to get the slot index of a tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int SLOT_MASK = SLOTS - 1;
+	
+	/**
+	 * The amount of levels, enough for more than 190 days of seconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int LEVELS = 4;
+	
+	/**
+	 * The amount of server ticks of each {@link TimerWheel} tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final long TICK_PERIOD = 20;
+	
+	/**
+	 * The head {@link WheelTimer} of each slot, indexed by level * {@link #SLOTS} + slot
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final WheelTimer[] slots = new WheelTimer[LEVELS * SLOTS];
+	
+	/**
+	 * The {@link BukkitTask} that ticks this {@link TimerWheel}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * See {@link #getTick()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long tick = 0;
+	
+	/**
+	 * See {@link #getSize()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int size = 0;
+	
+	/**
+	 * Create a new {@link TimerWheel} and start its {@link BukkitTask}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public TimerWheel() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, TICK_PERIOD,
+				TICK_PERIOD);
+	}
+	
+	/**
+	 * Get the current tick of this {@link TimerWheel}, each tick is one second
+	 * 
+	 * @return The current tick of this {@link TimerWheel}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getTick() {
+		return tick;
+	}
+	
+	/**
+	 * Get the amount of scheduled {@link WheelTimer}s
+	 * 
+	 * @return The amount of {@link WheelTimer}s waiting to wake up
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getSize() {
+		return size;
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link TimerWheel}, the scheduled {@link WheelTimer}s will not
+	 * wake up anymore
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+	}
+	
+	/**
+	 * Internal {@link Method} to schedule a {@link WheelTimer} to wake up at a tick
+	 * 
+	 * @param timer The {@link WheelTimer} to schedule
+	 * @param wakeTick The tick to wake up the given {@link WheelTimer}, ticks that already passed
+	 * wake up in the next tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void add(@NotNull WheelTimer timer, long wakeTick) {
+		remove(timer);
+		insert(timer, Math.max(wakeTick, tick + 1));
+	}
+	
+	/**
+	 * Internal {@link Method} to unschedule a {@link WheelTimer}
+	 * 
+	 * @param timer The {@link WheelTimer} to unschedule
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void remove(@NotNull WheelTimer timer) {
+		if (timer.slot < 0) return;
+		
+		if (timer.previous == null) {
+			slots[timer.slot] = timer.next;
+		}
+		else {
+			timer.previous.next = timer.next;
+		}
+		if (timer.next != null) {
+			timer.next.previous = timer.previous;
+		}
+		timer.next = null;
+		timer.previous = null;
+		timer.slot = -1;
+		size--;
+	}
+	
+	/**
+	 * Internal {@link Method} to put a {@link WheelTimer} in the slot of its wake up tick
+	 * 
+	 * @param timer The {@link WheelTimer} to put
+	 * @param wakeTick The tick to wake up the given {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void insert(@NotNull WheelTimer timer, long wakeTick) {
+		long delta = wakeTick - tick;
+		int level = 0;
+		
+		while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+			level++;
+		}
+		int index = level * SLOTS + (int) ((wakeTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+		
+		timer.wakeTick = wakeTick;
+		timer.slot = index;
+		timer.previous = null;
+		timer.next = slots[index];
+		
+		if (timer.next != null) {
+			timer.next.previous = timer;
+		}
+		slots[index] = timer;
+		size++;
+	}
+	
+	/**
+	 * Internal {@link Method} to advance this {@link TimerWheel} by one tick, cascading the
+	 * higher levels when their slot is reached and waking up the {@link WheelTimer}s of the tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void tick() {
+		tick++;
+		
+		for (int level = 1; level < LEVELS; level++) {
+			if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+			
+			cascade(level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+		}
+		int index = (int) (tick & SLOT_MASK);
+		WheelTimer timer;
+		
+		while ((timer = slots[index]) != null) {
+			remove(timer);
+			
+			if (timer.wakeTick <= tick) {
+				timer.wake();
+			}
+			else {
+				insert(timer, timer.wakeTick);
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to move all the {@link WheelTimer}s of a higher level slot to the
+	 * lower levels
+	 * 
+	 * @param index The index of the slot to cascade
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void cascade(int index) {
+		WheelTimer timer = slots[index];
+		
+		slots[index] = null;
+		
+		while (timer != null) {
+			WheelTimer next = timer.next;
+			
+			size--;
+			insert(timer, timer.wakeTick);
+			timer = next;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,514 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.profiles.Profile;
+
+/**
+ * {@link Class} to keep a {@link java.util.Set} of {@link UUID}s without an object per entry, each
+ * {@link UUID} is kept as a pair of longs in two parallel arrays with open addressing and linear
+ * probing, removals shift the following entries back instead of leaving tombstones
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class UUIDSet extends AbstractSet<UUID> {
+	
+	/**
+	 * The smallest amount of slots of an {@link UUIDSet}, always a power of two
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MIN_CAPACITY = 8;
+	
+	/**
+	 * The last returned slot of an {@link #iterator()} when there is nothing to remove
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int NONE = -1;
+	
+	/**
+	 * The last returned slot of an {@link #iterator()} when it has returned the nil {@link UUID}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int NIL = -2;
+	
+	/**
+	 * The last returned slot of an {@link #iterator()} when it has returned an {@link UUID}
+	 * shifted past the start of the slots
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int WRAPPED = -3;
+	
+	/**
+	 * The most significant bits of the {@link UUID} in each slot, a slot with both halves equal to
+	 * zero is free
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long[] most;
+	
+	/**
+	 * The least significant bits of the {@link UUID} in each slot
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long[] least;
+	
+	/**
+	 * The amount of slots in use
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int used = 0;
+	
+	/**
+	 * If the nil {@link UUID} is in this {@link UUIDSet}, it cannot be kept in a slot because it
+	 * marks the free ones
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean containsNil = false;
+	
+	/**
+	 * The amount of structural changes, used to detect changes while iterating
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int modifications = 0;
+	
+	/**
+	 * Create a new empty {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public UUIDSet() {
+		most = new long[MIN_CAPACITY];
+		least = new long[MIN_CAPACITY];
+	}
+	
+	@Override
+	public int size() {
+		return containsNil ? used + 1 : used;
+	}
+	
+	@Override
+	public boolean contains(@Nullable Object object) {
+		if (!(object instanceof UUID)) return false;
+		
+		UUID uuid = (UUID) object;
+		
+		return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+	
+	/**
+	 * Check if an {@link UUID} is in this {@link UUIDSet} by its bits, without creating it
+	 * 
+	 * @param mostBits The most significant bits of the {@link UUID}
+	 * @param leastBits The least significant bits of the {@link UUID}
+	 * 
+	 * @return True if the {@link UUID} is in this {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean contains(long mostBits, long leastBits) {
+		if (mostBits == 0 && leastBits == 0) return containsNil;
+		
+		return find(mostBits, leastBits) >= 0;
+	}
+	
+	@Override
+	public boolean add(@NotNull UUID uuid) {
+		if (uuid == null) {
+			throw new IllegalArgumentException("UUID cannot be null");
+		}
+		return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+	
+	/**
+	 * {@link Method} to add an {@link UUID} to this {@link UUIDSet} by its bits
+	 * 
+	 * @param mostBits The most significant bits of the {@link UUID}
+	 * @param leastBits The least significant bits of the {@link UUID}
+	 * 
+	 * @return True if the {@link UUID} has been added, false if it was already in this
+	 * {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean add(long mostBits, long leastBits) {
+		if (mostBits == 0 && leastBits == 0) {
+			if (containsNil) return false;
+			
+			containsNil = true;
+			modifications++;
+			return true;
+		}
+		int mask = most.length - 1;
+		int slot = hash(mostBits, leastBits) & mask;
+		
+		while (most[slot] != 0 || least[slot] != 0) {
+			if (most[slot] == mostBits && least[slot] == leastBits) return false;
+			
+			slot = slot + 1 & mask;
+		}
+		most[slot] = mostBits;
+		least[slot] = leastBits;
+		modifications++;
+		
+		if (++used * 4 >= most.length * 3) {
+			resize(most.length * 2);
+		}
+		return true;
+	}
+	
+	@Override
+	public boolean remove(@Nullable Object object) {
+		if (!(object instanceof UUID)) return false;
+		
+		UUID uuid = (UUID) object;
+		
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+	
+	/**
+	 * {@link Method} to remove an {@link UUID} from this {@link UUIDSet} by its bits
+	 * 
+	 * @param mostBits The most significant bits of the {@link UUID}
+	 * @param leastBits The least significant bits of the {@link UUID}
+	 * 
+	 * @return True if the {@link UUID} has been removed, false if it was not in this
+	 * {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean remove(long mostBits, long leastBits) {
+		if (mostBits == 0 && leastBits == 0) {
+			if (!containsNil) return false;
+			
+			containsNil = false;
+			modifications++;
+			return true;
+		}
+		int slot = find(mostBits, leastBits);
+		
+		if (slot < 0) return false;
+		
+		removeSlot(slot, null);
+		return true;
+	}
+	
+	/**
+	 * Internal {@link Method} to free a slot in use, the following entries of its run are shifted
+	 * back so they can still be found
+	 * 
+	 * @param gap The slot to free
+	 * @param wrapped The {@link List} to add the {@link UUID}s shifted from the first slots to the
+	 * last ones, past the start of the slots, or null to not keep them
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void removeSlot(int gap, @Nullable List<UUID> wrapped) {
+		int mask = most.length - 1;
+		
+		for (int slot = gap + 1 & mask; most[slot] != 0 || least[slot] != 0;
+				slot = slot + 1 & mask) {
+			
+			int home = hash(most[slot], least[slot]) & mask;
+			
+			if ((slot - home & mask) >= (slot - gap & mask)) {
+				if (wrapped != null && slot < gap) {
+					wrapped.add(new UUID(most[slot], least[slot]));
+				}
+				most[gap] = most[slot];
+				least[gap] = least[slot];
+				gap = slot;
+			}
+		}
+		most[gap] = 0;
+		least[gap] = 0;
+		used--;
+		modifications++;
+	}
+	
+	@Override
+	public void clear() {
+		if (size() == 0) return;
+		
+		if (most.length > MIN_CAPACITY) {
+			most = new long[MIN_CAPACITY];
+			least = new long[MIN_CAPACITY];
+		}
+		else {
+			Arrays.fill(most, 0);
+			Arrays.fill(least, 0);
+		}
+		used = 0;
+		containsNil = false;
+		modifications++;
+	}
+	
+	/**
+	 * {@link Method} to visit all the {@link UUID}s of this {@link UUIDSet} by their bits, without
+	 * creating any object, this {@link UUIDSet} cannot be changed while it is visited
+	 * 
+	 * @param visitor The {@link Visitor} to call for each {@link UUID}
+	 * 
+	 * @throws ConcurrentModificationException If the given {@link Visitor} has changed this
+	 * {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void forEach(@NotNull Visitor visitor) {
+		if (visitor == null) {
+			throw new IllegalArgumentException("Visitor cannot be null");
+		}
+		int expected = modifications;
+		
+		if (containsNil) {
+			visitor.visit(0, 0);
+		}
+		for (int slot = 0; slot < most.length; slot++) {
+			if (most[slot] != 0 || least[slot] != 0) {
+				visitor.visit(most[slot], least[slot]);
+			}
+			if (modifications != expected) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
+	/**
+	 * Get an {@link Iterator} over the {@link UUID}s of this {@link UUIDSet}, it creates each
+	 * {@link UUID} when it is returned, use {@link #forEach(Visitor)} to iterate without creating
+	 * objects
+	 * <p>
+	 * The slots are visited from the last to the first, so the entries shifted back by
+	 * {@link Iterator#remove()} go to slots already visited, except the ones shifted past the
+	 * start of the slots, which are kept aside and returned at the end
+	 * 
+	 * @return An {@link Iterator} over the {@link UUID}s of this {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Override
+	public Iterator<UUID> iterator() {
+		return new Iterator<UUID>() {
+			
+			private int expected = modifications;
+			
+			private boolean nil = containsNil;
+			
+			private int slot = most.length - 1;
+			
+			private int last = NONE;
+			
+			private UUID lastWrapped;
+			
+			private List<UUID> wrapped;
+			
+			@Override
+			public boolean hasNext() {
+				slot = previousSlot(slot);
+				return nil || slot >= 0 || wrapped != null && !wrapped.isEmpty();
+			}
+			
+			@Override
+			public UUID next() {
+				if (modifications != expected) {
+					throw new ConcurrentModificationException();
+				}
+				if (nil) {
+					nil = false;
+					last = NIL;
+					return new UUID(0, 0);
+				}
+				slot = previousSlot(slot);
+				
+				if (slot >= 0) {
+					last = slot;
+					return new UUID(most[slot], least[slot--]);
+				}
+				if (wrapped == null || wrapped.isEmpty()) {
+					throw new NoSuchElementException();
+				}
+				last = WRAPPED;
+				lastWrapped = wrapped.remove(wrapped.size() - 1);
+				return lastWrapped;
+			}
+			
+			@Override
+			public void remove() {
+				if (last == NONE) {
+					throw new IllegalStateException();
+				}
+				if (modifications != expected) {
+					throw new ConcurrentModificationException();
+				}
+				if (last == NIL) {
+					containsNil = false;
+					modifications++;
+				}
+				else if (last == WRAPPED) {
+					UUIDSet.this.remove(lastWrapped);
+				}
+				else {
+					if (wrapped == null) {
+						wrapped = new ArrayList<>(2);
+					}
+					removeSlot(last, wrapped);
+				}
+				expected = modifications;
+				last = NONE;
+			}
+		};
+	}
+	
+	/**
+	 * Internal {@link Method} to find the previous slot in use
+	 * 
+	 * @param slot The slot to start from, included, it is moved to the last slot if this
+	 * {@link UUIDSet} has shrunk
+	 * 
+	 * @return The previous slot in use, or -1 if there are no more
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = -1)
+	private int previousSlot(int slot) {
+		slot = Math.min(slot, most.length - 1);
+		
+		while (slot >= 0 && most[slot] == 0 && least[slot] == 0) {
+			slot--;
+		}
+		return slot;
+	}
+	
+	/**
+	 * Internal {@link Method} to find the slot of an {@link UUID} that is not nil
+	 * 
+	 * @param mostBits The most significant bits of the {@link UUID}
+	 * @param leastBits The least significant bits of the {@link UUID}
+	 * 
+	 * @return The slot of the {@link UUID}, or -1 if it is not in this {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = -1)
+	private int find(long mostBits, long leastBits) {
+		int mask = most.length - 1;
+		
+		for (int slot = hash(mostBits, leastBits) & mask; most[slot] != 0 || least[slot] != 0;
+				slot = slot + 1 & mask) {
+			
+			if (most[slot] == mostBits && least[slot] == leastBits) return slot;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Internal {@link Method} to move all the {@link UUID}s into a new amount of slots
+	 * 
+	 * @param capacity The new amount of slots, a power of two
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void resize(int capacity) {
+		long[] oldMost = most;
+		long[] oldLeast = least;
+		int mask = capacity - 1;
+		
+		most = new long[capacity];
+		least = new long[capacity];
+		
+		for (int i = 0; i < oldMost.length; i++) {
+			if (oldMost[i] == 0 && oldLeast[i] == 0) continue;
+			
+			int slot = hash(oldMost[i], oldLeast[i]) & mask;
+			
+			while (most[slot] != 0 || least[slot] != 0) {
+				slot = slot + 1 & mask;
+			}
+			most[slot] = oldMost[i];
+			least[slot] = oldLeast[i];
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to spread the bits of an {@link UUID}, the version bits of random
+	 * {@link UUID}s are the same, so both halves are mixed
+	 * 
+	 * @param mostBits The most significant bits of the {@link UUID}
+	 * @param leastBits The least significant bits of the {@link UUID}
+	 * 
+	 * @return The hash of the {@link UUID}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	private static int hash(long mostBits, long leastBits) {
+		long hash = (mostBits ^ leastBits) * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ hash >>> 32);
+	}
+	
+	/**
+	 * {@link FunctionalInterface} to visit the {@link UUID}s of an {@link UUIDSet} by their bits,
+	 * for example to find the {@link Profile} of each one
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@FunctionalInterface
+	public interface Visitor {
+		
+		/**
+		 * {@link Method} called for each {@link UUID} of the {@link UUIDSet}
+		 * 
+		 * @param mostBits The most significant bits of the {@link UUID}
+		 * @param leastBits The least significant bits of the {@link UUID}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		void visit(long mostBits, long leastBits);
+	}
+}
\ No newline at end of file
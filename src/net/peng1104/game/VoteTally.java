@@ -0,0 +1,358 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.maps.GameMap;
+import net.peng1104.gui.Gui;
+import net.peng1104.profiles.Profile;
+
+/**
+ * {@link Class} to count the votes of a {@link Room} for the next {@link GameMap}, the vote of
+ * each {@link Profile}, the amount of votes of each option and the leading option are kept up to
+ * date on every vote
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class VoteTally {
+	
+	/**
+	 * The options by their names, in the order they were added
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<String, Option> options = new LinkedHashMap<>();
+	
+	/**
+	 * The option that each {@link Profile} has voted for by its {@link UUID}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<UUID, Option> votes = new HashMap<>();
+	
+	/**
+	 * The options by their amount of votes, in the order they reached that amount
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final List<Set<Option>> buckets = new ArrayList<>();
+	
+	/**
+	 * The highest amount of votes of an option
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int maxVotes = 0;
+	
+	/**
+	 * See {@link #getVersion()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long version = 0;
+	
+	/**
+	 * Create a new empty {@link VoteTally}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public VoteTally() {
+		buckets.add(new LinkedHashSet<>());
+	}
+	
+	/**
+	 * {@link Method} to add an option to this {@link VoteTally}
+	 * 
+	 * @param option The name of the option to add
+	 * 
+	 * @return True if the option has been added, false if it already exists
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean addOption(@NotNull String option) {
+		if (option == null || options.containsKey(option)) return false;
+		
+		Option value = new Option(option);
+		
+		options.put(option, value);
+		buckets.get(0).add(value);
+		version++;
+		return true;
+	}
+	
+	/**
+	 * Check if this {@link VoteTally} has an option
+	 * 
+	 * @param option The name of the option
+	 * 
+	 * @return True if the given option exists in this {@link VoteTally}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean hasOption(@NotNull String option) {
+		return options.containsKey(option);
+	}
+	
+	/**
+	 * Get the amount of options of this {@link VoteTally}
+	 * 
+	 * @return The amount of options
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getOptionsAmount() {
+		return options.size();
+	}
+	
+	/**
+	 * Get the options of this {@link VoteTally}
+	 * 
+	 * @return An unmodifiable {@link Set} containing the options in the order they were added
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = Set.class)
+	public Set<String> getOptions() {
+		return Collections.unmodifiableSet(options.keySet());
+	}
+	
+	/**
+	 * {@link Method} to cast or change the vote of a {@link Profile}
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile} that is voting
+	 * @param option The option to vote for
+	 * 
+	 * @return True if the vote has changed, false if the option does not exist or the
+	 * {@link Profile} has already voted for it
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean vote(@NotNull UUID uuid, @NotNull String option) {
+		if (uuid == null || option == null) return false;
+		
+		Option value = options.get(option);
+		
+		if (value == null) return false;
+		
+		Option previous = votes.put(uuid, value);
+		
+		if (previous == value) return false;
+		
+		if (previous != null) {
+			move(previous, -1);
+		}
+		move(value, 1);
+		version++;
+		return true;
+	}
+	
+	/**
+	 * {@link Method} to retract the vote of a {@link Profile}
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile}
+	 * 
+	 * @return True if the given {@link Profile} had voted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean retract(@NotNull UUID uuid) {
+		Option previous = uuid == null ? null : votes.remove(uuid);
+		
+		if (previous != null) {
+			move(previous, -1);
+			version++;
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Get the option that a {@link Profile} has voted for
+	 * 
+	 * @param uuid The {@link UUID} of the {@link Profile}
+	 * 
+	 * @return The option that the given {@link Profile} has voted for, or null if it has not
+	 * voted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public String getVote(@NotNull UUID uuid) {
+		Option option = uuid == null ? null : votes.get(uuid);
+		return option == null ? null : option.name;
+	}
+	
+	/**
+	 * Get the amount of votes of an option
+	 * 
+	 * @param option The name of the option
+	 * 
+	 * @return The amount of votes of the given option, zero if it does not exist
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getVotes(@NotNull String option) {
+		Option value = options.get(option);
+		return value == null ? 0 : value.votes;
+	}
+	
+	/**
+	 * Get the option with the most votes, ties are won by the option that reached the amount of
+	 * votes first
+	 * 
+	 * @return The leading option, or null if this {@link VoteTally} has no options
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public String getLeader() {
+		Set<Option> bucket = buckets.get(maxVotes);
+		return bucket.isEmpty() ? null : bucket.iterator().next().name;
+	}
+	
+	/**
+	 * Get the version of this {@link VoteTally}, it changes every time an option or vote
+	 * changes, so a {@link Gui} only needs to redraw when it differs from the last one it saw
+	 * 
+	 * @return The version of this {@link VoteTally}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getVersion() {
+		return version;
+	}
+	
+	/**
+	 * Get a snapshot of the votes of each option
+	 * 
+	 * @return An unmodifiable {@link Map} containing the amount of votes of each option, in the
+	 * order they were added
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = Map.class)
+	public Map<String, Integer> getSnapshot() {
+		Map<String, Integer> snapshot = new LinkedHashMap<>();
+		
+		for (Option option : options.values()) {
+			snapshot.put(option.name, option.votes);
+		}
+		return Collections.unmodifiableMap(snapshot);
+	}
+	
+	/**
+	 * {@link Method} to remove all the options and votes of this {@link VoteTally}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void clear() {
+		options.clear();
+		votes.clear();
+		buckets.clear();
+		buckets.add(new LinkedHashSet<>());
+		maxVotes = 0;
+		version++;
+	}
+	
+	/**
+	 * Internal {@link Method} to change the amount of votes of an option by one
+	 * 
+	 * @param option The option to change
+	 * @param delta One to add a vote, minus one to remove a vote
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void move(@NotNull Option option, int delta) {
+		buckets.get(option.votes).remove(option);
+		option.votes += delta;
+		
+		if (option.votes == buckets.size()) {
+			buckets.add(new LinkedHashSet<>());
+		}
+		buckets.get(option.votes).add(option);
+		
+		if (option.votes > maxVotes) {
+			maxVotes = option.votes;
+		}
+		else if (maxVotes > 0 && buckets.get(maxVotes).isEmpty()) {
+			maxVotes--;
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep the amount of votes of an option
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Option {
+		
+		/**
+		 * The name of this {@link Option}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final String name;
+		
+		/**
+		 * The amount of votes of this {@link Option}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private int votes = 0;
+		
+		/**
+		 * Create a new {@link Option} without votes
+		 * 
+		 * @param name The name of the {@link Option}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Option(@NotNull String name) {
+			this.name = name;
+		}
+	}
+}
\ No newline at end of file
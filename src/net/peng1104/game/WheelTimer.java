@@ -0,0 +1,295 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.special.TimedThread;
+
+/**
+ * {@link Class} to create a countdown that is driven by the shared {@link TimerWheel}, it has the
+ * same behavior of a {@link TimedThread} without the need of a timer for each countdown
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public abstract class WheelTimer {
+	
+	/**
+	 * The next {@link WheelTimer} in the same {@link TimerWheel} slot
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	WheelTimer next;
+	
+	/**
+	 * The previous {@link WheelTimer} in the same {@link TimerWheel} slot
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	WheelTimer previous;
+	
+	/**
+	 * The index of the {@link TimerWheel} slot this {@link WheelTimer} is in, -1 if it is not
+	 * scheduled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	int slot = -1;
+	
+	/**
+	 * The {@link TimerWheel} tick of the next wake up of this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	long wakeTick;
+	
+	/**
+	 * The {@link TimerWheel} tick where this {@link WheelTimer} count reaches zero
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long endTick;
+	
+	/**
+	 * The remaining count of this {@link WheelTimer} while it is paused
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long pausedCount;
+	
+	/**
+	 * The initial count of this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final long time;
+	
+	/**
+	 * The {@link TimerWheel} that drives this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final TimerWheel wheel;
+	
+	/**
+	 * If this {@link WheelTimer} has been started and not finished or cancelled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean running;
+	
+	/**
+	 * If this {@link WheelTimer} is paused
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean paused;
+	
+	/**
+	 * Create a new {@link WheelTimer} driven by the {@link Arcade} {@link TimerWheel}
+	 * 
+	 * @param time The amount of seconds of this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public WheelTimer(long time) {
+		this(Arcade.getInstance().getTimerWheel(), time);
+	}
+	
+	/**
+	 * Create a new {@link WheelTimer}
+	 * 
+	 * @param wheel The {@link TimerWheel} that will drive this {@link WheelTimer}
+	 * @param time The amount of seconds of this {@link WheelTimer}
+	 * 
+	 * @throws IllegalArgumentException If the given {@link TimerWheel} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public WheelTimer(TimerWheel wheel, long time) {
+		if (wheel == null) {
+			throw new IllegalArgumentException("TimerWheel cannot be null");
+		}
+		this.wheel = wheel;
+		this.time = Math.max(0, time);
+	}
+	
+	/**
+	 * {@link Method} called every time this {@link WheelTimer} wakes up before the count reaches
+	 * zero
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #nextLoop(long)
+	 */
+	
+	public abstract void onLoop();
+	
+	/**
+	 * {@link Method} called when the count of this {@link WheelTimer} reaches zero
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public abstract void execute();
+	
+	/**
+	 * Get the next count where {@link #onLoop()} must be called, by default every second like a
+	 * {@link TimedThread}, a {@link WheelTimer} that only needs some counts should return the next
+	 * one so it does not cost anything between them
+	 * 
+	 * @param count The current count of this {@link WheelTimer}
+	 * 
+	 * @return The next count where {@link #onLoop()} must be called, zero or less to only wake up
+	 * at the end of the count
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	protected long nextLoop(long count) {
+		return count - 1;
+	}
+	
+	/**
+	 * {@link Method} to start this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void start() {
+		if (!running) {
+			running = true;
+			paused = false;
+			endTick = wheel.getTick() + time;
+			schedule(time);
+		}
+	}
+	
+	/**
+	 * {@link Method} to cancel this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void cancel() {
+		running = false;
+		paused = false;
+		wheel.remove(this);
+	}
+	
+	/**
+	 * Get if this {@link WheelTimer} is running
+	 * 
+	 * @return True if this {@link WheelTimer} has been started and has not finished or been
+	 * cancelled yet
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isRunning() {
+		return running;
+	}
+	
+	/**
+	 * {@link Method} to pause or resume this {@link WheelTimer}
+	 * 
+	 * @param pause True to pause this {@link WheelTimer}, false to resume it
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void setPaused(boolean pause) {
+		if (!running || paused == pause) return;
+		
+		if (pause) {
+			pausedCount = getCount();
+			wheel.remove(this);
+		}
+		else {
+			endTick = wheel.getTick() + pausedCount;
+			schedule(pausedCount);
+		}
+		paused = pause;
+	}
+	
+	/**
+	 * Get if this {@link WheelTimer} is paused
+	 * 
+	 * @return True if this {@link WheelTimer} is paused
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isPaused() {
+		return paused;
+	}
+	
+	/**
+	 * Get the remaining count of this {@link WheelTimer}
+	 * 
+	 * @return The remaining seconds of this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getCount() {
+		if (paused) return pausedCount;
+		
+		return running ? Math.max(0, endTick - wheel.getTick()) : 0;
+	}
+	
+	/**
+	 * Internal {@link Method} called by the {@link TimerWheel} when this {@link WheelTimer} wakes
+	 * up
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void wake() {
+		long count = getCount();
+		
+		if (count <= 0) {
+			running = false;
+			execute();
+			return;
+		}
+		onLoop();
+		
+		if (running && !paused && wheel.getTick() < endTick) {
+			schedule(getCount());
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to schedule the next wake up of this {@link WheelTimer}
+	 * 
+	 * @param count The current count of this {@link WheelTimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void schedule(long count) {
+		long loop = count <= 0 ? 0 : Math.max(0, Math.min(count - 1, nextLoop(count)));
+		
+		wheel.add(this, endTick - loop);
+	}
+}
\ No newline at end of file
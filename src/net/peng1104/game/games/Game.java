@@ -1,6 +1,452 @@
 package net.peng1104.game.games;
 
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.GameDispatcher;
+import net.peng1104.game.GameManager;
+import net.peng1104.game.Room;
+import net.peng1104.game.UUIDSet;
+import net.peng1104.game.maps.GameWorld;
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * {@link Class} to implement the rules of a {@link GameType} played in a {@link Room}, the Bukkit
+ * events of its {@link GameWorld} are forwarded to it by the {@link GameDispatcher} and it is
+ * ticked by the {@link GameManager} at a fixed rate, the work that can wait is
+ * {@link #defer(Runnable)}ed and only runs while the {@link Game} is within its budget
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
 public abstract class Game {
 	
-	public abstract int getMinAm
+	/**
+	 * {@link Method} to create the {@link Game} of the {@link GameType} of a {@link Room}
+	 * 
+	 * @param room The {@link Room} that will play the {@link Game}
+	 * 
+	 * @return The created {@link Game}, or null if the {@link GameType} of the given {@link Room}
+	 * has not been implemented yet
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public static Game create(@NotNull Room room) {
+		if (room == null || !isImplemented(room.getGameType())) return null;
+		
+		Game game;
+		
+		switch (room.getGameType()) {
+			case MURDER:
+			case MURDER_DOUBLE:
+				game = new Murder(room);
+				break;
+			default:
+				return null;
+		}
+		game.registerHandlers(game.eventBus);
+		return game;
+	}
+	
+	/**
+	 * Check if a {@link GameType} has a {@link Game}, the {@link Room}s of the other
+	 * {@link GameType}s cannot start a match
+	 * 
+	 * @param type The {@link GameType} to check
+	 * 
+	 * @return True if {@link #create(Room)} creates a {@link Game} for the given {@link GameType}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public static boolean isImplemented(@NotNull GameType type) {
+		if (type == null) return false;
+		
+		switch (type) {
+			case MURDER:
+			case MURDER_DOUBLE:
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * See {@link #getRoom()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Room room;
+	
+	/**
+	 * The work that can wait, in the order it was deferred
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Queue<Runnable> deferred = new ArrayDeque<>();
+	
+	/**
+	 * See {@link #getEventBus()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameEventBus eventBus = new GameEventBus();
+	
+	/**
+	 * See {@link #getTicks()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long ticks = 0;
+	
+	/**
+	 * The sum of the durations of all the ticks in nanoseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long totalTickTime = 0;
+	
+	/**
+	 * See {@link #getMaxTickTime()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long maxTickTime = 0;
+	
+	/**
+	 * See {@link #getLastTickTime()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long lastTickTime = 0;
+	
+	/**
+	 * See {@link #getOverBudgetTicks()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long overBudgetTicks = 0;
+	
+	/**
+	 * The {@link UUID}s of the players of the {@link Room} that have been eliminated
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final UUIDSet eliminatedSet = new UUIDSet();
+	
+	/**
+	 * Create a new {@link Game}
+	 * 
+	 * @param room The {@link Room} that plays this {@link Game}
+	 * 
+	 * @throws IllegalArgumentException If the given {@link Room} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	protected Game(@NotNull Room room) {
+		if (room == null) {
+			throw new IllegalArgumentException("Room cannot be null");
+		}
+		this.room = room;
+	}
+	
+	/**
+	 * Get the {@link Room} that plays this {@link Game}
+	 * 
+	 * @return The {@link Room} of this {@link Game}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = Room.class)
+	public Room getRoom() {
+		return room;
+	}
+	
+	/**
+	 * Get the minimum amount of players to play this {@link Game}
+	 * 
+	 * @return The minimum amount of players
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public abstract int getMinPlayersAmount();
+	
+	/**
+	 * Get the {@link GameEventBus} of the internal events of this {@link Game}
+	 * 
+	 * @return The {@link GameEventBus} of this {@link Game}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = GameEventBus.class)
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+	
+	/**
+	 * {@link Method} called once after this {@link Game} is created to register the handlers of
+	 * its internal events, the handlers cannot be changed while it is played
+	 * 
+	 * @param eventBus The {@link GameEventBus} of this {@link Game}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	protected void registerHandlers(@NotNull GameEventBus eventBus) {}
+	
+	/**
+	 * {@link Method} to run a tick of this {@link Game}, the {@link #onTick(long)} always runs and
+	 * the deferred work runs after it until the budget is spent, this {@link Method} is called by
+	 * the {@link GameManager} in the main thread
+	 * 
+	 * @param tick The number of the tick, it grows by one every fixed step
+	 * @param budget The amount of nanoseconds this {@link Game} may use in this tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public final void tick(long tick, long budget) {
+		long start = System.nanoTime();
+		
+		try {
+			onTick(tick);
+			
+			while (!deferred.isEmpty() && System.nanoTime() - start < budget) {
+				deferred.poll().run();
+			}
+		}
+		finally {
+			long time = System.nanoTime() - start;
+			
+			ticks++;
+			totalTickTime += time;
+			lastTickTime = time;
+			maxTickTime = Math.max(maxTickTime, time);
+			
+			if (time > budget) {
+				overBudgetTicks++;
+			}
+		}
+	}
+	
+	/**
+	 * {@link Method} called every fixed step with the work of this {@link Game} that cannot wait
+	 * 
+	 * @param tick The number of the tick, it grows by one every fixed step
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	protected void onTick(long tick) {}
+	
+	/**
+	 * {@link Method} to queue work that can wait, such as scoreboards and effects, it runs after
+	 * the {@link #onTick(long)} of the next ticks that are still within the budget
+	 * 
+	 * @param task The work to defer
+	 * 
+	 * @throws IllegalArgumentException If the given task is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	protected final void defer(@NotNull Runnable task) {
+		if (task == null) {
+			throw new IllegalArgumentException("Task cannot be null");
+		}
+		deferred.add(task);
+	}
+	
+	/**
+	 * Get the amount of deferred work waiting to run
+	 * 
+	 * @return The amount of deferred tasks
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getDeferredAmount() {
+		return deferred.size();
+	}
+	
+	/**
+	 * Get the amount of ticks run by this {@link Game}
+	 * 
+	 * @return The amount of ticks
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getTicks() {
+		return ticks;
+	}
+	
+	/**
+	 * Get the average duration of the ticks of this {@link Game}
+	 * 
+	 * @return The average tick time in nanoseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getAverageTickTime() {
+		return ticks == 0 ? 0 : totalTickTime / ticks;
+	}
+	
+	/**
+	 * Get the longest tick of this {@link Game}
+	 * 
+	 * @return The longest tick time in nanoseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getMaxTickTime() {
+		return maxTickTime;
+	}
+	
+	/**
+	 * Get the duration of the last tick of this {@link Game}
+	 * 
+	 * @return The last tick time in nanoseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getLastTickTime() {
+		return lastTickTime;
+	}
+	
+	/**
+	 * Get the amount of ticks that took longer than the budget
+	 * 
+	 * @return The amount of ticks over the budget
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getOverBudgetTicks() {
+		return overBudgetTicks;
+	}
+	
+	/**
+	 * Check if a player of the {@link Room} is still playing this {@link Game}
+	 * 
+	 * @param uuid The {@link UUID} of the player
+	 * 
+	 * @return True if the given player is in the {@link Room} and has not been eliminated
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isAlive(@NotNull UUID uuid) {
+		return uuid != null && room.isInRoom(uuid) && !eliminatedSet.contains(uuid);
+	}
+	
+	/**
+	 * {@link Method} to eliminate a player from this {@link Game}, an eliminated player is no
+	 * longer hit by the shots of the {@link GameType#isGunMode()} {@link GameType}s
+	 * 
+	 * @param uuid The {@link UUID} of the player to eliminate
+	 * 
+	 * @return True if the given player was still alive
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	protected boolean eliminate(@NotNull UUID uuid) {
+		return isAlive(uuid) && eliminatedSet.add(uuid);
+	}
+	
+	/**
+	 * {@link Method} called when an {@link org.bukkit.entity.Entity} is damaged in the
+	 * {@link GameWorld} of this {@link Game}
+	 * 
+	 * @param event The {@link EntityDamageEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void onDamage(@NotNull EntityDamageEvent event) {}
+	
+	/**
+	 * {@link Method} called when a {@link org.bukkit.entity.Player} moves in the
+	 * {@link GameWorld} of this {@link Game}
+	 * 
+	 * @param event The {@link PlayerMoveEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void onMove(@NotNull PlayerMoveEvent event) {}
+	
+	/**
+	 * {@link Method} called when a {@link org.bukkit.block.Block} is placed in the
+	 * {@link GameWorld} of this {@link Game}
+	 * 
+	 * @param event The {@link BlockPlaceEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void onBlockPlace(@NotNull BlockPlaceEvent event) {}
+	
+	/**
+	 * {@link Method} called when a {@link org.bukkit.block.Block} is broken in the
+	 * {@link GameWorld} of this {@link Game}
+	 * 
+	 * @param event The {@link BlockBreakEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void onBlockBreak(@NotNull BlockBreakEvent event) {}
+	
+	/**
+	 * {@link Method} called when a {@link org.bukkit.entity.Projectile} hits something in the
+	 * {@link GameWorld} of this {@link Game}
+	 * 
+	 * @param event The {@link ProjectileHitEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void onProjectileHit(@NotNull ProjectileHitEvent event) {}
 }
\ No newline at end of file
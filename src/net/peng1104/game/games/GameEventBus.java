@@ -0,0 +1,175 @@
+package net.peng1104.game.games;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.bukkit.event.Event;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.games.events.GameEvent;
+import net.peng1104.game.games.events.GameEventType;
+
+/**
+ * {@link Class} to post the internal {@link GameEvent}s of a {@link Game} to its handlers without
+ * the reflection of the Bukkit {@link Event}s, the handlers are registered when the {@link Game}
+ * is created and kept in an array for each {@link GameEventType}, the {@link GameEvent}s are
+ * pooled by their {@link GameEventType}s and a {@link GameEventType} without handlers is skipped
+ * with a single array read, this {@link Class} must only be used in the main thread
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class GameEventBus {
+	
+	/**
+	 * The handlers of each {@link GameEventType} by its id, null if it has none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private GameEventHandler<?>[][] handlers = new GameEventHandler<?>[GameEventType.getAmount()][];
+	
+	/**
+	 * See {@link #getPosted()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long posted = 0;
+	
+	/**
+	 * {@link Method} to register a handler of a {@link GameEventType}, the handlers are called in
+	 * the order they were registered
+	 * 
+	 * @param <E> The {@link GameEvent} of the {@link GameEventType}
+	 * @param type The {@link GameEventType} to handle
+	 * @param handler The {@link GameEventHandler} to register
+	 * 
+	 * @throws IllegalArgumentException If the given {@link GameEventType} or
+	 * {@link GameEventHandler} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public <E extends GameEvent> void register(@NotNull GameEventType<E> type,
+			@NotNull GameEventHandler<? super E> handler) {
+		
+		if (type == null) {
+			throw new IllegalArgumentException("Type cannot be null");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("Handler cannot be null");
+		}
+		int id = type.getId();
+		
+		if (id >= handlers.length) {
+			handlers = Arrays.copyOf(handlers, GameEventType.getAmount());
+		}
+		GameEventHandler<?>[] registered = handlers[id];
+		
+		if (registered == null) {
+			registered = new GameEventHandler<?>[] { handler };
+		}
+		else {
+			registered = Arrays.copyOf(registered, registered.length + 1);
+			registered[registered.length - 1] = handler;
+		}
+		handlers[id] = registered;
+	}
+	
+	/**
+	 * Check if a {@link GameEventType} has any handler, so the {@link GameEvent} does not need
+	 * to be filled when nobody listens to it
+	 * 
+	 * @param type The {@link GameEventType} to check
+	 * 
+	 * @return True if the given {@link GameEventType} has any handler
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean hasHandlers(@NotNull GameEventType<?> type) {
+		int id = type.getId();
+		return id < handlers.length && handlers[id] != null;
+	}
+	
+	/**
+	 * {@link Method} to take a {@link GameEvent} from the pool of its {@link GameEventType}, it
+	 * must be given back by {@link #post(GameEventType, GameEvent)}
+	 * 
+	 * @param <E> The {@link GameEvent} of the {@link GameEventType}
+	 * @param type The {@link GameEventType} of the {@link GameEvent}
+	 * 
+	 * @return A cleared {@link GameEvent} ready to be filled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public <E extends GameEvent> E acquire(@NotNull GameEventType<E> type) {
+		return type.acquire();
+	}
+	
+	/**
+	 * {@link Method} to call all the handlers of a {@link GameEvent} and give it back to the pool
+	 * of its {@link GameEventType}
+	 * 
+	 * @param <E> The {@link GameEvent} of the {@link GameEventType}
+	 * @param type The {@link GameEventType} of the {@link GameEvent}
+	 * @param event The {@link GameEvent} to post, taken from {@link #acquire(GameEventType)}
+	 * 
+	 * @return True if the {@link GameEvent} has not been cancelled by any handler
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = true)
+	@SuppressWarnings("unchecked")
+	public <E extends GameEvent> boolean post(@NotNull GameEventType<E> type, @NotNull E event) {
+		int id = type.getId();
+		GameEventHandler<?>[] registered = id < handlers.length ? handlers[id] : null;
+		
+		if (registered == null) {
+			type.release(event);
+			return true;
+		}
+		posted++;
+		
+		try {
+			for (GameEventHandler<?> handler : registered) {
+				((GameEventHandler<E>) handler).handle(event);
+			}
+			return !event.isCancelled();
+		}
+		finally {
+			type.release(event);
+		}
+	}
+	
+	/**
+	 * Get the amount of {@link GameEvent}s posted to at least one handler
+	 * 
+	 * @return The amount of dispatched {@link GameEvent}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getPosted() {
+		return posted;
+	}
+	
+	/**
+	 * {@link Method} to remove all the handlers of this {@link GameEventBus}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void clear() {
+		Arrays.fill(handlers, null);
+	}
+}
\ No newline at end of file
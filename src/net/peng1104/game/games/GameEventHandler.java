@@ -0,0 +1,31 @@
+package net.peng1104.game.games;
+
+import java.lang.reflect.Method;
+
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.games.events.GameEvent;
+
+/**
+ * {@link FunctionalInterface} to handle a {@link GameEvent} posted in a {@link GameEventBus}
+ * 
+ * @param <E> The handled {@link GameEvent}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+@FunctionalInterface
+public interface GameEventHandler<E extends GameEvent> {
+	
+	/**
+	 * {@link Method} called when a {@link GameEvent} is posted, the {@link GameEvent} is reused
+	 * after all the handlers have been called, so it must not be kept
+	 * 
+	 * @param event The posted {@link GameEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void handle(@NotNull E event);
+}
\ No newline at end of file
@@ -1,5 +1,35 @@
 package net.peng1104.game.games;
 
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.Room;
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * {@link Game} of the {@link GameType#MURDER} and {@link GameType#MURDER_DOUBLE}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
 public class Murder extends Game {
 	
+	/**
+	 * Create a new {@link Murder}
+	 * 
+	 * @param room The {@link Room} that plays this {@link Murder}
+	 * 
+	 * @throws IllegalArgumentException If the given {@link Room} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public Murder(@NotNull Room room) {
+		super(room);
+	}
+	
+	@Override
+	public int getMinPlayersAmount() {
+		return getRoom().getGameType() == GameType.MURDER_DOUBLE ? 8 : 4;
+	}
 }
\ No newline at end of file
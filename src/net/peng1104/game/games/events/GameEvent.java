@@ -0,0 +1,64 @@
+package net.peng1104.game.games.events;
+
+import java.lang.reflect.Method;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.game.games.Game;
+import net.peng1104.game.games.GameEventBus;
+
+/**
+ * {@link Class} to represent an internal event of a {@link Game}, the instances are pooled by
+ * their {@link GameEventType} and reused after each {@link GameEventBus#post(GameEventType,
+ * GameEvent)}, so a handler must not keep them
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public abstract class GameEvent {
+	
+	/**
+	 * See {@link #isCancelled()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean cancelled = false;
+	
+	/**
+	 * Check if this {@link GameEvent} has been cancelled by a handler
+	 * 
+	 * @return True if this {@link GameEvent} has been cancelled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isCancelled() {
+		return cancelled;
+	}
+	
+	/**
+	 * {@link Method} to cancel this {@link GameEvent}, the following handlers are still called
+	 * 
+	 * @param cancelled True to cancel this {@link GameEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void setCancelled(boolean cancelled) {
+		this.cancelled = cancelled;
+	}
+	
+	/**
+	 * {@link Method} to clear this {@link GameEvent} before it goes back to its pool, the
+	 * subclasses must clear their references
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	protected void reset() {
+		cancelled = false;
+	}
+}
\ No newline at end of file
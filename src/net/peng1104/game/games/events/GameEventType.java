@@ -0,0 +1,188 @@
+package net.peng1104.game.games.events;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.games.GameEventBus;
+
+/**
+ * {@link Class} to identify a type of {@link GameEvent} by a small id, so the
+ * {@link GameEventBus} can keep its handlers in arrays, and to pool its instances
+ * 
+ * @param <E> The {@link GameEvent} of this {@link GameEventType}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class GameEventType<E extends GameEvent> {
+	
+	/**
+	 * The most instances kept in the pool of each {@link GameEventType}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAX_POOLED = 16;
+	
+	/**
+	 * See {@link #getAmount()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static int amount = 0;
+	
+	/**
+	 * The {@link GameEventType} of the {@link KillEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final GameEventType<KillEvent> KILL = new GameEventType<>(KillEvent::new);
+	
+	/**
+	 * The {@link GameEventType} of the {@link RoleRevealEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final GameEventType<RoleRevealEvent> ROLE_REVEAL = new GameEventType<>(
+			RoleRevealEvent::new);
+	
+	/**
+	 * The {@link GameEventType} of the {@link RoundEndEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final GameEventType<RoundEndEvent> ROUND_END = new GameEventType<>(
+			RoundEndEvent::new);
+	
+	/**
+	 * The {@link GameEventType} of the {@link TimerEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final GameEventType<TimerEvent> TIMER = new GameEventType<>(TimerEvent::new);
+	
+	/**
+	 * Get the amount of {@link GameEventType}s created
+	 * 
+	 * @return The amount of {@link GameEventType}s, one more than the highest id
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public static int getAmount() {
+		return amount;
+	}
+	
+	/**
+	 * See {@link #getId()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int id;
+	
+	/**
+	 * The {@link Supplier} of new instances when the pool is empty
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Supplier<E> factory;
+	
+	/**
+	 * The pooled instances, only the first {@link #pooled} are used
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameEvent[] pool = new GameEvent[MAX_POOLED];
+	
+	/**
+	 * The amount of pooled instances
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int pooled = 0;
+	
+	/**
+	 * Create a new {@link GameEventType}, the {@link GameEventType}s must be kept in constants
+	 * because each one takes a new id
+	 * 
+	 * @param factory The {@link Supplier} of new instances of the {@link GameEvent}
+	 * 
+	 * @throws IllegalArgumentException If the given {@link Supplier} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public GameEventType(@NotNull Supplier<E> factory) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Factory cannot be null");
+		}
+		this.factory = factory;
+		id = amount++;
+	}
+	
+	/**
+	 * Get the id of this {@link GameEventType}
+	 * 
+	 * @return The id of this {@link GameEventType}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getId() {
+		return id;
+	}
+	
+	/**
+	 * {@link Method} to take an instance of the {@link GameEvent} from the pool, this
+	 * {@link Method} must be called in the main thread
+	 * 
+	 * @return A pooled instance, or a new one if the pool is empty
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	@SuppressWarnings("unchecked")
+	public E acquire() {
+		if (pooled == 0) return factory.get();
+		
+		E event = (E) pool[--pooled];
+		
+		pool[pooled] = null;
+		return event;
+	}
+	
+	/**
+	 * {@link Method} to clear an instance of the {@link GameEvent} and give it back to the pool,
+	 * this {@link Method} must be called in the main thread
+	 * 
+	 * @param event The instance to give back
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void release(@NotNull E event) {
+		if (event == null) return;
+		
+		event.reset();
+		
+		if (pooled < MAX_POOLED) {
+			pool[pooled++] = event;
+		}
+	}
+}
\ No newline at end of file
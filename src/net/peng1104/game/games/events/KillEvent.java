@@ -0,0 +1,96 @@
+package net.peng1104.game.games.events;
+
+import java.lang.reflect.Method;
+
+import org.bukkit.entity.Player;
+
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.games.Game;
+
+/**
+ * {@link GameEvent} posted when a {@link Player} is killed in a {@link Game}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class KillEvent extends GameEvent {
+	
+	/**
+	 * See {@link #getVictim()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Player victim;
+	
+	/**
+	 * See {@link #getKiller()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Player killer;
+	
+	/**
+	 * Internal {@link KillEvent} {@link java.lang.reflect.Constructor}, the instances are taken
+	 * from {@link GameEventType#KILL}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	KillEvent() {}
+	
+	/**
+	 * {@link Method} to fill this {@link KillEvent} before it is posted
+	 * 
+	 * @param victim The killed {@link Player}
+	 * @param killer The {@link Player} that killed, or null if it was not a {@link Player}
+	 * 
+	 * @return This {@link KillEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public KillEvent set(@NotNull Player victim, @Nullable Player killer) {
+		this.victim = victim;
+		this.killer = killer;
+		return this;
+	}
+	
+	/**
+	 * Get the {@link Player} that has been killed
+	 * 
+	 * @return The killed {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public Player getVictim() {
+		return victim;
+	}
+	
+	/**
+	 * Get the {@link Player} that has killed the victim
+	 * 
+	 * @return The killer {@link Player}, or null if it was not a {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Player getKiller() {
+		return killer;
+	}
+	
+	@Override
+	protected void reset() {
+		super.reset();
+		victim = null;
+		killer = null;
+	}
+}
\ No newline at end of file
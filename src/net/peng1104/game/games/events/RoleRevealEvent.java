@@ -0,0 +1,95 @@
+package net.peng1104.game.games.events;
+
+import java.lang.reflect.Method;
+
+import org.bukkit.entity.Player;
+
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.games.Game;
+
+/**
+ * {@link GameEvent} posted when the role of a {@link Player} is revealed in a {@link Game}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class RoleRevealEvent extends GameEvent {
+	
+	/**
+	 * See {@link #getPlayer()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Player player;
+	
+	/**
+	 * See {@link #getRole()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private String role;
+	
+	/**
+	 * Internal {@link RoleRevealEvent} {@link java.lang.reflect.Constructor}, the instances are
+	 * taken from {@link GameEventType#ROLE_REVEAL}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	RoleRevealEvent() {}
+	
+	/**
+	 * {@link Method} to fill this {@link RoleRevealEvent} before it is posted
+	 * 
+	 * @param player The {@link Player} whose role is revealed
+	 * @param role The name of the role
+	 * 
+	 * @return This {@link RoleRevealEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public RoleRevealEvent set(@NotNull Player player, @NotNull String role) {
+		this.player = player;
+		this.role = role;
+		return this;
+	}
+	
+	/**
+	 * Get the {@link Player} whose role has been revealed
+	 * 
+	 * @return The revealed {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public Player getPlayer() {
+		return player;
+	}
+	
+	/**
+	 * Get the name of the revealed role
+	 * 
+	 * @return The name of the revealed role
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public String getRole() {
+		return role;
+	}
+	
+	@Override
+	protected void reset() {
+		super.reset();
+		player = null;
+		role = null;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package net.peng1104.game.games.events;
+
+import java.lang.reflect.Method;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.games.Game;
+
+/**
+ * {@link GameEvent} posted when a round of a {@link Game} ends
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class RoundEndEvent extends GameEvent {
+	
+	/**
+	 * See {@link #getRound()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int round;
+	
+	/**
+	 * See {@link #getWinner()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private String winner;
+	
+	/**
+	 * Internal {@link RoundEndEvent} {@link java.lang.reflect.Constructor}, the instances are taken
+	 * from {@link GameEventType#ROUND_END}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	RoundEndEvent() {}
+	
+	/**
+	 * {@link Method} to fill this {@link RoundEndEvent} before it is posted
+	 * 
+	 * @param round The number of the round
+	 * @param winner The name of the winner, or null if nobody won
+	 * 
+	 * @return This {@link RoundEndEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public RoundEndEvent set(int round, @Nullable String winner) {
+		this.round = round;
+		this.winner = winner;
+		return this;
+	}
+	
+	/**
+	 * Get the number of the round that has ended
+	 * 
+	 * @return The number of the ended round
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getRound() {
+		return round;
+	}
+	
+	/**
+	 * Get the name of the winner of the round, a {@link org.bukkit.entity.Player} or a team
+	 * 
+	 * @return The name of the winner, or null if nobody won
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public String getWinner() {
+		return winner;
+	}
+	
+	@Override
+	protected void reset() {
+		super.reset();
+		round = 0;
+		winner = null;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package net.peng1104.game.games.events;
+
+import java.lang.reflect.Method;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.games.Game;
+
+/**
+ * {@link GameEvent} posted every second of a timer of a {@link Game}, and when it ends
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class TimerEvent extends GameEvent {
+	
+	/**
+	 * See {@link #getTimer()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private String timer;
+	
+	/**
+	 * See {@link #getRemaining()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int remaining;
+	
+	/**
+	 * Internal {@link TimerEvent} {@link java.lang.reflect.Constructor}, the instances are taken
+	 * from {@link GameEventType#TIMER}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	TimerEvent() {}
+	
+	/**
+	 * {@link Method} to fill this {@link TimerEvent} before it is posted
+	 * 
+	 * @param timer The name of the timer
+	 * @param remaining The amount of seconds left, zero when the timer ends
+	 * 
+	 * @return This {@link TimerEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public TimerEvent set(@NotNull String timer, int remaining) {
+		this.timer = timer;
+		this.remaining = remaining;
+		return this;
+	}
+	
+	/**
+	 * Get the name of the timer
+	 * 
+	 * @return The name of the timer
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public String getTimer() {
+		return timer;
+	}
+	
+	/**
+	 * Get the amount of seconds left in the timer
+	 * 
+	 * @return The amount of seconds left, zero when the timer has ended
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getRemaining() {
+		return remaining;
+	}
+	
+	@Override
+	protected void reset() {
+		super.reset();
+		timer = null;
+		remaining = 0;
+	}
+}
\ No newline at end of file
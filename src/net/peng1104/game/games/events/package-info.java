@@ -0,0 +1,10 @@
+/**
+ * {@link java.lang.Package} containing all the internal events of the
+ * {@link net.peng1104.game.games.Game}s
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+package net.peng1104.game.games.events;
\ No newline at end of file
@@ -0,0 +1,601 @@
+package net.peng1104.game.maps;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.files.ArenaBounds;
+import net.peng1104.utils.WorldAPI;
+
+/**
+ * {@link Class} to paste many copies of small {@link GameMap}s into a few shared void
+ * {@link World}s, each copy uses an {@link ArenaSlot} of a grid, the blocks are pasted and cleared
+ * in a limited amount per tick, the blocks are copied from a clone of the {@link GameMap} source
+ * loaded in another thread and unloaded as soon as no {@link ArenaSlot} is being pasted from it
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class ArenaManager {
+	
+	/**
+	 * The amount of {@link ArenaSlot}s in each side of the grid of a shared {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int GRID_SIDE = 16;
+	
+	/**
+	 * The minimum amount of empty blocks between two {@link ArenaSlot}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int GAP = 16;
+	
+	/**
+	 * The shared {@link World}s and their used {@link ArenaSlot}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final List<Grid> grids = new ArrayList<>();
+	
+	/**
+	 * The {@link ArenaSlot}s waiting to be pasted or cleared
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Deque<Job> jobs = new ArrayDeque<>();
+	
+	/**
+	 * The {@link Source}s being loaded or pasted from by their {@link GameMap}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<GameMap, Source> sources = new HashMap<>();
+	
+	/**
+	 * The {@link BukkitTask} that pastes and clears the {@link ArenaSlot}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * Create a new {@link ArenaManager} and start its {@link BukkitTask}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public ArenaManager() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, 1, 1);
+	}
+	
+	/**
+	 * Check if a {@link GameMap} with some {@link ArenaBounds} fits in an {@link ArenaSlot}
+	 * 
+	 * @param bounds The {@link ArenaBounds} of the {@link GameMap}
+	 * 
+	 * @return True if the given {@link ArenaBounds} fit in an {@link ArenaSlot}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean fits(@Nullable ArenaBounds bounds) {
+		int size = getSlotSize() - GAP;
+		return bounds != null && bounds.getWidth() <= size && bounds.getLength() <= size;
+	}
+	
+	/**
+	 * {@link Method} to paste a copy of a {@link GameMap} into a free {@link ArenaSlot}, the
+	 * created {@link GameWorld} is ready when {@link GameWorld#isArenaReady()}, its source is
+	 * cloned in another thread so this {@link Method} never loads a {@link World} by itself
+	 * 
+	 * @param gameMap The {@link GameMap} to paste
+	 * @param type The {@link GameType} of the {@link GameWorld} to create
+	 * 
+	 * @return A {@link GameWorld} that is a view of the {@link ArenaSlot}, or null if the given
+	 * {@link GameMap} does not fit or has no source to paste from
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public GameWorld create(@NotNull GameMap gameMap, @NotNull GameType type) {
+		if (gameMap == null || type == null) return null;
+		
+		ArenaBounds source = gameMap.getBounds();
+		
+		if (!fits(source) || !gameMap.getWorldSource().isDirectory()) return null;
+		
+		Grid grid = getFreeGrid();
+		
+		if (grid == null) return null;
+		
+		int index = grid.used.nextClearBit(0);
+		int slotSize = getSlotSize();
+		
+		grid.used.set(index);
+		
+		ArenaSlot slot = new ArenaSlot(grid.world, index, gameMap.getName(), source,
+				index % GRID_SIDE * slotSize, index / GRID_SIDE * slotSize);
+		
+		Source from = getSource(gameMap);
+		
+		from.users++;
+		jobs.addLast(new Job(slot, from, false));
+		
+		return new GameWorld(grid.world, gameMap.getSpawnTable(type)
+				.bind(grid.world, slot.getOffsetX(), 0, slot.getOffsetZ()), type, slot);
+	}
+	
+	/**
+	 * {@link Method} to give an {@link ArenaSlot} back, its blocks are cleared before it can be
+	 * used again
+	 * 
+	 * @param slot The {@link ArenaSlot} to give back
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void release(@NotNull ArenaSlot slot) {
+		if (slot == null || slot.released) return;
+		
+		slot.released = true;
+		
+		ArenaBounds bounds = slot.getBounds();
+		
+		for (Entity entity : slot.getWorld().getEntities()) {
+			if (!(entity instanceof Player) && bounds.contains(entity.getLocation().getBlockX(),
+					entity.getLocation().getBlockY(), entity.getLocation().getBlockZ())) {
+				
+				entity.remove();
+			}
+		}
+		jobs.addLast(new Job(slot, null, true));
+	}
+	
+	/**
+	 * Get the amount of {@link ArenaSlot}s in use, including the ones being pasted or cleared
+	 * 
+	 * @return The amount of used {@link ArenaSlot}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getUsedSlots() {
+		int amount = 0;
+		
+		for (Grid grid : grids) {
+			amount += grid.used.cardinality();
+		}
+		return amount;
+	}
+	
+	/**
+	 * Get the amount of shared {@link World}s created by this {@link ArenaManager}
+	 * 
+	 * @return The amount of shared {@link World}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getWorldsAmount() {
+		return grids.size();
+	}
+	
+	/**
+	 * Get the amount of {@link ArenaSlot}s waiting to be pasted or cleared
+	 * 
+	 * @return The amount of queued {@link ArenaSlot}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getQueueDepth() {
+		return jobs.size();
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link ArenaManager}, the shared {@link World}s are given to the
+	 * {@link WorldReclaimer}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		jobs.clear();
+		
+		WorldReclaimer reclaimer = Arcade.getInstance().getMapManager().getWorldReclaimer();
+		
+		for (Grid grid : grids) {
+			reclaimer.reclaim(grid.world);
+		}
+		for (Source source : sources.values()) {
+			if (source.world != null) {
+				reclaimer.reclaim(source.world);
+			}
+		}
+		grids.clear();
+		sources.clear();
+	}
+	
+	/**
+	 * Internal {@link Method} to get the size of each side of an {@link ArenaSlot}
+	 * 
+	 * @return The configured size of an {@link ArenaSlot} in blocks
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 256)
+	private static int getSlotSize() {
+		return (int) Math.max(GAP * 2, Storage.getLong(ArcadeConfig.ARENA_SLOT_SIZE));
+	}
+	
+	/**
+	 * Internal {@link Method} to get a shared {@link World} with a free {@link ArenaSlot}, a new
+	 * one is created if all of them are full
+	 * 
+	 * @return The {@link Grid} of the shared {@link World}, or null if it could not be created
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private Grid getFreeGrid() {
+		for (Grid grid : grids) {
+			if (grid.used.cardinality() < GRID_SIDE * GRID_SIDE) {
+				return grid;
+			}
+		}
+		World world = WorldAPI.createVoidWolrd(WorldReclaimer.newWorldName("arena",
+				"compartilhada"));
+		
+		if (world == null) return null;
+		
+		world.setAutoSave(false);
+		
+		Grid grid = new Grid(world);
+		
+		grids.add(grid);
+		return grid;
+	}
+	
+	/**
+	 * Internal {@link Method} to get the {@link Source} of a {@link GameMap}, a new one is cloned
+	 * in another thread and loaded in the main thread if there is none
+	 * 
+	 * @param gameMap The {@link GameMap} to paste from
+	 * 
+	 * @return The {@link Source} of the given {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	private Source getSource(@NotNull GameMap gameMap) {
+		Source source = sources.get(gameMap);
+		
+		if (source != null) return source;
+		
+		Source created = new Source(gameMap, WorldReclaimer.newWorldName("arena",
+				gameMap.getName()));
+		
+		File folder = gameMap.getWorldSource();
+		Arcade arcade = Arcade.getInstance();
+		
+		sources.put(gameMap, created);
+		
+		Bukkit.getScheduler().runTaskAsynchronously(arcade, () -> {
+			boolean cloned = WorldCloner.copy(folder, created.name);
+			
+			Bukkit.getScheduler().runTask(arcade, () -> {
+				if (sources.get(gameMap) != created) {
+					if (cloned) {
+						arcade.getMapManager().getWorldReclaimer().reclaim(
+								new File(Bukkit.getWorldContainer(), created.name));
+					}
+					return;
+				}
+				if (cloned) {
+					arcade.getMapManager().getChunkPreloader().skipSpawnPreload(created.name);
+					created.world = WorldCloner.load(created.name, gameMap.getBounds());
+				}
+				created.loaded = true;
+			});
+		});
+		return created;
+	}
+	
+	/**
+	 * Internal {@link Method} to stop pasting from a {@link Source}, its {@link World} is given to
+	 * the {@link WorldReclaimer} once no {@link ArenaSlot} is being pasted from it
+	 * 
+	 * @param source The {@link Source} of a finished paste
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void release(@NotNull Source source) {
+		if (--source.users > 0) return;
+		
+		sources.remove(source.gameMap, source);
+		
+		if (source.world != null) {
+			Arcade.getInstance().getMapManager().getWorldReclaimer().reclaim(source.world);
+			source.world = null;
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to paste and clear the queued {@link ArenaSlot}s, limited by the
+	 * configured amount of blocks per tick, the pastes whose {@link Source} is still being loaded
+	 * are moved to the end of the queue
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@SuppressWarnings("deprecation")
+	private void tick() {
+		long budget = Math.max(1, Storage.getLong(ArcadeConfig.ARENA_BLOCKS_PER_TICK));
+		int waiting = 0;
+		
+		while (budget > 0 && waiting < jobs.size()) {
+			Job job = jobs.peekFirst();
+			ArenaSlot slot = job.slot;
+			
+			if (!job.clear) {
+				if (!slot.released && !job.source.loaded) {
+					jobs.addLast(jobs.pollFirst());
+					waiting++;
+					continue;
+				}
+				if (slot.released || job.source.world == null) {
+					slot.failed = job.source.world == null;
+					jobs.pollFirst();
+					release(job.source);
+					continue;
+				}
+			}
+			ArenaBounds source = slot.source;
+			ArenaBounds target = slot.getBounds();
+			long volume = source.getVolume();
+			int height = source.getHeight();
+			int length = source.getLength();
+			
+			while (budget > 0 && job.cursor < volume) {
+				long index = job.cursor++;
+				int y = (int) (index % height);
+				int z = (int) (index / height % length);
+				int x = (int) (index / height / length);
+				
+				Block block = slot.getWorld().getBlockAt(target.getMinX() + x,
+						target.getMinY() + y, target.getMinZ() + z);
+				
+				Block original = job.clear ? null : job.source.world.getBlockAt(
+						source.getMinX() + x, source.getMinY() + y, source.getMinZ() + z);
+				
+				int id = original == null ? 0 : original.getTypeId();
+				byte data = original == null ? 0 : original.getData();
+				
+				if (block.getTypeId() != id || block.getData() != data) {
+					block.setTypeIdAndData(id, data, false);
+				}
+				if (original != null && TileSnapshot.hasTileEntity(original.getType())) {
+					TileSnapshot tile = TileSnapshot.capture(original.getState());
+					
+					if (tile != null) {
+						tile.apply(block);
+					}
+				}
+				budget--;
+			}
+			if (job.cursor >= volume) {
+				jobs.pollFirst();
+				
+				if (job.clear) {
+					for (Grid grid : grids) {
+						if (grid.world == slot.getWorld()) {
+							grid.used.clear(slot.index);
+						}
+					}
+				}
+				else {
+					slot.ready = true;
+					release(job.source);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep a shared {@link World} and its used {@link ArenaSlot}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Grid {
+		
+		/**
+		 * The shared {@link World}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final World world;
+		
+		/**
+		 * The indexes of the used {@link ArenaSlot}s
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final BitSet used = new BitSet(GRID_SIDE * GRID_SIDE);
+		
+		/**
+		 * Create a new {@link Grid}
+		 * 
+		 * @param world The shared {@link World}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Grid(@NotNull World world) {
+			this.world = world;
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep the progress of an {@link ArenaSlot} being pasted or cleared
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Job {
+		
+		/**
+		 * The {@link ArenaSlot} to paste or clear
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final ArenaSlot slot;
+		
+		/**
+		 * The {@link Source} to copy the blocks from, null when clearing
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final Source source;
+		
+		/**
+		 * True to clear the {@link ArenaSlot}, false to paste it
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final boolean clear;
+		
+		/**
+		 * The index of the next block to process
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private long cursor = 0;
+		
+		/**
+		 * Create a new {@link Job}
+		 * 
+		 * @param slot The {@link ArenaSlot} to paste or clear
+		 * @param source The {@link Source} to copy the blocks from, null when clearing
+		 * @param clear True to clear the {@link ArenaSlot}, false to paste it
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Job(@NotNull ArenaSlot slot, @Nullable Source source, boolean clear) {
+			this.slot = slot;
+			this.source = source;
+			this.clear = clear;
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep the clone of a {@link GameMap} source that the {@link ArenaSlot}s are
+	 * pasted from, it is never saved so its region files can be hard linked
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Source {
+		
+		/**
+		 * The {@link GameMap} of this {@link Source}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final GameMap gameMap;
+		
+		/**
+		 * The name of the cloned {@link World}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final String name;
+		
+		/**
+		 * The cloned {@link World}, null while it is being loaded or if it could not be loaded
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private World world;
+		
+		/**
+		 * If the clone has finished, even if it could not be loaded
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private boolean loaded = false;
+		
+		/**
+		 * The amount of queued pastes of this {@link Source}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private int users = 0;
+		
+		/**
+		 * Create a new {@link Source}
+		 * 
+		 * @param gameMap The {@link GameMap} to paste from
+		 * @param name The name of the cloned {@link World}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Source(@NotNull GameMap gameMap, @NotNull String name) {
+			this.gameMap = gameMap;
+			this.name = name;
+		}
+	}
+}
\ No newline at end of file
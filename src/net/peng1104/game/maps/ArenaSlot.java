@@ -0,0 +1,200 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+
+import org.bukkit.World;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link Class} to represent the region of a shared arena {@link World} where a copy of a
+ * {@link GameMap} has been pasted by the {@link ArenaManager}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class ArenaSlot {
+	
+	/**
+	 * See {@link #getWorld()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final World world;
+	
+	/**
+	 * The index of this {@link ArenaSlot} in the grid of its {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	final int index;
+	
+	/**
+	 * See {@link #getMapName()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final String mapName;
+	
+	/**
+	 * The {@link ArenaBounds} of the {@link GameMap} in its source {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	final ArenaBounds source;
+	
+	/**
+	 * See {@link #getBounds()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ArenaBounds bounds;
+	
+	/**
+	 * See {@link #isReady()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	volatile boolean ready = false;
+	
+	/**
+	 * If this {@link ArenaSlot} has been given back to the {@link ArenaManager}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	volatile boolean released = false;
+	
+	/**
+	 * See {@link #isFailed()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	volatile boolean failed = false;
+	
+	/**
+	 * Create a new {@link ArenaSlot}
+	 * 
+	 * @param world The shared arena {@link World}
+	 * @param index The index of the {@link ArenaSlot} in the grid of the given {@link World}
+	 * @param mapName The name of the pasted {@link GameMap}
+	 * @param source The {@link ArenaBounds} of the {@link GameMap} in its source {@link World}
+	 * @param originX The smallest x coordinate of the {@link ArenaSlot}
+	 * @param originZ The smallest z coordinate of the {@link ArenaSlot}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	ArenaSlot(@NotNull World world, int index, @NotNull String mapName,
+			@NotNull ArenaBounds source, int originX, int originZ) {
+		
+		this.world = world;
+		this.index = index;
+		this.mapName = mapName;
+		this.source = source;
+		bounds = source.offset(originX - source.getMinX(), 0, originZ - source.getMinZ());
+	}
+	
+	/**
+	 * Get the shared arena {@link World} of this {@link ArenaSlot}
+	 * 
+	 * @return The {@link World} of this {@link ArenaSlot}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = World.class)
+	public World getWorld() {
+		return world;
+	}
+	
+	/**
+	 * Get the name of the {@link GameMap} pasted in this {@link ArenaSlot}
+	 * 
+	 * @return The name of the {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = String.class)
+	public String getMapName() {
+		return mapName;
+	}
+	
+	/**
+	 * Get the region of the {@link #getWorld()} used by this {@link ArenaSlot}
+	 * 
+	 * @return The {@link ArenaBounds} of this {@link ArenaSlot}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArenaBounds.class)
+	public ArenaBounds getBounds() {
+		return bounds;
+	}
+	
+	/**
+	 * Get the offset in the x axis between the {@link GameMap} and this {@link ArenaSlot}
+	 * 
+	 * @return The offset in the x axis
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getOffsetX() {
+		return bounds.getMinX() - source.getMinX();
+	}
+	
+	/**
+	 * Get the offset in the z axis between the {@link GameMap} and this {@link ArenaSlot}
+	 * 
+	 * @return The offset in the z axis
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getOffsetZ() {
+		return bounds.getMinZ() - source.getMinZ();
+	}
+	
+	/**
+	 * Check if the {@link GameMap} has been fully pasted in this {@link ArenaSlot}
+	 * 
+	 * @return True if this {@link ArenaSlot} is ready to be played
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isReady() {
+		return ready && !released;
+	}
+	
+	/**
+	 * Check if the {@link GameMap} could not be pasted in this {@link ArenaSlot} because its
+	 * source could not be loaded, a failed {@link ArenaSlot} is never ready
+	 * 
+	 * @return True if this {@link ArenaSlot} will never be ready
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isFailed() {
+		return failed;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,413 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link Class} to keep the original state of the blocks changed in a {@link GameWorld}, the
+ * states are kept in primitive arrays indexed by an open addressing table of the packed block
+ * coordinates, only the first change of each block is kept, the few blocks with a tile entity
+ * also keep a {@link TileSnapshot} of it
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class BlockJournal {
+	
+	/**
+	 * The initial size of the {@link #table}, must be a power of two
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int INITIAL_CAPACITY = 256;
+	
+	/**
+	 * The region of the {@link World} journaled by this {@link BlockJournal}, null for the whole
+	 * {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ArenaBounds bounds;
+	
+	/**
+	 * The open addressing table, each slot keeps the index in the log plus one, zero for an
+	 * empty slot
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int[] table = new int[INITIAL_CAPACITY];
+	
+	/**
+	 * The packed coordinates of each journaled block, in the order they were changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long[] keys = new long[INITIAL_CAPACITY / 2];
+	
+	/**
+	 * The original state of each journaled block, the type id shifted by four bits plus the data
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int[] states = new int[INITIAL_CAPACITY / 2];
+	
+	/**
+	 * See {@link #size()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int size = 0;
+	
+	/**
+	 * The {@link TileSnapshot}s of the journaled blocks with a tile entity by their packed
+	 * coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Long, TileSnapshot> tiles = new HashMap<>();
+	
+	/**
+	 * If this {@link BlockJournal} is being restored, no block is journaled until it is empty
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private boolean restoring = false;
+	
+	/**
+	 * Create a new empty {@link BlockJournal}
+	 * 
+	 * @param bounds The region of the {@link World} to journal, null for the whole {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public BlockJournal(@Nullable ArenaBounds bounds) {
+		this.bounds = bounds;
+	}
+	
+	/**
+	 * Pack the coordinates of a block into a long, 26 bits for x and z and 12 bits for y
+	 * 
+	 * @param x The x coordinate of the block
+	 * @param y The y coordinate of the block
+	 * @param z The z coordinate of the block
+	 * 
+	 * @return The packed coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public static long pack(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | y & 0xFFF;
+	}
+	
+	/**
+	 * Get the x coordinate of packed coordinates
+	 * 
+	 * @param key The packed coordinates
+	 * 
+	 * @return The x coordinate of the block
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #pack(int, int, int)
+	 */
+	
+	@Default(Int = 0)
+	public static int unpackX(long key) {
+		return (int) (key >> 38);
+	}
+	
+	/**
+	 * Get the y coordinate of packed coordinates
+	 * 
+	 * @param key The packed coordinates
+	 * 
+	 * @return The y coordinate of the block
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #pack(int, int, int)
+	 */
+	
+	@Default(Int = 0)
+	public static int unpackY(long key) {
+		return (int) (key & 0xFFF);
+	}
+	
+	/**
+	 * Get the z coordinate of packed coordinates
+	 * 
+	 * @param key The packed coordinates
+	 * 
+	 * @return The z coordinate of the block
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #pack(int, int, int)
+	 */
+	
+	@Default(Int = 0)
+	public static int unpackZ(long key) {
+		return (int) (key << 26 >> 38);
+	}
+	
+	/**
+	 * Check if a block is journaled by this {@link BlockJournal}
+	 * 
+	 * @param x The x coordinate of the block
+	 * @param y The y coordinate of the block
+	 * @param z The z coordinate of the block
+	 * 
+	 * @return True if the given block is inside the region of this {@link BlockJournal}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean accepts(int x, int y, int z) {
+		return bounds == null || bounds.contains(x, y, z);
+	}
+	
+	/**
+	 * {@link Method} to journal a {@link Block} before it changes
+	 * 
+	 * @param block The {@link Block} that is about to change
+	 * 
+	 * @return True if the {@link Block} has been journaled, false if it already was
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	@SuppressWarnings("deprecation")
+	public boolean record(@NotNull Block block) {
+		if (!record(block.getX(), block.getY(), block.getZ(),
+				block.getTypeId() << 4 | block.getData() & 0xF)) {
+			
+			return false;
+		}
+		if (TileSnapshot.hasTileEntity(block.getType())) {
+			recordTile(block.getState());
+		}
+		return true;
+	}
+	
+	/**
+	 * {@link Method} to journal the original state of a {@link Block} that has already been
+	 * replaced
+	 * 
+	 * @param state The {@link BlockState} of the {@link Block} before it was replaced
+	 * 
+	 * @return True if the {@link Block} has been journaled, false if it already was
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	@SuppressWarnings("deprecation")
+	public boolean record(@NotNull BlockState state) {
+		if (!record(state.getX(), state.getY(), state.getZ(),
+				state.getTypeId() << 4 | state.getRawData() & 0xF)) {
+			
+			return false;
+		}
+		if (TileSnapshot.hasTileEntity(state.getType())) {
+			recordTile(state);
+		}
+		return true;
+	}
+	
+	/**
+	 * {@link Method} to journal the original state of a block
+	 * 
+	 * @param x The x coordinate of the block
+	 * @param y The y coordinate of the block
+	 * @param z The z coordinate of the block
+	 * @param state The type id of the block shifted by four bits plus its data
+	 * 
+	 * @return True if the block has been journaled, false if it already was or this
+	 * {@link BlockJournal} is being restored
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean record(int x, int y, int z, int state) {
+		if (restoring) return false;
+		
+		long key = pack(x, y, z);
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+		
+		while (table[slot] != 0) {
+			if (keys[table[slot] - 1] == key) return false;
+			
+			slot = slot + 1 & mask;
+		}
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2);
+			states = Arrays.copyOf(states, size * 2);
+		}
+		keys[size] = key;
+		states[size] = state;
+		table[slot] = ++size;
+		
+		if (size * 2 > table.length) {
+			rehash(table.length * 2);
+		}
+		return true;
+	}
+	
+	/**
+	 * Get the amount of journaled blocks
+	 * 
+	 * @return The amount of blocks waiting to be restored
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * {@link Method} to restore the most recently changed blocks, they are removed from this
+	 * {@link BlockJournal}, no block is journaled until all of them have been restored
+	 * 
+	 * @param world The {@link World} of the blocks
+	 * @param amount The maximum amount of blocks to restore
+	 * 
+	 * @return The amount of blocks restored
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	@SuppressWarnings("deprecation")
+	public int restore(@NotNull World world, int amount) {
+		int restored = 0;
+		
+		restoring = size > 0;
+		
+		while (restored < amount && size > 0) {
+			long key = keys[--size];
+			int state = states[size];
+			Block block = world.getBlockAt(unpackX(key), unpackY(key), unpackZ(key));
+			
+			block.setTypeIdAndData(state >>> 4, (byte) (state & 0xF), false);
+			
+			if (!tiles.isEmpty()) {
+				TileSnapshot tile = tiles.remove(key);
+				
+				if (tile != null) {
+					tile.apply(block);
+				}
+			}
+			restored++;
+		}
+		if (size == 0) {
+			clear();
+		}
+		return restored;
+	}
+	
+	/**
+	 * {@link Method} to forget all the journaled blocks without restoring them
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void clear() {
+		size = 0;
+		restoring = false;
+		tiles.clear();
+		
+		if (table.length > INITIAL_CAPACITY * 64) {
+			table = new int[INITIAL_CAPACITY];
+			keys = new long[INITIAL_CAPACITY / 2];
+			states = new int[INITIAL_CAPACITY / 2];
+		}
+		else {
+			Arrays.fill(table, 0);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to keep the {@link TileSnapshot} of a journaled {@link Block}
+	 * 
+	 * @param state The {@link BlockState} of the {@link Block} before it changes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void recordTile(@NotNull BlockState state) {
+		TileSnapshot tile = TileSnapshot.capture(state);
+		
+		if (tile != null) {
+			tiles.put(pack(state.getX(), state.getY(), state.getZ()), tile);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to move the log indexes into a bigger {@link #table}
+	 * 
+	 * @param capacity The new size of the {@link #table}, must be a power of two
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void rehash(int capacity) {
+		int[] rehashed = new int[capacity];
+		int mask = capacity - 1;
+		
+		for (int i = 0; i < size; i++) {
+			int slot = hash(keys[i]) & mask;
+			
+			while (rehashed[slot] != 0) {
+				slot = slot + 1 & mask;
+			}
+			rehashed[slot] = i + 1;
+		}
+		table = rehashed;
+	}
+	
+	/**
+	 * Internal {@link Method} to spread the bits of a packed key
+	 * 
+	 * @param key The packed coordinates
+	 * 
+	 * @return The hash of the given key
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	private static int hash(long key) {
+		key *= 0x9E3779B97F4A7C15L;
+		return (int) (key ^ key >>> 32);
+	}
+}
\ No newline at end of file
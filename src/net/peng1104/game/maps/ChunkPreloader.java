@@ -0,0 +1,625 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldInitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link Class} to load the {@link Chunk}s of the arenas of the {@link GameWorld}s before the
+ * {@link GameWorld}s are used, the {@link Chunk}s are loaded in a limited amount per tick and kept
+ * loaded until the arena of their {@link GameWorld} is released, an arena with
+ * {@link ArenaBounds} pins all the {@link Chunk}s inside them and the stray {@link Chunk}s outside
+ * them are unloaded periodically
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class ChunkPreloader implements Listener {
+	
+	/**
+	 * The arenas being prepared or pinned, by their {@link GameWorld}s, in the order they were
+	 * queued
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<GameWorld, Arena> arenas = new LinkedHashMap<>();
+	
+	/**
+	 * The arenas being prepared or pinned, by their {@link World}s, a shared {@link World} can
+	 * have many arenas
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<World, List<Arena>> pins = new HashMap<>();
+	
+	/**
+	 * The {@link BukkitTask} that loads the {@link Chunk}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * The amount of ticks since the last stray {@link Chunk} sweep
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int ticksSinceSweep = 0;
+	
+	/**
+	 * See {@link #getUnloadedStrays()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long unloadedStrays = 0;
+	
+	/**
+	 * The names of the {@link World}s about to be loaded that must not keep their spawn
+	 * {@link Chunk}s loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Set<String> lazyWorlds = new HashSet<>();
+	
+	/**
+	 * Create a new {@link ChunkPreloader}, start its {@link BukkitTask} and register it as a
+	 * {@link Listener}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public ChunkPreloader() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, 1, 1);
+		Bukkit.getPluginManager().registerEvents(this, Arcade.getInstance());
+	}
+	
+	/**
+	 * Pack the coordinates of a {@link Chunk} into a long
+	 * 
+	 * @param x The x coordinate of the {@link Chunk}
+	 * @param z The z coordinate of the {@link Chunk}
+	 * 
+	 * @return The packed coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public static long pack(int x, int z) {
+		return (long) x << 32 | z & 0xFFFFFFFFL;
+	}
+	
+	/**
+	 * {@link Method} to stop the next {@link World} loaded with a name from loading its spawn
+	 * {@link Chunk}s all at once, so they can be prepared by this {@link ChunkPreloader} instead
+	 * 
+	 * @param name The name of the {@link World} about to be loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void skipSpawnPreload(@NotNull String name) {
+		if (name != null) {
+			lazyWorlds.add(name);
+		}
+	}
+	
+	/**
+	 * {@link Method} to start preparing the arena of a {@link GameWorld}, the {@link Chunk}s inside
+	 * its {@link ArenaBounds}, or around its spawn points if it has none, are queued to be loaded
+	 * and pinned
+	 * 
+	 * @param gameWorld The {@link GameWorld} to prepare
+	 * 
+	 * @return True if the arena of the given {@link GameWorld} is being prepared or is ready
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean prepare(@NotNull GameWorld gameWorld) {
+		if (gameWorld == null) return false;
+		
+		if (!arenas.containsKey(gameWorld)) {
+			ArenaBounds bounds = gameWorld.getBounds();
+			Arena arena = new Arena(gameWorld.getWorld(), bounds == null
+					? collect(gameWorld.getSpawnPoints()) : collect(bounds), bounds);
+			
+			arenas.put(gameWorld, arena);
+			pins.computeIfAbsent(gameWorld.getWorld(), world -> new ArrayList<>(1)).add(arena);
+		}
+		return true;
+	}
+	
+	/**
+	 * Check if the arena of a {@link GameWorld} has all its {@link Chunk}s loaded
+	 * 
+	 * @param gameWorld The {@link GameWorld} to check
+	 * 
+	 * @return True if the arena of the given {@link GameWorld} has been prepared
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isReady(@NotNull GameWorld gameWorld) {
+		Arena arena = gameWorld == null ? null : arenas.get(gameWorld);
+		return arena != null && arena.loaded >= arena.chunks.length;
+	}
+	
+	/**
+	 * {@link Method} to stop preparing and pinning the arena of a {@link GameWorld}
+	 * 
+	 * @param gameWorld The {@link GameWorld} to release
+	 * 
+	 * @return True if the arena of the given {@link GameWorld} was being prepared or pinned
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean release(@NotNull GameWorld gameWorld) {
+		Arena arena = gameWorld == null ? null : arenas.remove(gameWorld);
+		
+		if (arena == null) return false;
+		
+		List<Arena> worldArenas = pins.get(arena.world);
+		
+		if (worldArenas != null && worldArenas.remove(arena) && worldArenas.isEmpty()) {
+			pins.remove(arena.world);
+		}
+		return true;
+	}
+	
+	/**
+	 * Get the amount of {@link Chunk}s that are still waiting to be loaded
+	 * 
+	 * @return The amount of {@link Chunk}s waiting to be loaded in all the arenas
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getPendingChunks() {
+		int amount = 0;
+		
+		for (Arena arena : arenas.values()) {
+			amount += arena.chunks.length - arena.loaded;
+		}
+		return amount;
+	}
+	
+	/**
+	 * Get the amount of loaded {@link Chunk}s of a {@link GameWorld}, for an {@link ArenaSlot} only
+	 * the {@link Chunk}s inside its {@link ArenaBounds} are counted
+	 * 
+	 * @param gameWorld The {@link GameWorld} to count
+	 * 
+	 * @return The amount of loaded {@link Chunk}s of the given {@link GameWorld}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getLoadedChunks(@NotNull GameWorld gameWorld) {
+		if (gameWorld == null) return 0;
+		
+		Chunk[] loaded = gameWorld.getWorld().getLoadedChunks();
+		
+		if (gameWorld.getArenaSlot() == null) return loaded.length;
+		
+		ArenaBounds bounds = gameWorld.getArenaSlot().getBounds();
+		int amount = 0;
+		
+		for (Chunk chunk : loaded) {
+			if (contains(bounds, chunk.getX(), chunk.getZ())) {
+				amount++;
+			}
+		}
+		return amount;
+	}
+	
+	/**
+	 * Get the amount of stray {@link Chunk}s outside the {@link ArenaBounds} of the arenas that
+	 * have been unloaded since this {@link ChunkPreloader} was created
+	 * 
+	 * @return The amount of unloaded stray {@link Chunk}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getUnloadedStrays() {
+		return unloadedStrays;
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link ChunkPreloader}, all the arenas are released
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		HandlerList.unregisterAll(this);
+		arenas.clear();
+		pins.clear();
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to keep the {@link Chunk}s of the arenas loaded
+	 * 
+	 * @param event The {@link ChunkUnloadEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(ignoreCancelled = true)
+	public void onChunkUnload(ChunkUnloadEvent event) {
+		if (pins.isEmpty()) return;
+		
+		List<Arena> worldArenas = pins.get(event.getWorld());
+		
+		if (worldArenas != null) {
+			Chunk chunk = event.getChunk();
+			long key = pack(chunk.getX(), chunk.getZ());
+			
+			for (Arena arena : worldArenas) {
+				if (Arrays.binarySearch(arena.chunks, key) >= 0) {
+					event.setCancelled(true);
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to stop the {@link World}s given to
+	 * {@link #skipSpawnPreload(String)} from loading their spawn {@link Chunk}s
+	 * 
+	 * @param event The {@link WorldInitEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler
+	public void onWorldInit(WorldInitEvent event) {
+		if (!lazyWorlds.isEmpty() && lazyWorlds.remove(event.getWorld().getName())) {
+			event.getWorld().setKeepSpawnInMemory(false);
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to set the data values of the new {@link Chunk}s
+	 * generated from a {@link MapTemplate} before any other {@link Listener} sees them, so an
+	 * arena is only ready once all its {@link Chunk}s have their data values
+	 * 
+	 * @param event The {@link ChunkLoadEvent}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see MapTemplate#applyData(Chunk)
+	 */
+	
+	@EventHandler(priority = EventPriority.LOWEST)
+	public void onTemplateChunkLoad(ChunkLoadEvent event) {
+		if (event.isNewChunk()) {
+			MapTemplate.applyData(event.getChunk());
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to ask the new {@link Chunk}s generated outside the
+	 * {@link ArenaBounds} of a bounded {@link World} to be unloaded as soon as possible, they are
+	 * empty since the bounded {@link World}s are generated by an {@link EmptyChunkGenerator}, a
+	 * {@link MapTemplate} or as a void {@link World}, so generating them is cheap
+	 * 
+	 * @param event The {@link ChunkLoadEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onChunkLoad(ChunkLoadEvent event) {
+		if (pins.isEmpty() || !event.isNewChunk()) return;
+		
+		Chunk chunk = event.getChunk();
+		
+		if (isStray(pins.get(event.getWorld()), chunk.getX(), chunk.getZ())) {
+			event.getWorld().unloadChunkRequest(chunk.getX(), chunk.getZ());
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to keep the {@link Player}s of a bounded
+	 * {@link World} inside the {@link Chunk}s of its arenas, only checked when a {@link Player}
+	 * moves into another {@link Chunk}
+	 * 
+	 * @param event The {@link PlayerMoveEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(ignoreCancelled = true)
+	public void onPlayerMove(PlayerMoveEvent event) {
+		if (pins.isEmpty()) return;
+		
+		Location from = event.getFrom();
+		Location to = event.getTo();
+		int fromX = from.getBlockX() >> 4;
+		int fromZ = from.getBlockZ() >> 4;
+		int toX = to.getBlockX() >> 4;
+		int toZ = to.getBlockZ() >> 4;
+		
+		if (fromX == toX && fromZ == toZ || to.getWorld() != from.getWorld()) return;
+		
+		List<Arena> worldArenas = pins.get(to.getWorld());
+		
+		if (isStray(worldArenas, toX, toZ) && !isStray(worldArenas, fromX, fromZ)) {
+			event.setCancelled(true);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to load the queued {@link Chunk}s, limited by the configured amount
+	 * per tick, the arenas are prepared in the order they were queued, the stray {@link Chunk}s
+	 * are swept at the configured interval
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void tick() {
+		if (arenas.isEmpty()) return;
+		
+		if (++ticksSinceSweep >= Math.max(1, Storage.getLong(ArcadeConfig.ARENA_UNLOAD_INTERVAL))) {
+			ticksSinceSweep = 0;
+			sweep();
+		}
+		
+		int budget = (int) Math.max(1, Storage.getLong(ArcadeConfig.ARENA_CHUNKS_PER_TICK));
+		Iterator<Arena> iterator = arenas.values().iterator();
+		
+		while (budget > 0 && iterator.hasNext()) {
+			Arena arena = iterator.next();
+			
+			while (budget > 0 && arena.loaded < arena.chunks.length) {
+				long chunk = arena.chunks[arena.loaded++];
+				int x = (int) (chunk >> 32);
+				int z = (int) chunk;
+				
+				if (!arena.world.isChunkLoaded(x, z)) {
+					arena.world.loadChunk(x, z);
+					budget--;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to ask the loaded {@link Chunk}s outside the {@link ArenaBounds} of
+	 * the bounded {@link World}s to be unloaded, the {@link Chunk}s near {@link Player}s are kept
+	 * by Bukkit
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void sweep() {
+		for (Map.Entry<World, List<Arena>> entry : pins.entrySet()) {
+			World world = entry.getKey();
+			
+			for (Chunk chunk : world.getLoadedChunks()) {
+				if (isStray(entry.getValue(), chunk.getX(), chunk.getZ())
+						&& world.unloadChunkRequest(chunk.getX(), chunk.getZ(), true)) {
+					
+					unloadedStrays++;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to check if a {@link Chunk} is outside all the {@link ArenaBounds}
+	 * of the arenas of a {@link World}
+	 * 
+	 * @param worldArenas The arenas of the {@link World}, or null if it has none
+	 * @param x The x coordinate of the {@link Chunk}
+	 * @param z The z coordinate of the {@link Chunk}
+	 * 
+	 * @return True if the given {@link World} only has bounded arenas and the given {@link Chunk}
+	 * is outside all of them
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private static boolean isStray(@Nullable List<Arena> worldArenas, int x, int z) {
+		if (worldArenas == null || worldArenas.isEmpty()) return false;
+		
+		for (Arena arena : worldArenas) {
+			if (arena.bounds == null || contains(arena.bounds, x, z)) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Internal {@link Method} to check if a {@link Chunk} overlaps some {@link ArenaBounds}
+	 * 
+	 * @param bounds The {@link ArenaBounds} to check
+	 * @param x The x coordinate of the {@link Chunk}
+	 * @param z The z coordinate of the {@link Chunk}
+	 * 
+	 * @return True if the given {@link Chunk} has any block inside the given {@link ArenaBounds}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private static boolean contains(@NotNull ArenaBounds bounds, int x, int z) {
+		return x >= bounds.getMinX() >> 4 && x <= bounds.getMaxX() >> 4
+				&& z >= bounds.getMinZ() >> 4 && z <= bounds.getMaxZ() >> 4;
+	}
+	
+	/**
+	 * Internal {@link Method} to collect the {@link Chunk}s inside some {@link ArenaBounds}
+	 * 
+	 * @param bounds The {@link ArenaBounds} of the arena
+	 * 
+	 * @return A sorted array containing the packed coordinates of the {@link Chunk}s inside the
+	 * given {@link ArenaBounds}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = long[].class)
+	private static long[] collect(@NotNull ArenaBounds bounds) {
+		int minX = bounds.getMinX() >> 4;
+		int minZ = bounds.getMinZ() >> 4;
+		int maxX = bounds.getMaxX() >> 4;
+		int maxZ = bounds.getMaxZ() >> 4;
+		long[] chunks = new long[(maxX - minX + 1) * (maxZ - minZ + 1)];
+		int amount = 0;
+		
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				chunks[amount++] = pack(x, z);
+			}
+		}
+		Arrays.sort(chunks);
+		return chunks;
+	}
+	
+	/**
+	 * Internal {@link Method} to collect the {@link Chunk}s around some spawn points
+	 * 
+	 * @param spawnPoints The spawn points {@link Location}s
+	 * 
+	 * @return A sorted array without repetitions containing the packed coordinates of the
+	 * {@link Chunk}s around the given spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = long[].class)
+	private static long[] collect(@NotNull List<Location> spawnPoints) {
+		int radius = (int) Math.max(0, Storage.getLong(ArcadeConfig.ARENA_CHUNK_RADIUS));
+		int side = radius * 2 + 1;
+		long[] chunks = new long[spawnPoints.size() * side * side];
+		int amount = 0;
+		
+		for (Location location : spawnPoints) {
+			int centerX = location.getBlockX() >> 4;
+			int centerZ = location.getBlockZ() >> 4;
+			
+			for (int x = -radius; x <= radius; x++) {
+				for (int z = -radius; z <= radius; z++) {
+					chunks[amount++] = pack(centerX + x, centerZ + z);
+				}
+			}
+		}
+		Arrays.sort(chunks);
+		
+		int unique = 0;
+		
+		for (int i = 0; i < amount; i++) {
+			if (unique == 0 || chunks[unique - 1] != chunks[i]) {
+				chunks[unique++] = chunks[i];
+			}
+		}
+		return Arrays.copyOf(chunks, unique);
+	}
+	
+	/**
+	 * {@link Class} to keep the {@link Chunk}s of an arena
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Arena {
+		
+		/**
+		 * The {@link World} of this {@link Arena}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final World world;
+		
+		/**
+		 * The sorted packed coordinates of the {@link Chunk}s of this {@link Arena}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long[] chunks;
+		
+		/**
+		 * The amount of {@link #chunks} that have been loaded
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private int loaded = 0;
+		
+		/**
+		 * The {@link ArenaBounds} of this {@link Arena}, null if it is not bounded
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final ArenaBounds bounds;
+		
+		/**
+		 * Create a new {@link Arena}
+		 * 
+		 * @param world The {@link World} of the {@link Arena}
+		 * @param chunks The sorted packed coordinates of the {@link Chunk}s of the {@link Arena}
+		 * @param bounds The {@link ArenaBounds} of the {@link Arena}, or null if it is not bounded
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Arena(@NotNull World world, @NotNull long[] chunks, @Nullable ArenaBounds bounds) {
+			this.world = world;
+			this.chunks = chunks;
+			this.bounds = bounds;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package net.peng1104.game.maps;
+
+import java.util.Random;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.generator.ChunkGenerator;
+
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link ChunkGenerator} that generates empty {@link Chunk}s, given to the {@link World}s cloned
+ * from a {@link GameMap} with {@link ArenaBounds}, all the {@link Chunk}s inside the
+ * {@link ArenaBounds} are already in the cloned region files, so only the stray {@link Chunk}s
+ * outside them are generated, without terrain, structures or populators
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ * 
+ * @see ChunkPreloader
+ */
+
+final class EmptyChunkGenerator extends ChunkGenerator {
+	
+	@Override
+	public short[][] generateExtBlockSections(World world, Random random, int x, int z,
+			BiomeGrid biomes) {
+		
+		return new short[world.getMaxHeight() >> 4][];
+	}
+	
+	@Override
+	public boolean canSpawn(World world, int x, int z) {
+		return true;
+	}
+}
\ No newline at end of file
@@ -3,14 +3,23 @@ package net.peng1104.game.maps;
 import java.io.File;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.scheduler.BukkitRunnable;
 
+import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
 import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.files.ArenaBounds;
 import net.peng1104.storage.game.files.GameMapFile;
+import net.peng1104.storage.game.files.MapDescriptor;
+import net.peng1104.storage.game.files.SpawnTable;
 import net.peng1104.utils.WorldAPI;
 
 /**
@@ -40,12 +49,47 @@ public class GameMap {
 	private final File source;
 	
 	/**
-	 * The config {@link File} of this {@link GameMap}
+	 * The config {@link File} of this {@link GameMap}, null until it is first needed, it is
+	 * volatile since the {@link GameMap}s are loaded in parallel
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	private final GameMapFile configFile;
+	private volatile GameMapFile configFile;
+	
+	/**
+	 * The {@link MapIndex.Entry} of this {@link GameMap}, used while the {@link #configFile} has
+	 * not been loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final MapIndex.Entry descriptor;
+	
+	/**
+	 * The {@link MapDescriptor} of this {@link GameMap}, used while the {@link #configFile} has
+	 * not been loaded, null until it is first needed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private volatile MapDescriptor mapDescriptor;
+	
+	/**
+	 * If the {@link MapDescriptor} {@link File} has already been read
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private volatile boolean mapDescriptorRead = false;
+	
+	/**
+	 * See {@link #getTemplate()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private volatile MapTemplate template;
 	
 	/**
 	 * The maintance {@link GameWorld}
@@ -55,6 +99,15 @@ public class GameMap {
 	
 	private GameWorld maintanceGameWorld;
 	
+	/**
+	 * The {@link CompletableFuture} shared by the requests of the
+	 * {@link #getMaintenanceGameWorldAsync()} while it is being loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private CompletableFuture<GameWorld> pendingMaintenance;
+	
 	/**
 	 * Create a new {@link GameMap}
 	 * 
@@ -76,7 +129,28 @@ public class GameMap {
 		}
 		this.name = name;
 		this.source = source;
-		configFile = new GameMapFile(name);
+		descriptor = null;
+	}
+	
+	/**
+	 * Create a new {@link GameMap} from its {@link MapIndex.Entry}, the {@link GameMapFile} is
+	 * only parsed when it is first needed
+	 * 
+	 * @param name The name of this {@link GameMap}
+	 * @param source The source for the {@link #createGameWorld(GameType, int)}
+	 * @param descriptor The {@link MapIndex.Entry} of this {@link GameMap}
+	 * @param configFile The already parsed {@link GameMapFile}, or null to parse it later
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	GameMap(@NotNull String name, @NotNull File source, @NotNull MapIndex.Entry descriptor,
+			@Nullable GameMapFile configFile) {
+		
+		this.name = name;
+		this.source = source;
+		this.descriptor = descriptor;
+		this.configFile = configFile;
 	}
 	
 	/**
@@ -106,7 +180,8 @@ public class GameMap {
 	}
 	
 	/**
-	 * The {@link GameMapFile} of this {@link GameMap}
+	 * The {@link GameMapFile} of this {@link GameMap}, it is parsed only once even if it is first
+	 * needed by many threads at the same time
 	 * 
 	 * @return The {@link GameMapFile} of this {@link GameMap}
 	 * 
@@ -115,7 +190,165 @@ public class GameMap {
 	
 	@Default(value = GameMapFile.class)
 	public GameMapFile getConfigFile() {
-		return configFile;
+		GameMapFile mapFile = configFile;
+		
+		if (mapFile == null) {
+			synchronized (this) {
+				mapFile = configFile;
+				
+				if (mapFile == null) {
+					mapFile = new GameMapFile(name);
+					configFile = mapFile;
+				}
+			}
+		}
+		return mapFile;
+	}
+	
+	/**
+	 * Check if a {@link GameType} is valid for this {@link GameMap}, without parsing the
+	 * {@link GameMapFile} if it has not been loaded yet
+	 * 
+	 * @param type The {@link GameType} to check
+	 * 
+	 * @return True if the given {@link GameType} is valid for this {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFile#isValidType(GameType)
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isValidType(@NotNull GameType type) {
+		if (configFile == null && descriptor != null) {
+			return descriptor.isValidType(type);
+		}
+		return getConfigFile().isValidType(type);
+	}
+	
+	/**
+	 * Get the amount of spawn points of a {@link GameType} in this {@link GameMap}, without
+	 * parsing the {@link GameMapFile} if it has not been loaded yet
+	 * 
+	 * @param type The {@link GameType} of the spawn points
+	 * 
+	 * @return The amount of spawn points of the given {@link GameType}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getSpawnPointsAmount(@NotNull GameType type) {
+		if (configFile == null && descriptor != null) {
+			return descriptor.getSpawnPointsAmount(type);
+		}
+		return type == null ? 0 : getConfigFile().getSpawnTable(type).size();
+	}
+	
+	/**
+	 * Get the compiled spawn points of a {@link GameType} in this {@link GameMap}, without
+	 * parsing the {@link GameMapFile} if its {@link MapDescriptor} is up to date
+	 * 
+	 * @param type The {@link GameType} of the spawn points
+	 * 
+	 * @return The {@link SpawnTable} of the given {@link GameType}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFile#getSpawnTable(GameType)
+	 */
+	
+	@Default(value = SpawnTable.class)
+	public SpawnTable getSpawnTable(@NotNull GameType type) {
+		MapDescriptor compiled = getMapDescriptor();
+		
+		if (compiled != null) return compiled.getSpawnTable(type);
+		
+		return getConfigFile().getSpawnTable(type);
+	}
+	
+	/**
+	 * Get the {@link ArenaBounds} of this {@link GameMap}, without parsing the
+	 * {@link GameMapFile} if its {@link MapDescriptor} is up to date
+	 * 
+	 * @return The {@link ArenaBounds} of this {@link GameMap}, or null if they are not configured
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFile#getBounds()
+	 */
+	
+	@Nullable
+	public ArenaBounds getBounds() {
+		MapDescriptor compiled = getMapDescriptor();
+		return compiled != null ? compiled.getBounds() : getConfigFile().getBounds();
+	}
+	
+	/**
+	 * Internal {@link Method} to set the {@link MapDescriptor} read or compiled at startup
+	 * 
+	 * @param mapDescriptor The {@link MapDescriptor} of this {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void setMapDescriptor(@Nullable MapDescriptor mapDescriptor) {
+		this.mapDescriptor = mapDescriptor;
+		mapDescriptorRead = true;
+	}
+	
+	/**
+	 * Internal {@link Method} to get the {@link MapDescriptor} of this {@link GameMap}, it is read
+	 * the first time it is needed
+	 * 
+	 * @return The {@link MapDescriptor}, or null if the {@link GameMapFile} has been loaded or the
+	 * {@link MapDescriptor} is missing or outdated
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private MapDescriptor getMapDescriptor() {
+		if (configFile != null) return null;
+		
+		if (!mapDescriptorRead) {
+			mapDescriptor = MapDescriptor.read(GameMapFile.getDescriptorFile(name), new File(
+					GameMapFile.getGameMapConfigContainer(), name + ".yml"));
+			
+			mapDescriptorRead = true;
+		}
+		return mapDescriptor;
+	}
+	
+	/**
+	 * Get the {@link MapTemplate} of this {@link GameMap}, when there is one the
+	 * {@link GameWorld}s are generated from the memory instead of cloning the
+	 * {@link #getWorldSource()}
+	 * 
+	 * @return The {@link MapTemplate} of this {@link GameMap}, or null if it has not been
+	 * converted
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see MapManager#convertToTemplate(String)
+	 */
+	
+	@Nullable
+	public MapTemplate getTemplate() {
+		return template;
+	}
+	
+	/**
+	 * Internal {@link Method} to set the {@link MapTemplate} of this {@link GameMap}
+	 * 
+	 * @param template The {@link MapTemplate} to use, or null to clone the
+	 * {@link #getWorldSource()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void setTemplate(@Nullable MapTemplate template) {
+		this.template = template;
 	}
 	
 	/**
@@ -138,27 +371,166 @@ public class GameMap {
 				world = WorldAPI.createWorld(source, name);
 			}
 			if (world != null) {
-				if (configFile.canBeUsed()) {
-					GameType type = configFile.getValidTypes().iterator().next();
-					
-					maintanceGameWorld = new GameWorld(world,
-							configFile.getSpawnPoints(world, type), type);
+				maintanceGameWorld = createMaintenanceGameWorld(world);
+			}
+		}
+		return maintanceGameWorld;
+	}
+	
+	/**
+	 * Check if the maintenance {@link GameWorld} of this {@link GameMap} is loaded or being loaded
+	 * 
+	 * @return True if the maintenance {@link GameWorld} has been requested and not reset since
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean hasMaintenanceGameWorld() {
+		return maintanceGameWorld != null || pendingMaintenance != null;
+	}
+	
+	/**
+	 * Get the maintenance {@link GameWorld} of this {@link GameMap} without stalling the server,
+	 * the source is copied in another thread without hard links, since the maintenance
+	 * {@link World} is edited and saved, and the {@link Chunk}s around its spawn points are
+	 * loaded by the {@link ChunkPreloader} in a limited amount per tick, concurrent requests share
+	 * the same {@link CompletableFuture}, this {@link Method} must be called in the main thread
+	 * 
+	 * @return A {@link CompletableFuture} completed in the main thread with the maintenance
+	 * {@link GameWorld}, or with null if it could not be loaded
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #getMaintenanceGameWorld()
+	 */
+	
+	@NotNull
+	public CompletableFuture<GameWorld> getMaintenanceGameWorldAsync() {
+		if (maintanceGameWorld != null) {
+			return CompletableFuture.completedFuture(maintanceGameWorld);
+		}
+		if (pendingMaintenance != null) return pendingMaintenance;
+		
+		CompletableFuture<GameWorld> future = new CompletableFuture<>();
+		
+		pendingMaintenance = future;
+		
+		if (!source.isDirectory() || Bukkit.getWorld(name) != null) {
+			loadMaintenance(future, false);
+		}
+		else {
+			Bukkit.getScheduler().runTaskAsynchronously(Arcade.getInstance(), () -> {
+				boolean cloned = WorldCloner.copy(source, name, false);
+				
+				Bukkit.getScheduler().runTask(Arcade.getInstance(),
+						() -> loadMaintenance(future, cloned));
+			});
+		}
+		return future;
+	}
+	
+	/**
+	 * Internal {@link Method} to load the maintenance {@link World} in the main thread after its
+	 * source has been cloned and complete the {@link #pendingMaintenance} once the
+	 * {@link Chunk}s around its spawn points are loaded, if the source could not be cloned the
+	 * {@link #pendingMaintenance} is completed with null instead of copying it in the main thread
+	 * 
+	 * @param future The {@link CompletableFuture} of the request
+	 * @param cloned True if the source has been cloned into the {@link World} container
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void loadMaintenance(@NotNull CompletableFuture<GameWorld> future, boolean cloned) {
+		if (pendingMaintenance != future) return;
+		
+		ChunkPreloader preloader = Arcade.getInstance().getMapManager().getChunkPreloader();
+		
+		if (maintanceGameWorld == null) {
+			World world = null;
+			
+			if (cloned || Bukkit.getWorld(name) != null) {
+				if (cloned) {
+					preloader.skipSpawnPreload(name);
 				}
-				else {
-					maintanceGameWorld = new GameWorld(world, new ArrayList<>(), GameType.MURDER);
+				world = new WorldCreator(name).createWorld();
+			}
+			else if (!source.isDirectory()) {
+				world = WorldAPI.createVoidWolrd(name);
+			}
+			else {
+				Arcade.getInstance().getLogger().warning("The source of the map " + name
+						+ " could not be cloned into the world container, its maintenance world"
+						+ " has not been loaded");
+			}
+			if (world != null) {
+				maintanceGameWorld = createMaintenanceGameWorld(world);
+			}
+		}
+		GameWorld gameWorld = maintanceGameWorld;
+		
+		if (gameWorld == null) {
+			pendingMaintenance = null;
+			future.complete(null);
+			return;
+		}
+		preloader.prepare(gameWorld);
+		
+		new BukkitRunnable() {
+			
+			@Override
+			public void run() {
+				if (pendingMaintenance != future) {
+					cancel();
+				}
+				else if (preloader.isReady(gameWorld)) {
+					cancel();
+					preloader.release(gameWorld);
+					pendingMaintenance = null;
+					future.complete(gameWorld);
 				}
 			}
+		}.runTaskTimer(Arcade.getInstance(), 1, 1);
+	}
+	
+	/**
+	 * Internal {@link Method} to create the maintenance {@link GameWorld} of a loaded
+	 * {@link World}
+	 * 
+	 * @param world The maintenance {@link World}
+	 * 
+	 * @return The maintenance {@link GameWorld} of the given {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = GameWorld.class)
+	private GameWorld createMaintenanceGameWorld(@NotNull World world) {
+		GameMapFile mapFile = getConfigFile();
+		
+		if (mapFile.canBeUsed()) {
+			GameType type = mapFile.getValidTypes().iterator().next();
+			
+			return new GameWorld(world, mapFile.getSpawnPoints(world, type), type);
 		}
-		return maintanceGameWorld;
+		return new GameWorld(world, new ArrayList<>(), GameType.MURDER);
 	}
 	
 	/**
-	 * {@link Method} to reset the {@link #getMaintenanceGameWorld()}
+	 * {@link Method} to reset the {@link #getMaintenanceGameWorld()}, a pending
+	 * {@link #getMaintenanceGameWorldAsync()} is completed with null
 	 * 
 	 * @since 1.0.0
 	 */
 	
 	public void resetMaintenanceGameWorld() {
+		if (pendingMaintenance != null) {
+			CompletableFuture<GameWorld> future = pendingMaintenance;
+			
+			pendingMaintenance = null;
+			future.complete(null);
+		}
 		if (maintanceGameWorld != null) {
 			maintanceGameWorld.delete();
 			maintanceGameWorld = null;
@@ -180,13 +552,90 @@ public class GameMap {
 	
 	@Nullable
 	public GameWorld createGameWorld(@NotNull GameType type, int id) {
-		if (configFile.isValidType(type) && id > 0) {
-			World world = WorldAPI.createWorld(getWorldSource(), id + "_" + getName());
+		return createGameWorld(type, WorldReclaimer.newWorldName("", id + "_" + getName()));
+	}
+	
+	/**
+	 * Internal {@link Method} to create a {@link GameWorld} using this {@link GameMap} with a
+	 * specific {@link World} name
+	 * 
+	 * @param type The {@link GameType} of the {@link GameWorld} to create
+	 * @param worldName The name of the {@link World} to create
+	 * 
+	 * @return The created {@link GameWorld}, or null if the given {@link GameType} is not valid
+	 * for this {@link GameMap} or the {@link World} could not be created
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameWorldPool
+	 * @see MapTemplate
+	 * @see WorldCloner
+	 */
+	
+	@Nullable
+	GameWorld createGameWorld(@NotNull GameType type, @NotNull String worldName) {
+		if (!isValidType(type)) return null;
+		
+		GameWorld gameWorld = createGameWorldFromMemory(type, worldName);
+		
+		if (gameWorld != null) return gameWorld;
+		
+		World world = WorldCloner.createWorld(getWorldSource(), worldName, getBounds());
+		
+		if (world == null) {
+			world = WorldAPI.createWorld(getWorldSource(), worldName);
+		}
+		return world == null ? null : wrap(world, type);
+	}
+	
+	/**
+	 * Internal {@link Method} to create a {@link GameWorld} without reading the
+	 * {@link #getWorldSource()}, by pasting it in an {@link ArenaSlot} or generating it from the
+	 * {@link MapTemplate}
+	 * 
+	 * @param type The {@link GameType} of the {@link GameWorld} to create
+	 * @param worldName The name of the {@link World} to create
+	 * 
+	 * @return The created {@link GameWorld}, or null if this {@link GameMap} does not fit in an
+	 * {@link ArenaSlot} and has no {@link MapTemplate}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see WorldCreationQueue
+	 */
+	
+	@Nullable
+	GameWorld createGameWorldFromMemory(@NotNull GameType type, @NotNull String worldName) {
+		ArenaManager arenaManager = Arcade.getInstance().getMapManager().getArenaManager();
+		
+		if (arenaManager.fits(getBounds())) {
+			GameWorld gameWorld = arenaManager.create(this, type);
 			
-			if (world != null) {
-				return new GameWorld(world, configFile.getSpawnPoints(world, type), type);
-			}
+			if (gameWorld != null) return gameWorld;
 		}
-		return null;
+		MapTemplate template = this.template;
+		World world = template == null ? null : template.createWorld(worldName);
+		
+		return world == null ? null : wrap(world, type);
+	}
+	
+	/**
+	 * Internal {@link Method} to create the {@link GameWorld} of a {@link World} cloned from this
+	 * {@link GameMap}
+	 * 
+	 * @param world The cloned {@link World}
+	 * @param type The {@link GameType} of the {@link GameWorld} to create
+	 * 
+	 * @return The {@link GameWorld} of the given {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = GameWorld.class)
+	GameWorld wrap(@NotNull World world, @NotNull GameType type) {
+		GameWorld gameWorld = new GameWorld(world, getSpawnTable(type).bind(world), type);
+		
+		gameWorld.setBounds(getBounds());
+		return gameWorld;
 	}
 }
\ No newline at end of file
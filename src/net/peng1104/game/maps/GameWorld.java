@@ -2,15 +2,17 @@ package net.peng1104.game.maps;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 
+import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
@@ -19,6 +21,7 @@ import net.peng1104.profiles.Profile;
 import net.peng1104.storage.Storage;
 import net.peng1104.storage.enums.main.PengAPIConfig;
 import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.files.ArenaBounds;
 import net.peng1104.utils.ChatAPI;
 import net.peng1104.utils.WorldAPI;
 
@@ -66,6 +69,39 @@ public class GameWorld {
 	
 	private GameType gameType;
 	
+	/**
+	 * See {@link #getSpawnAllocator()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private SpawnAllocator spawnAllocator;
+	
+	/**
+	 * See {@link #getArenaSlot()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ArenaSlot arenaSlot;
+	
+	/**
+	 * The {@link ArenaBounds} of the {@link GameMap} of this {@link GameWorld}, null if it has
+	 * none or this {@link GameWorld} is a view of an {@link ArenaSlot}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private ArenaBounds bounds;
+	
+	/**
+	 * See {@link #getPlayerHash()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private PlayerSpatialHash playerHash;
+	
 	/**
 	 * The {@link GameWorld} {@link Constructor}
 	 * 
@@ -82,6 +118,29 @@ public class GameWorld {
 	public GameWorld(@NotNull World world, @NotNull List<Location> spawnPoints,
 			@NotNull GameType gameType) {
 		
+		this(world, spawnPoints, gameType, null);
+	}
+	
+	/**
+	 * Create a new {@link GameWorld} that is a view of an {@link ArenaSlot} of a shared
+	 * {@link World}
+	 * 
+	 * @param world The {@link World} that the {@link GameWorld} will manage
+	 * @param spawnPoints The spawn points {@link Location}s of the {@link GameWorld}, already
+	 * moved to the {@link ArenaSlot}
+	 * @param gameType The {@link GameType} of the {@link GameWorld}
+	 * @param arenaSlot The {@link ArenaSlot} of the {@link GameWorld}, or null if it owns the
+	 * whole {@link World}
+	 * 
+	 * @throws IllegalArgumentException If the {@link World}, spawn points or {@link GameType} is
+	 * null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	GameWorld(@NotNull World world, @NotNull List<Location> spawnPoints,
+			@NotNull GameType gameType, @Nullable ArenaSlot arenaSlot) {
+		
 		if (world == null) {
 			throw new IllegalArgumentException("World cannot be null");
 		}
@@ -94,6 +153,7 @@ public class GameWorld {
 		this.world = world;
 		this.spawnPoints = spawnPoints;
 		this.gameType = gameType;
+		this.arenaSlot = arenaSlot;
 	}
 	
 	/**
@@ -109,6 +169,65 @@ public class GameWorld {
 		return world;
 	}
 	
+	/**
+	 * Get the {@link ArenaSlot} of the shared {@link World} that this {@link GameWorld} is a view
+	 * of
+	 * 
+	 * @return The {@link ArenaSlot} of this {@link GameWorld}, or null if it owns the whole
+	 * {@link #getWorld()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public ArenaSlot getArenaSlot() {
+		return arenaSlot;
+	}
+	
+	/**
+	 * Get the region of the {@link #getWorld()} where the arena of this {@link GameWorld} is, its
+	 * {@link Chunk}s are pinned while the arena is prepared and the {@link Chunk}s outside it are
+	 * unloaded
+	 * 
+	 * @return The {@link ArenaBounds} of this {@link GameWorld}, or null if it is not bounded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public ArenaBounds getBounds() {
+		return arenaSlot == null ? bounds : arenaSlot.getBounds();
+	}
+	
+	/**
+	 * Internal {@link Method} to set the {@link ArenaBounds} of this {@link GameWorld}
+	 * 
+	 * @param bounds The {@link ArenaBounds} of the {@link GameMap}, or null if it has none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void setBounds(@Nullable ArenaBounds bounds) {
+		this.bounds = bounds;
+	}
+	
+	/**
+	 * Get the amount of loaded {@link Chunk}s of this {@link GameWorld}
+	 * 
+	 * @return The amount of loaded {@link Chunk}s, only the ones inside the {@link ArenaSlot} if
+	 * this {@link GameWorld} is a view of one
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see ChunkPreloader#getLoadedChunks(GameWorld)
+	 */
+	
+	@Default(Int = 0)
+	public int getLoadedChunksAmount() {
+		ChunkPreloader preloader = getChunkPreloader();
+		return preloader == null ? world.getLoadedChunks().length : preloader.getLoadedChunks(this);
+	}
+	
 	/**
 	 * Get the spawn points {@link Location}s of this {@link GameWorld}
 	 * 
@@ -150,6 +269,42 @@ public class GameWorld {
 		return gameType;
 	}
 	
+	/**
+	 * Get the {@link PlayerSpatialHash} of the {@link org.bukkit.entity.Player}s of this
+	 * {@link GameWorld}, it is only created for the {@link GameType#isGunMode()}
+	 * {@link GameType}s and kept updated while this {@link GameWorld} is bound to the
+	 * {@link net.peng1104.game.GameDispatcher}
+	 * 
+	 * @return The {@link PlayerSpatialHash} of this {@link GameWorld}, or null if its
+	 * {@link GameType} is not a gun mode
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public PlayerSpatialHash getPlayerHash() {
+		if (playerHash == null && gameType.isGunMode()) {
+			playerHash = new PlayerSpatialHash(world);
+		}
+		return playerHash;
+	}
+	
+	/**
+	 * Get the {@link SpawnAllocator} of the {@link #getSpawnPoints()}
+	 * 
+	 * @return The {@link SpawnAllocator} of this {@link GameWorld}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = SpawnAllocator.class)
+	public SpawnAllocator getSpawnAllocator() {
+		if (spawnAllocator == null) {
+			spawnAllocator = new SpawnAllocator(spawnPoints);
+		}
+		return spawnAllocator;
+	}
+	
 	/**
 	 * Get a {@link Random} index {@link Location} from the {@link #getSpawnPoints()}
 	 * 
@@ -281,31 +436,125 @@ public class GameWorld {
 	 */
 	
 	public void randomTeleportNotRepeated(@NotNull Collection<Profile> profiles) {
+		randomTeleportNotRepeated(profiles, false);
+	}
+	
+	/**
+	 * {@link Method} to teleport {@link Profile}s to this {@link GameWorld}, trying not to
+	 * teleport to {@link Profile} to the same {@link Location}
+	 * 
+	 * @param profiles The {@link Profile}s to teleport into this {@link GameWorld}
+	 * @param spread True to spread the {@link Profile}s as far as possible from each other, false
+	 * to teleport them at {@link Random}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see SpawnAllocator#allocate(Collection, boolean)
+	 */
+	
+	public void randomTeleportNotRepeated(@NotNull Collection<Profile> profiles, boolean spread) {
 		if (profiles != null && !spawnPoints.isEmpty()) {
-			List<Location> locations = new ArrayList<>(spawnPoints);
-			boolean informed = false;
+			Map<Profile, Location> plan = getSpawnAllocator().allocate(profiles, spread);
 			
-			for (Profile profile : profiles) {
-				if (locations.isEmpty()) {
-					if (!informed) {
-						ChatAPI.sendBrocastMessage("&c[&4Arcade&c] &fO Mapa &c" + getName()
-								+ " &fnão possui o suficiente de spawn points configurados para o modo &c"
-								+ getGameType() + "&f, faltam &c"
-								+ (profiles.size() - spawnPoints.size()) + " &flugares.",
-								Storage.getString(PengAPIConfig.PERMISSÃO_RECEBER_AVISOS));
-						informed = true;
-					}
-					randomTeleport(profile);
-				}
-				else if (profile != null && profile.isOnline()) {
-					Location location = locations.get(RANDOM.nextInt(locations.size()));
-					profile.teleport(location);
-					locations.remove(location);
-				}
+			if (plan.size() > spawnPoints.size()) {
+				ChatAPI.sendBrocastMessage("&c[&4Arcade&c] &fO Mapa &c" + getName()
+						+ " &fnão possui o suficiente de spawn points configurados para o modo &c"
+						+ getGameType() + "&f, faltam &c"
+						+ (plan.size() - spawnPoints.size()) + " &flugares.",
+						Storage.getString(PengAPIConfig.PERMISSÃO_RECEBER_AVISOS));
+			}
+			for (Map.Entry<Profile, Location> entry : plan.entrySet()) {
+				entry.getKey().teleport(entry.getValue());
 			}
 		}
 	}
 	
+	/**
+	 * {@link Method} to start loading the {@link Chunk}s inside the {@link #getBounds()} of this
+	 * {@link GameWorld}, or around its spawn points if it has none, they are kept loaded until
+	 * {@link #releaseArena()}, the changed blocks start to be journaled if the {@link GameType}
+	 * {@link GameType#isRollbackable()}
+	 * 
+	 * @return True if the arena of this {@link GameWorld} is being prepared or is ready
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see ChunkPreloader#prepare(GameWorld)
+	 */
+	
+	@Default(Boolean = false)
+	public boolean prepareArena() {
+		Arcade arcade = Arcade.getInstance();
+		
+		if (arcade != null && arcade.getMapManager() != null) {
+			arcade.getMapManager().getRollbackManager().start(this);
+		}
+		ChunkPreloader preloader = getChunkPreloader();
+		return preloader != null && preloader.prepare(this);
+	}
+	
+	/**
+	 * Check if the arena of this {@link GameWorld} is ready to receive the {@link Profile}s
+	 * 
+	 * @return True if all the {@link Chunk}s around the spawn points have been loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isArenaReady() {
+		if (arenaSlot != null && !arenaSlot.isReady()) return false;
+		
+		ChunkPreloader preloader = getChunkPreloader();
+		return preloader == null || preloader.isReady(this);
+	}
+	
+	/**
+	 * Check if the arena of this {@link GameWorld} will never be ready, because its
+	 * {@link ArenaSlot} could not be pasted
+	 * 
+	 * @return True if this {@link GameWorld} must be given back without being played
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isArenaFailed() {
+		return arenaSlot != null && arenaSlot.isFailed();
+	}
+	
+	/**
+	 * {@link Method} to allow the {@link Chunk}s of the arena of this {@link GameWorld} to be
+	 * unloaded again
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void releaseArena() {
+		ChunkPreloader preloader = getChunkPreloader();
+		
+		if (preloader != null) {
+			preloader.release(this);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to get the {@link ChunkPreloader} of the {@link MapManager}
+	 * 
+	 * @return The {@link ChunkPreloader}, or null if the {@link MapManager} is not available
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private static ChunkPreloader getChunkPreloader() {
+		Arcade arcade = Arcade.getInstance();
+		
+		if (arcade == null || arcade.getMapManager() == null) return null;
+		
+		return arcade.getMapManager().getChunkPreloader();
+	}
+	
 	/**
 	 * Get the name of the {@link GameMap} that generated this {@link GameWorld}
 	 * 
@@ -316,6 +565,8 @@ public class GameWorld {
 	
 	@Default(string = "?")
 	public String getName() {
+		if (arenaSlot != null) return arenaSlot.getMapName();
+		
 		String name = world.getName();
 		
 		if (name.contains("_")) {
@@ -326,9 +577,10 @@ public class GameWorld {
 	
 	/**
 	 * {@link Method} to delete this {@link GameWorld}, this {@link Method} will clear all the spawn
-	 * points {@link Location}s and delete the {@link World} that is been managet
+	 * points {@link Location}s and queue the {@link World} that is been managet to be unloaded and
+	 * deleted by the {@link WorldReclaimer}
 	 * 
-	 * @return True if there was no erros during the deletion of this {@link GameWorld}, false
+	 * @return True if the {@link World} has been queued or deleted without any errors, false
 	 * otherwise
 	 * 
 	 * @since 1.0.0
@@ -336,7 +588,23 @@ public class GameWorld {
 	
 	@Default(Boolean = false)
 	public boolean delete() {
+		releaseArena();
 		spawnPoints.clear();
-		return WorldAPI.deleteWorld(world);
+		
+		Arcade arcade = Arcade.getInstance();
+		
+		if (arcade != null && arcade.getGameManager() != null) {
+			arcade.getGameManager().getDispatcher().unbind(this);
+		}
+		if (arcade == null || arcade.getMapManager() == null) {
+			return arenaSlot == null && WorldAPI.deleteWorld(world);
+		}
+		arcade.getMapManager().getRollbackManager().discard(this);
+		
+		if (arenaSlot != null) {
+			arcade.getMapManager().getArenaManager().release(arenaSlot);
+			return true;
+		}
+		return arcade.getMapManager().getWorldReclaimer().reclaim(world);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,560 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.Room;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * {@link Class} to keep ready to use {@link GameWorld}s for each {@link GameMap} and
+ * {@link GameType}, so a {@link Room} can start a match without waiting for the {@link World} to be
+ * copied
+ * <p>
+ * Only the pairs that have been asked for are warmed, when a {@link GameMap} becomes a vote option
+ * or is voted for, and the amount of pooled {@link GameWorld}s of all the pairs is limited by
+ * {@link #getMaxPooledAmount()}, once it is reached the most demanded pairs take the place of the
+ * least demanded ones
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class GameWorldPool {
+	
+	/**
+	 * The prefix of the {@link World} names created by this {@link GameWorldPool}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String WORLD_PREFIX = "pool";
+	
+	/**
+	 * The amount of server ticks between each refill of this {@link GameWorldPool}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final long REFILL_PERIOD = 20;
+	
+	/**
+	 * The pooled {@link GameWorld}s by their {@link GameMap} name and {@link GameType}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<String, Map<GameType, Deque<GameWorld>>> pool = new HashMap<>();
+	
+	/**
+	 * The {@link GameMap} and {@link GameType} pairs that need to be refilled, in the order they
+	 * were requested
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Set<Key> refillQueue = new LinkedHashSet<>();
+	
+	/**
+	 * The {@link GameMap} and {@link GameType} pairs being refilled by the
+	 * {@link WorldCreationQueue}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Set<Key> refilling = new HashSet<>();
+	
+	/**
+	 * How many times each {@link GameMap} and {@link GameType} pair has been warmed or acquired
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Key, Integer> demand = new HashMap<>();
+	
+	/**
+	 * The {@link BukkitTask} that refills this {@link GameWorldPool}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask refillTask;
+	
+	/**
+	 * See {@link #getHits()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long hits = 0;
+	
+	/**
+	 * See {@link #getMisses()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long misses = 0;
+	
+	/**
+	 * Create a new {@link GameWorldPool} and start its refill task
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public GameWorldPool() {
+		refillTask = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::refill,
+				REFILL_PERIOD, REFILL_PERIOD);
+	}
+	
+	/**
+	 * Get the amount of {@link GameWorld}s that this {@link GameWorldPool} keeps for each
+	 * {@link GameMap} and {@link GameType}
+	 * 
+	 * @return The configured size of each pool
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 1)
+	public int getPoolSize() {
+		return (int) Math.max(0, Storage.getLong(ArcadeConfig.WORLD_POOL_SIZE));
+	}
+	
+	/**
+	 * Get the amount of {@link GameWorld}s that this {@link GameWorldPool} keeps for all the
+	 * {@link GameMap}s and {@link GameType}s together, counting the ones being created
+	 * 
+	 * @return The configured maximum amount of pooled {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 8)
+	public int getMaxPooledAmount() {
+		return (int) Math.max(0, Storage.getLong(ArcadeConfig.WORLD_POOL_MAX));
+	}
+	
+	/**
+	 * {@link Method} to get a ready to use {@link GameWorld} of a {@link GameMap}, if there is no
+	 * pooled {@link GameWorld} one is created right away
+	 * 
+	 * @param gameMap The {@link GameMap} of the {@link GameWorld}
+	 * @param type The {@link GameType} of the {@link GameWorld}
+	 * @param id The id of the {@link Room} that wants the {@link GameWorld}
+	 * 
+	 * @return A ready to use {@link GameWorld}, or null if the given {@link GameType} is not valid
+	 * for the given {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public GameWorld acquire(@NotNull GameMap gameMap, @NotNull GameType type, int id) {
+		if (gameMap == null || type == null) return null;
+		
+		request(new Key(gameMap.getName(), type));
+		
+		Deque<GameWorld> worlds = getWorlds(gameMap.getName(), type);
+		GameWorld gameWorld = worlds.pollFirst();
+		
+		if (gameWorld != null) {
+			hits++;
+			return gameWorld;
+		}
+		misses++;
+		return gameMap.createGameWorld(type, id);
+	}
+	
+	/**
+	 * {@link Method} to get a ready to use {@link GameWorld} of a {@link GameMap} without creating
+	 * it in the current tick, if there is no pooled {@link GameWorld} its creation is queued in the
+	 * {@link WorldCreationQueue}
+	 * 
+	 * @param gameMap The {@link GameMap} of the {@link GameWorld}
+	 * @param type The {@link GameType} of the {@link GameWorld}
+	 * @param id The id of the {@link Room} that wants the {@link GameWorld}
+	 * @param startTime The time in milliseconds when the {@link Room} starts
+	 * 
+	 * @return A {@link CompletableFuture} completed in the main thread with the {@link GameWorld},
+	 * or with null if the given {@link GameType} is not valid for the given {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see WorldCreationQueue#submit(GameMap, GameType, String, long)
+	 */
+	
+	@NotNull
+	public CompletableFuture<GameWorld> acquireAsync(@NotNull GameMap gameMap,
+			@NotNull GameType type, int id, long startTime) {
+		
+		if (gameMap == null || type == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		request(new Key(gameMap.getName(), type));
+		
+		GameWorld gameWorld = getWorlds(gameMap.getName(), type).pollFirst();
+		
+		if (gameWorld != null) {
+			hits++;
+			return CompletableFuture.completedFuture(gameWorld);
+		}
+		misses++;
+		return Arcade.getInstance().getMapManager().getWorldCreationQueue().submit(gameMap, type,
+				WorldReclaimer.newWorldName("", id + "_" + gameMap.getName()), startTime);
+	}
+	
+	/**
+	 * {@link Method} to give back a {@link GameWorld} after a match, a {@link GameWorld} that has
+	 * not been used is kept in this {@link GameWorldPool} if there is room for it, otherwise it
+	 * is deleted, a used {@link GameWorld} whose blocks have been journaled by the
+	 * {@link RollbackManager} is restored and then given back as not used
+	 * 
+	 * @param gameMap The {@link GameMap} that created the {@link GameWorld}
+	 * @param gameWorld The {@link GameWorld} to give back
+	 * @param used True if a match has been played in the given {@link GameWorld}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void release(@NotNull GameMap gameMap, @NotNull GameWorld gameWorld, boolean used) {
+		if (gameMap == null || gameWorld == null) return;
+		
+		if (used) {
+			RollbackManager rollbackManager = Arcade.getInstance().getMapManager()
+					.getRollbackManager();
+			
+			if (rollbackManager.restore(gameWorld, () -> {
+				if (Arcade.getInstance().getMapManager().get(gameMap.getName()) == gameMap) {
+					release(gameMap, gameWorld, false);
+				}
+				else {
+					gameWorld.delete();
+				}
+			})) {
+				return;
+			}
+		}
+		Deque<GameWorld> worlds = getWorlds(gameMap.getName(), gameWorld.getGameType());
+		
+		if (!used && worlds.size() < getPoolSize() && getPooledAmount() < getMaxPooledAmount()) {
+			worlds.addLast(gameWorld);
+			return;
+		}
+		gameWorld.delete();
+		refillQueue.add(new Key(gameMap.getName(), gameWorld.getGameType()));
+	}
+	
+	/**
+	 * {@link Method} to ask this {@link GameWorldPool} to keep {@link GameWorld}s ready for a
+	 * {@link GameMap} and {@link GameType}, each call makes the pair more demanded, so it should
+	 * be called when a {@link GameMap} becomes a vote option and for each vote it gets
+	 * 
+	 * @param gameMap The {@link GameMap} to keep ready
+	 * @param type The {@link GameType} to keep ready
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void warm(@NotNull GameMap gameMap, @NotNull GameType type) {
+		if (gameMap != null && type != null && gameMap.isValidType(type)) {
+			request(new Key(gameMap.getName(), type));
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to count a request for a {@link GameMap} and {@link GameType} pair
+	 * and queue it to be refilled
+	 * 
+	 * @param key The requested pair
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void request(@NotNull Key key) {
+		demand.merge(key, 1, Integer::sum);
+		refillQueue.add(key);
+	}
+	
+	/**
+	 * {@link Method} to delete all the pooled {@link GameWorld}s of a {@link GameMap}
+	 * 
+	 * @param name The name of the {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void invalidate(@NotNull String name) {
+		Map<GameType, Deque<GameWorld>> types = pool.remove(name);
+		
+		if (types != null) {
+			for (Deque<GameWorld> worlds : types.values()) {
+				for (GameWorld gameWorld : worlds) {
+					gameWorld.delete();
+				}
+			}
+		}
+		refillQueue.removeIf(key -> key.name.equals(name));
+		demand.keySet().removeIf(key -> key.name.equals(name));
+	}
+	
+	/**
+	 * Get the amount of {@link #acquire(GameMap, GameType, int)} calls that have been served by
+	 * a pooled {@link GameWorld}
+	 * 
+	 * @return The amount of pool hits
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getHits() {
+		return hits;
+	}
+	
+	/**
+	 * Get the amount of {@link #acquire(GameMap, GameType, int)} calls that had to create a new
+	 * {@link GameWorld}
+	 * 
+	 * @return The amount of pool misses
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getMisses() {
+		return misses;
+	}
+	
+	/**
+	 * Get the amount of pooled {@link GameWorld}s
+	 * 
+	 * @return The amount of {@link GameWorld}s that are ready to use
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getPooledAmount() {
+		int amount = 0;
+		
+		for (Map<GameType, Deque<GameWorld>> types : pool.values()) {
+			for (Deque<GameWorld> worlds : types.values()) {
+				amount += worlds.size();
+			}
+		}
+		return amount;
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link GameWorldPool} and delete all the pooled
+	 * {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		refillTask.cancel();
+		refillQueue.clear();
+		demand.clear();
+		
+		for (String name : pool.keySet().toArray(new String[0])) {
+			invalidate(name);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to queue at most one pooled {@link GameWorld} per call in the
+	 * {@link WorldCreationQueue}, behind the {@link GameWorld}s that {@link Room}s are waiting for,
+	 * the most demanded pair is refilled first and a less demanded pooled {@link GameWorld} is
+	 * deleted to make room for it once the {@link #getMaxPooledAmount()} is reached
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void refill() {
+		int size = getPoolSize();
+		Iterator<Key> iterator = refillQueue.iterator();
+		Key best = null;
+		int bestDemand = 0;
+		
+		while (iterator.hasNext()) {
+			Key key = iterator.next();
+			GameMap gameMap = Arcade.getInstance().getMapManager().get(key.name);
+			
+			if (gameMap == null) {
+				iterator.remove();
+				continue;
+			}
+			Deque<GameWorld> worlds = getWorlds(key.name, key.type);
+			
+			if (worlds.size() >= size) {
+				iterator.remove();
+				continue;
+			}
+			if (refilling.contains(key)) continue;
+			
+			int keyDemand = demand.getOrDefault(key, 0);
+			
+			if (best == null || keyDemand > bestDemand) {
+				best = key;
+				bestDemand = keyDemand;
+			}
+		}
+		if (best == null) return;
+		
+		if (getPooledAmount() + refilling.size() >= getMaxPooledAmount()
+				&& !evict(bestDemand)) {
+			return;
+		}
+		Key key = best;
+		GameMap gameMap = Arcade.getInstance().getMapManager().get(key.name);
+		
+		refilling.add(key);
+		
+		Arcade.getInstance().getMapManager().getWorldCreationQueue().submit(gameMap, key.type,
+				WorldReclaimer.newWorldName(WORLD_PREFIX, key.name), Long.MAX_VALUE)
+				.whenComplete((gameWorld, exception) -> {
+					refilling.remove(key);
+					
+					if (gameWorld == null) {
+						refillQueue.remove(key);
+					}
+					else if (Arcade.getInstance().getMapManager().get(key.name) == gameMap) {
+						getWorlds(key.name, key.type).addLast(gameWorld);
+					}
+					else {
+						gameWorld.delete();
+					}
+				});
+	}
+	
+	/**
+	 * Internal {@link Method} to delete a pooled {@link GameWorld} of the least demanded pair to
+	 * make room for a more demanded one
+	 * 
+	 * @param than The demand of the pair that needs the room
+	 * 
+	 * @return True if a {@link GameWorld} of a pair less demanded than the given demand has been
+	 * deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private boolean evict(int than) {
+		Deque<GameWorld> victim = null;
+		int victimDemand = than;
+		
+		for (Map.Entry<String, Map<GameType, Deque<GameWorld>>> entry : pool.entrySet()) {
+			for (Map.Entry<GameType, Deque<GameWorld>> worlds : entry.getValue().entrySet()) {
+				if (worlds.getValue().isEmpty()) continue;
+				
+				int worldsDemand = demand.getOrDefault(new Key(entry.getKey(), worlds.getKey()),
+						0);
+				
+				if (worldsDemand < victimDemand) {
+					victim = worlds.getValue();
+					victimDemand = worldsDemand;
+				}
+			}
+		}
+		if (victim == null) return false;
+		
+		victim.pollLast().delete();
+		return true;
+	}
+	
+	/**
+	 * Internal {@link Method} to get the pooled {@link GameWorld}s of a {@link GameMap} and
+	 * {@link GameType}
+	 * 
+	 * @param name The name of the {@link GameMap}
+	 * @param type The {@link GameType}
+	 * 
+	 * @return The {@link Deque} of pooled {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArrayDeque.class)
+	private Deque<GameWorld> getWorlds(@NotNull String name, @NotNull GameType type) {
+		return pool.computeIfAbsent(name, key -> new EnumMap<>(GameType.class))
+				.computeIfAbsent(type, key -> new ArrayDeque<>());
+	}
+	
+	/**
+	 * The {@link GameMap} name and {@link GameType} pair of a pool
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Key {
+		
+		/**
+		 * The name of the {@link GameMap}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final String name;
+		
+		/**
+		 * The {@link GameType}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final GameType type;
+		
+		/**
+		 * Create a new {@link Key}
+		 * 
+		 * @param name The name of the {@link GameMap}
+		 * @param type The {@link GameType}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Key(@NotNull String name, @NotNull GameType type) {
+			this.name = name;
+			this.type = type;
+		}
+		
+		@Override
+		public int hashCode() {
+			return name.hashCode() * 31 + type.hashCode();
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) return true;
+			
+			if (object instanceof Key) {
+				Key key = (Key) object;
+				return type == key.type && name.equals(key.name);
+			}
+			return false;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,319 @@
+package net.peng1104.game.maps;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.files.GameMapFile;
+import net.peng1104.storage.game.files.MapDescriptor;
+
+/**
+ * {@link Class} to keep a compact description of each {@link GameMapFile} on the disk, so the
+ * {@link MapManager} does not need to parse the {@link GameMapFile}s that have not changed since
+ * the last startup
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+final class MapIndex {
+	
+	/**
+	 * The first int of a {@link MapIndex} {@link File}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAGIC = 0x41524D49;
+	
+	/**
+	 * The format version of the {@link MapIndex} {@link File}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int VERSION = 1;
+	
+	/**
+	 * The {@link File} of this {@link MapIndex}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final File file;
+	
+	/**
+	 * The {@link Entry}s of this {@link MapIndex} by the name of their {@link GameMap}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	
+	/**
+	 * If this {@link MapIndex} has changed since it has been read
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private volatile boolean dirty = false;
+	
+	/**
+	 * Create a new {@link MapIndex} and read its {@link File}, a missing, corrupted or outdated
+	 * {@link File} results in an empty {@link MapIndex}
+	 * 
+	 * @param file The {@link File} of the {@link MapIndex}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	MapIndex(@NotNull File file) {
+		this.file = file;
+		
+		if (!file.isFile()) return;
+		
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(file)))) {
+			
+			if (in.readInt() != MAGIC || in.readInt() != VERSION
+					|| in.readInt() != GameType.values().length) {
+				
+				dirty = true;
+				return;
+			}
+			int amount = in.readInt();
+			
+			for (int i = 0; i < amount; i++) {
+				String name = in.readUTF();
+				long modified = in.readLong();
+				long length = in.readLong();
+				long types = in.readLong();
+				int[] spawns = new int[GameType.values().length];
+				
+				for (int j = 0; j < spawns.length; j++) {
+					spawns[j] = in.readInt();
+				}
+				entries.put(name, new Entry(modified, length, types, spawns));
+			}
+		}
+		catch (IOException exception) {
+			entries.clear();
+			dirty = true;
+		}
+	}
+	
+	/**
+	 * Get the {@link Entry} of a {@link GameMapFile} if it has not changed
+	 * 
+	 * @param name The name of the {@link GameMap}
+	 * @param configFile The {@link File} of the {@link GameMapFile}
+	 * 
+	 * @return The {@link Entry} of the given {@link GameMap}, or null if there is none or the
+	 * given {@link File} has changed since it was indexed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	Entry get(@NotNull String name, @NotNull File configFile) {
+		Entry entry = entries.get(name);
+		
+		if (entry != null && entry.modified == configFile.lastModified()
+				&& entry.length == configFile.length()) {
+			
+			return entry;
+		}
+		return null;
+	}
+	
+	/**
+	 * {@link Method} to index the {@link MapDescriptor} of a {@link GameMapFile}
+	 * 
+	 * @param name The name of the {@link GameMap}
+	 * @param descriptor The {@link MapDescriptor} of the {@link GameMapFile}
+	 * 
+	 * @return The new {@link Entry} of the given {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = Entry.class)
+	Entry put(@NotNull String name, @NotNull MapDescriptor descriptor) {
+		GameType[] values = GameType.values();
+		int[] spawns = new int[values.length];
+		long types = 0;
+		
+		for (GameType type : values) {
+			if (descriptor.isValidType(type)) {
+				types |= 1L << type.ordinal();
+				spawns[type.ordinal()] = descriptor.getSpawnTable(type).size();
+			}
+		}
+		Entry entry = new Entry(descriptor.getModified(), descriptor.getLength(), types, spawns);
+		
+		entries.put(name, entry);
+		dirty = true;
+		return entry;
+	}
+	
+	/**
+	 * {@link Method} to remove the {@link Entry}s of the {@link GameMap}s that do not exist
+	 * anymore
+	 * 
+	 * @param names The names of the existing {@link GameMap}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void retain(@NotNull Collection<String> names) {
+		if (entries.keySet().retainAll(names)) {
+			dirty = true;
+		}
+	}
+	
+	/**
+	 * {@link Method} to write this {@link MapIndex} to its {@link File} if it has changed
+	 * 
+	 * @return True if this {@link MapIndex} is up to date on the disk
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	boolean save() {
+		if (!dirty) return true;
+		
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(file)))) {
+			
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(GameType.values().length);
+			out.writeInt(entries.size());
+			
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				Entry value = entry.getValue();
+				
+				out.writeUTF(entry.getKey());
+				out.writeLong(value.modified);
+				out.writeLong(value.length);
+				out.writeLong(value.types);
+				
+				for (int spawns : value.spawns) {
+					out.writeInt(spawns);
+				}
+			}
+			dirty = false;
+			return true;
+		}
+		catch (IOException exception) {
+			file.delete();
+			return false;
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep the description of a {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	static final class Entry {
+		
+		/**
+		 * The last modification time of the {@link GameMapFile}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long modified;
+		
+		/**
+		 * The length of the {@link GameMapFile}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long length;
+		
+		/**
+		 * The valid {@link GameType}s, one bit by {@link GameType#ordinal()}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long types;
+		
+		/**
+		 * The amount of spawn points by {@link GameType#ordinal()}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final int[] spawns;
+		
+		/**
+		 * Create a new {@link Entry}
+		 * 
+		 * @param modified The last modification time of the {@link GameMapFile}
+		 * @param length The length of the {@link GameMapFile}
+		 * @param types The valid {@link GameType}s, one bit by {@link GameType#ordinal()}
+		 * @param spawns The amount of spawn points by {@link GameType#ordinal()}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Entry(long modified, long length, long types, @NotNull int[] spawns) {
+			this.modified = modified;
+			this.length = length;
+			this.types = types;
+			this.spawns = spawns;
+		}
+		
+		/**
+		 * Check if a {@link GameType} is valid for the indexed {@link GameMapFile}
+		 * 
+		 * @param type The {@link GameType} to check
+		 * 
+		 * @return True if the given {@link GameType} is valid
+		 * 
+		 * @since 1.0.0
+		 * 
+		 * @see GameMapFile#isValidType(GameType)
+		 */
+		
+		@Default(Boolean = false)
+		boolean isValidType(@NotNull GameType type) {
+			return type != null && (types & 1L << type.ordinal()) != 0;
+		}
+		
+		/**
+		 * Get the amount of spawn points of a {@link GameType} in the indexed {@link GameMapFile}
+		 * 
+		 * @param type The {@link GameType} of the spawn points
+		 * 
+		 * @return The amount of spawn points of the given {@link GameType}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Default(Int = 0)
+		int getSpawnPointsAmount(@NotNull GameType type) {
+			return type == null ? 0 : spawns[type.ordinal()];
+		}
+	}
+}
\ No newline at end of file
@@ -1,21 +1,37 @@
 package net.peng1104.game.maps;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
 
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
+import net.peng1104.game.Room;
+import net.peng1104.game.games.Game;
 import net.peng1104.storage.files.FileBase;
 import net.peng1104.storage.game.enums.GameType;
 import net.peng1104.storage.game.files.GameMapFile;
+import net.peng1104.storage.game.files.GameMapFileWriter;
+import net.peng1104.storage.game.files.MapDescriptor;
 import net.peng1104.utils.FileUtils;
 
 /**
@@ -36,6 +52,39 @@ public class MapManager {
 	
 	private static final File MAP_SOURCE_CONTAINER = new File(FileBase.getDefaultDirectory(), "Arcade" + File.separator + "Mapas");
 	
+	/**
+	 * The {@link Random} instance unsed to make {@link Random} operations in the {@link MapManager}
+	 * {@link Class}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final Random RANDOM = new Random();
+	
+	/**
+	 * The {@link File} of the {@link MapIndex}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final File INDEX_FILE = new File(GameMapFile.getGameMapConfigContainer(), "mapas.index");
+	
+	/**
+	 * The maximum amount of threads used to load the {@link GameMap}s at startup
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAX_LOADERS = 4;
+	
+	/**
+	 * The extension of the {@link MapTemplate} {@link File}s in the map source container
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String TEMPLATE_EXTENSION = ".template";
+	
 	/**
 	 * The available {@link GameMap}s
 	 * 
@@ -44,6 +93,71 @@ public class MapManager {
 	
 	private Map<String, GameMap> avalibleMaps = new HashMap<>();
 	
+	/**
+	 * The names of the available {@link GameMap}s of each {@link GameType}, each {@link List} is
+	 * unmodifiable and replaced when a {@link GameMap} of its {@link GameType} changes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<GameType, List<String>> catalog = new EnumMap<>(GameType.class);
+	
+	/**
+	 * See {@link #getWorldPool()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameWorldPool worldPool = new GameWorldPool();
+	
+	/**
+	 * See {@link #getWorldReclaimer()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final WorldReclaimer worldReclaimer = new WorldReclaimer();
+	
+	/**
+	 * See {@link #getChunkPreloader()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ChunkPreloader chunkPreloader = new ChunkPreloader();
+	
+	/**
+	 * See {@link #getArenaManager()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ArenaManager arenaManager = new ArenaManager();
+	
+	/**
+	 * See {@link #getRollbackManager()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final RollbackManager rollbackManager = new RollbackManager();
+	
+	/**
+	 * See {@link #getWorldCreationQueue()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final WorldCreationQueue worldCreationQueue = new WorldCreationQueue();
+	
+	/**
+	 * See {@link #getMapFileWriter()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameMapFileWriter mapFileWriter = new GameMapFileWriter();
+	
 	/**
 	 * Simple {@link GameMapConfiguration} {@link Constructor}
 	 * 
@@ -51,17 +165,69 @@ public class MapManager {
 	 */
 	
 	public MapManager() {
+		worldReclaimer.sweepOrphans();
+		
 		if (!GameMapFile.getGameMapConfigContainer().isDirectory()) {
 			GameMapFile.getGameMapConfigContainer().delete();
 			GameMapFile.getGameMapConfigContainer().mkdirs();
 		}
-		for (File configFile : GameMapFile.getGameMapConfigContainer().listFiles()) {
-			String name = configFile.getName();
+		File[] configFiles = GameMapFile.getGameMapConfigContainer().listFiles((directory, name)
+				-> name.endsWith(".yml"));
+		
+		if (configFiles == null) return;
+		
+		MapIndex index = new MapIndex(INDEX_FILE);
+		ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(MAX_LOADERS,
+				Runtime.getRuntime().availableProcessors())));
+		
+		Map<File, GameMap> results = new ConcurrentHashMap<>();
+		
+		try {
+			pool.submit(() -> Arrays.stream(configFiles).parallel().forEach(configFile -> {
+				GameMap gameMap = loadOrSkip(configFile, index);
+				
+				if (gameMap != null) {
+					results.put(configFile, gameMap);
+				}
+			})).get();
+		}
+		catch (InterruptedException | ExecutionException exception) {
+			if (exception instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			Arcade.getInstance().getLogger().log(Level.SEVERE, "The maps stopped loading, only "
+					+ results.size() + " of " + configFiles.length + " have been loaded",
+					exception);
+		}
+		finally {
+			pool.shutdown();
+		}
+		List<GameMap> loaded = new ArrayList<>(results.size());
+		
+		for (File configFile : configFiles) {
+			GameMap gameMap = results.get(configFile);
 			
-			if (name.endsWith(".yml")) {
-				register(name.substring(0, name.length() - 4));
+			if (gameMap != null) {
+				loaded.add(gameMap);
 			}
 		}
+		for (GameMap gameMap : loaded) {
+			avalibleMaps.put(gameMap.getName(), gameMap);
+		}
+		for (GameType type : GameType.values()) {
+			List<String> options = new ArrayList<>();
+			
+			for (GameMap gameMap : loaded) {
+				if (gameMap.isValidType(type)) {
+					options.add(gameMap.getName());
+				}
+			}
+			if (!options.isEmpty()) {
+				catalog.put(type, Collections.unmodifiableList(options));
+			}
+		}
+		index.retain(avalibleMaps.keySet());
+		index.save();
 	}
 	
 	/**
@@ -78,6 +244,101 @@ public class MapManager {
 		return MAP_SOURCE_CONTAINER;
 	}
 	
+	/**
+	 * Get the {@link GameWorldPool} that keeps the ready to use {@link GameWorld}s of the
+	 * {@link GameMap}s
+	 * 
+	 * @return The {@link GameWorldPool} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = GameWorldPool.class)
+	public GameWorldPool getWorldPool() {
+		return worldPool;
+	}
+	
+	/**
+	 * Get the {@link WorldReclaimer} that deletes the {@link World}s of the {@link GameWorld}s
+	 * 
+	 * @return The {@link WorldReclaimer} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = WorldReclaimer.class)
+	public WorldReclaimer getWorldReclaimer() {
+		return worldReclaimer;
+	}
+	
+	/**
+	 * Get the {@link ChunkPreloader} that prepares the arenas of the {@link GameWorld}s
+	 * 
+	 * @return The {@link ChunkPreloader} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ChunkPreloader.class)
+	public ChunkPreloader getChunkPreloader() {
+		return chunkPreloader;
+	}
+	
+	/**
+	 * Get the {@link ArenaManager} that pastes the small {@link GameMap}s into shared
+	 * {@link World}s
+	 * 
+	 * @return The {@link ArenaManager} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArenaManager.class)
+	public ArenaManager getArenaManager() {
+		return arenaManager;
+	}
+	
+	/**
+	 * Get the {@link RollbackManager} that restores the blocks changed in the {@link GameWorld}s
+	 * 
+	 * @return The {@link RollbackManager} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = RollbackManager.class)
+	public RollbackManager getRollbackManager() {
+		return rollbackManager;
+	}
+	
+	/**
+	 * Get the {@link WorldCreationQueue} that limits how many {@link GameWorld}s are created at
+	 * the same time
+	 * 
+	 * @return The {@link WorldCreationQueue} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = WorldCreationQueue.class)
+	public WorldCreationQueue getWorldCreationQueue() {
+		return worldCreationQueue;
+	}
+	
+	/**
+	 * Get the {@link GameMapFileWriter} that saves the changed {@link GameMapFile}s behind the
+	 * main thread
+	 * 
+	 * @return The {@link GameMapFileWriter} instance
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = GameMapFileWriter.class)
+	public GameMapFileWriter getMapFileWriter() {
+		return mapFileWriter;
+	}
+	
 	/**
 	 * {@link Method} to create and register a new {@link GameMap} by its name
 	 * 
@@ -95,13 +356,163 @@ public class MapManager {
 			File source = new File(MAP_SOURCE_CONTAINER, name);
 			
 			if (source.isDirectory()) {
-				avalibleMaps.put(name, new GameMap(name, source));
+				GameMap gameMap = new GameMap(name, source);
+				
+				gameMap.setTemplate(MapTemplate.read(getTemplateFile(name)));
+				avalibleMaps.put(name, gameMap);
+				updateCatalog(name);
 				return true;
 			}
 		}
 		return false;
 	}
 	
+	/**
+	 * Internal {@link Method} to create a {@link GameMap} at startup, a {@link GameMap} that fails
+	 * to load is logged and skipped so the other ones are still loaded, this {@link Method} can be
+	 * called in any thread
+	 * 
+	 * @param configFile The {@link File} of the {@link GameMapFile}
+	 * @param index The {@link MapIndex} of the {@link GameMapFile}s
+	 * 
+	 * @return The created {@link GameMap}, or null if it does not have a source or has failed to
+	 * load
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #load(File, MapIndex)
+	 */
+	
+	@Nullable
+	private GameMap loadOrSkip(@NotNull File configFile, @NotNull MapIndex index) {
+		try {
+			return load(configFile, index);
+		}
+		catch (RuntimeException exception) {
+			Arcade.getInstance().getLogger().log(Level.WARNING, "The map " + configFile.getName()
+					+ " could not be loaded and has been skipped", exception);
+			return null;
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to create a {@link GameMap} at startup, the {@link GameMapFile} is
+	 * only read if it has changed since it was indexed, from its {@link MapDescriptor} when it is
+	 * up to date, and only parsed otherwise, this {@link Method} can be called in any thread
+	 * 
+	 * @param configFile The {@link File} of the {@link GameMapFile}
+	 * @param index The {@link MapIndex} of the {@link GameMapFile}s
+	 * 
+	 * @return The created {@link GameMap}, or null if it does not have a source
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private GameMap load(@NotNull File configFile, @NotNull MapIndex index) {
+		String name = configFile.getName();
+		
+		name = name.substring(0, name.length() - 4);
+		
+		File source = new File(MAP_SOURCE_CONTAINER, name);
+		
+		if (name.isEmpty() || !source.isDirectory()) return null;
+		
+		MapIndex.Entry descriptor = index.get(name, configFile);
+		GameMap gameMap;
+		
+		if (descriptor != null) {
+			gameMap = new GameMap(name, source, descriptor, null);
+		}
+		else {
+			File descriptorFile = GameMapFile.getDescriptorFile(name);
+			MapDescriptor compiled = MapDescriptor.read(descriptorFile, configFile);
+			GameMapFile mapFile = null;
+			
+			if (compiled == null) {
+				mapFile = new GameMapFile(name);
+				compiled = MapDescriptor.compile(mapFile);
+				compiled.write(descriptorFile, configFile);
+			}
+			gameMap = new GameMap(name, source, index.put(name, compiled), mapFile);
+			gameMap.setMapDescriptor(compiled);
+		}
+		gameMap.setTemplate(MapTemplate.read(getTemplateFile(name)));
+		return gameMap;
+	}
+	
+	/**
+	 * {@link Method} to convert a {@link GameMap} into a {@link MapTemplate}, the blocks are
+	 * captured from its maintenance {@link World}, loaded by
+	 * {@link GameMap#getMaintenanceGameWorldAsync()}, and used right away, the maintenance
+	 * {@link World} is reset after the capture unless it was already open, so only one is loaded
+	 * while the {@link GameMap}s are converted one at a time, the {@link MapTemplate} {@link File}
+	 * is written asynchronously, this {@link Method} must be called in the main thread
+	 * 
+	 * @param name The name of the {@link GameMap} to convert
+	 * 
+	 * @return A {@link CompletableFuture} completed in the main thread with true if the
+	 * {@link GameMap} has been captured, or with false if it does not exist, its maintenance
+	 * {@link World} could not be loaded or read or it has tile entities or
+	 * {@link org.bukkit.entity.Entity}s that a {@link MapTemplate} cannot keep
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public CompletableFuture<Boolean> convertToTemplate(@NotNull String name) {
+		GameMap gameMap = name == null ? null : avalibleMaps.get(name);
+		
+		if (gameMap == null) return CompletableFuture.completedFuture(false);
+		
+		boolean opened = gameMap.hasMaintenanceGameWorld();
+		
+		return gameMap.getMaintenanceGameWorldAsync().thenApply(maintenance -> {
+			if (maintenance == null) return false;
+			
+			MapTemplate template;
+			
+			try {
+				if (avalibleMaps.get(name) != gameMap) return false;
+				
+				template = MapTemplate.capture(maintenance.getWorld(), gameMap.getWorldSource(),
+						gameMap.getBounds());
+			}
+			catch (IOException | IllegalStateException exception) {
+				Arcade.getInstance().getLogger().warning("The map " + name
+						+ " could not be captured into a template: " + exception.getMessage());
+				return false;
+			}
+			finally {
+				if (!opened) {
+					gameMap.resetMaintenanceGameWorld();
+				}
+			}
+			gameMap.setTemplate(template);
+			
+			File file = getTemplateFile(name);
+			
+			Bukkit.getScheduler().runTaskAsynchronously(Arcade.getInstance(),
+					() -> template.write(file));
+			return true;
+		});
+	}
+	
+	/**
+	 * Get the {@link MapTemplate} {@link File} of a {@link GameMap}
+	 * 
+	 * @param name The name of the {@link GameMap}
+	 * 
+	 * @return The {@link File} of the {@link MapTemplate} of the given {@link GameMap}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = File.class)
+	public static File getTemplateFile(@NotNull String name) {
+		return new File(MAP_SOURCE_CONTAINER, name + TEMPLATE_EXTENSION);
+	}
+	
 	/**
 	 * {@link Method} to remove and delete a {@link GameMap}
 	 * 
@@ -118,13 +529,20 @@ public class MapManager {
 		GameMap gameMap = avalibleMaps.remove(name);
 		
 		if (gameMap != null) {
+			worldPool.invalidate(name);
+			
 			boolean sourceDeleted = FileUtils.delete(gameMap.getWorldSource());
+			mapFileWriter.delete(gameMap.getConfigFile());
+			
 			boolean configDeleted = FileUtils.delete(gameMap.getConfigFile().getFilePath());
 			
+			getTemplateFile(name).delete();
+			
 			if (!sourceDeleted && !configDeleted) {
 				avalibleMaps.put(name, gameMap);
 				return false;
 			}
+			updateCatalog(name);
 			return sourceDeleted && configDeleted;
 		}
 		return false;
@@ -177,25 +595,109 @@ public class MapManager {
 	}
 	
 	/**
-	 * Get all the available {@link GameMap}s for a specific {@link GameStyle}
+	 * Get all the available {@link GameMap}s for a specific {@link GameType}
 	 * 
-	 * @param style The {@link GameStyle} to get the {@link GameMap}s from
+	 * @param type The {@link GameType} to get the {@link GameMap}s from
 	 * 
-	 * @return A {@link List} containing all the available {@link GameMap}s for the given
-	 * {@link GameStyle} by thier names
+	 * @return An unmodifiable {@link List} containing all the available {@link GameMap}s for the
+	 * given {@link GameType} by thier names
 	 * 
 	 * @since 1.0.0
 	 */
 	
-	@Default(value = ArrayList.class)
+	@Default(value = List.class)
 	public List<String> getAvalibleMaps(@NotNull GameType type) {
-		Set<String> options = new HashSet<>();
+		List<String> options = type == null ? null : catalog.get(type);
+		return options == null ? Collections.emptyList() : options;
+	}
+	
+	/**
+	 * {@link Method} to pick {@link Random} available {@link GameMap}s of a {@link GameType}
+	 * without repetition, this {@link Method} does not allocate any object
+	 * 
+	 * @param type The {@link GameType} to pick the {@link GameMap}s from
+	 * @param amount The maximum amount of {@link GameMap}s to pick
+	 * @param result The array to put the picked {@link GameMap} names in
+	 * 
+	 * @return The amount of {@link GameMap} names put in the given array
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int sample(@NotNull GameType type, int amount, @NotNull String[] result) {
+		if (result == null) return 0;
+		
+		List<String> options = getAvalibleMaps(type);
+		int size = options.size();
+		int wanted = Math.min(Math.min(amount, result.length), size);
+		int picked = 0;
+		
+		for (int i = 0; i < size && picked < wanted; i++) {
+			if (RANDOM.nextInt(size - i) < wanted - picked) {
+				result[picked++] = options.get(i);
+			}
+		}
+		for (int i = picked - 1; i > 0; i--) {
+			int j = RANDOM.nextInt(i + 1);
+			String option = result[i];
+			
+			result[i] = result[j];
+			result[j] = option;
+		}
+		return picked;
+	}
+	
+	/**
+	 * {@link Method} to ask the {@link GameWorldPool} to keep {@link GameWorld}s ready for a
+	 * {@link GameMap} and {@link GameType}, called when the {@link GameMap} becomes a vote option
+	 * of a {@link Room} and when it is voted for, so only the {@link GameMap}s that may be played
+	 * are warmed, the {@link GameType}s without a {@link Game} are never warmed since their
+	 * {@link Room}s cannot start
+	 * 
+	 * @param name The name of the {@link GameMap} to warm
+	 * @param type The {@link GameType} to warm
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void warm(@NotNull String name, @NotNull GameType type) {
+		GameMap gameMap = name == null ? null : avalibleMaps.get(name);
 		
-		for (GameMap gameMap : avalibleMaps.values()) {
-			if (gameMap.getConfigFile().isValidType(type)) {
-				options.add(gameMap.getName());
+		if (gameMap != null && Game.isImplemented(type)) {
+			worldPool.warm(gameMap, type);
+		}
+	}
+	
+	/**
+	 * {@link Method} to update the {@link GameType} catalog after a {@link GameMap} has been
+	 * registered, unregistered or had its {@link GameMapFile} changed
+	 * 
+	 * @param name The name of the {@link GameMap} that has changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void updateCatalog(@NotNull String name) {
+		if (name == null) return;
+		
+		GameMap gameMap = avalibleMaps.get(name);
+		
+		for (GameType type : GameType.values()) {
+			boolean valid = gameMap != null && gameMap.isValidType(type);
+			List<String> options = getAvalibleMaps(type);
+			
+			if (valid != options.contains(name)) {
+				List<String> updated = new ArrayList<>(options);
+				
+				if (valid) {
+					updated.add(name);
+				}
+				else {
+					updated.remove(name);
+				}
+				catalog.put(type, Collections.unmodifiableList(updated));
 			}
 		}
-		return new ArrayList<>(options);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,675 @@
+package net.peng1104.game.maps;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.World.Environment;
+import org.bukkit.WorldCreator;
+import org.bukkit.block.Chest;
+import org.bukkit.block.Sign;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.generator.BlockPopulator;
+import org.bukkit.generator.ChunkGenerator;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link Class} to keep the blocks of a {@link GameMap} in memory, only the non empty chunk
+ * sections are kept and they are stored compressed on the disk, new {@link World}s are generated
+ * from the memory by a {@link ChunkGenerator} instead of cloning the region files and the data
+ * values are set by {@link #applyData(Chunk)} as soon as each generated {@link Chunk} is loaded,
+ * only the type ids and data values are kept, so the {@link GameMap}s with tile entities or
+ * {@link Entity}s cannot become a {@link MapTemplate}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class MapTemplate {
+	
+	/**
+	 * The first int of a {@link MapTemplate} {@link File}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAGIC = 0x4152544D;
+	
+	/**
+	 * The format version of the {@link MapTemplate} {@link File}, the {@link File}s of the first
+	 * version may have been captured from {@link GameMap}s with tile entities
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int VERSION = 2;
+	
+	/**
+	 * The amount of blocks in a chunk section
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int SECTION_VOLUME = 4096;
+	
+	/**
+	 * The {@link TemplateChunk}s of this {@link MapTemplate} by their packed coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Long, TemplateChunk> chunks;
+	
+	/**
+	 * The {@link Environment} of the {@link World}s created by this {@link MapTemplate}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Environment environment;
+	
+	/**
+	 * The spawn coordinates of the {@link World}s created by this {@link MapTemplate}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final double spawnX, spawnY, spawnZ;
+	
+	/**
+	 * Internal {@link MapTemplate} {@link java.lang.reflect.Constructor}
+	 * 
+	 * @param chunks The {@link TemplateChunk}s by their packed coordinates
+	 * @param environment The {@link Environment} of the {@link World}s to create
+	 * @param spawnX The spawn x coordinate of the {@link World}s to create
+	 * @param spawnY The spawn y coordinate of the {@link World}s to create
+	 * @param spawnZ The spawn z coordinate of the {@link World}s to create
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private MapTemplate(@NotNull Map<Long, TemplateChunk> chunks, @NotNull Environment environment,
+			double spawnX, double spawnY, double spawnZ) {
+		
+		this.chunks = chunks;
+		this.environment = environment;
+		this.spawnX = spawnX;
+		this.spawnY = spawnY;
+		this.spawnZ = spawnZ;
+	}
+	
+	/**
+	 * {@link Method} to capture the blocks of a loaded {@link World} into a new
+	 * {@link MapTemplate}, the captured chunks are the ones inside the given {@link ArenaBounds}
+	 * or, when there are none, all the chunks saved in the region files of the given source, this
+	 * {@link Method} must be called in the main thread
+	 * <p>
+	 * A {@link World} with a tile entity kept by a {@link TileSnapshot}, like a {@link Sign} or a
+	 * {@link Chest}, or with an {@link Entity} that is not a {@link Player} in the captured chunks
+	 * is refused, since the {@link World}s created from the {@link MapTemplate} would not have them
+	 * 
+	 * @param world The {@link World} to capture, usually a maintenance {@link World}
+	 * @param source The folder of the {@link World} source
+	 * @param bounds The {@link ArenaBounds} of the {@link GameMap}, or null to capture all the
+	 * saved chunks
+	 * 
+	 * @return The captured {@link MapTemplate}
+	 * 
+	 * @throws IOException If the region files of the given source could not be read
+	 * @throws IllegalStateException If the given {@link World} has a tile entity or an
+	 * {@link Entity} that a {@link MapTemplate} cannot keep
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	@SuppressWarnings("deprecation")
+	public static MapTemplate capture(@NotNull World world, @NotNull File source,
+			@Nullable ArenaBounds bounds) throws IOException {
+		
+		if (world == null) {
+			throw new IllegalArgumentException("World cannot be null");
+		}
+		if (source == null) {
+			throw new IllegalArgumentException("Source cannot be null");
+		}
+		Map<Long, TemplateChunk> chunks = new HashMap<>();
+		
+		for (long key : getChunkKeys(source, bounds)) {
+			int chunkX = (int) (key >> 32);
+			int chunkZ = (int) key;
+			boolean loaded = world.isChunkLoaded(chunkX, chunkZ);
+			Chunk source = world.getChunkAt(chunkX, chunkZ);
+			
+			for (Entity entity : source.getEntities()) {
+				if (!(entity instanceof Player)) {
+					if (!loaded) {
+						world.unloadChunk(chunkX, chunkZ, false);
+					}
+					throw new IllegalStateException("The entity " + entity.getType() + " at "
+							+ describe(entity.getLocation()) + " cannot be kept by a template");
+				}
+			}
+			ChunkSnapshot snapshot = source.getChunkSnapshot(false, false, false);
+			TemplateChunk chunk = new TemplateChunk();
+			
+			for (int section = 0; section < 16; section++) {
+				if (snapshot.isSectionEmpty(section)) continue;
+				
+				short[] ids = new short[SECTION_VOLUME];
+				byte[] data = new byte[SECTION_VOLUME / 2];
+				boolean hasBlocks = false;
+				boolean hasData = false;
+				
+				for (int index = 0; index < SECTION_VOLUME; index++) {
+					int x = index & 0xF;
+					int z = index >> 4 & 0xF;
+					int y = section << 4 | index >> 8;
+					int id = snapshot.getBlockTypeId(x, y, z);
+					
+					if (id == 0) continue;
+					
+					Material type = Material.getMaterial(id);
+					
+					if (TileSnapshot.hasTileEntity(type)) {
+						if (!loaded) {
+							world.unloadChunk(chunkX, chunkZ, false);
+						}
+						throw new IllegalStateException("The tile entity " + type + " at "
+								+ (chunkX << 4 | x) + ", " + y + ", " + (chunkZ << 4 | z)
+								+ " cannot be kept by a template");
+					}
+					int value = snapshot.getBlockData(x, y, z) & 0xF;
+					
+					ids[index] = (short) id;
+					hasBlocks = true;
+					
+					if (value != 0) {
+						data[index >> 1] |= value << ((index & 1) << 2);
+						hasData = true;
+					}
+				}
+				if (hasBlocks) {
+					chunk.ids[section] = ids;
+					chunk.data[section] = hasData ? data : null;
+				}
+			}
+			if (!chunk.isEmpty()) {
+				chunks.put(key, chunk);
+			}
+			if (!loaded) {
+				world.unloadChunk(chunkX, chunkZ, false);
+			}
+		}
+		Location spawn = world.getSpawnLocation();
+		
+		return new MapTemplate(chunks, world.getEnvironment(), spawn.getX(), spawn.getY(),
+				spawn.getZ());
+	}
+	
+	/**
+	 * {@link Method} to read a {@link MapTemplate} {@link File}, this {@link Method} does not touch
+	 * Bukkit and can be called in any thread
+	 * 
+	 * @param file The {@link File} to read
+	 * 
+	 * @return The read {@link MapTemplate}, or null if the given {@link File} does not exist or is
+	 * corrupted or outdated
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public static MapTemplate read(@NotNull File file) {
+		if (file == null || !file.isFile()) return null;
+		
+		try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+				new BufferedInputStream(new FileInputStream(file))))) {
+			
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+			
+			Environment environment = Environment.valueOf(in.readUTF());
+			double spawnX = in.readDouble();
+			double spawnY = in.readDouble();
+			double spawnZ = in.readDouble();
+			int amount = in.readInt();
+			
+			Map<Long, TemplateChunk> chunks = new HashMap<>(amount * 4 / 3 + 1);
+			byte[] buffer = new byte[SECTION_VOLUME * 2];
+			
+			for (int i = 0; i < amount; i++) {
+				long key = in.readLong();
+				int sections = in.readUnsignedShort();
+				int dataSections = in.readUnsignedShort();
+				TemplateChunk chunk = new TemplateChunk();
+				
+				for (int section = 0; section < 16; section++) {
+					if ((sections & 1 << section) == 0) continue;
+					
+					short[] ids = new short[SECTION_VOLUME];
+					
+					in.readFully(buffer);
+					ByteBuffer.wrap(buffer).asShortBuffer().get(ids);
+					chunk.ids[section] = ids;
+					
+					if ((dataSections & 1 << section) != 0) {
+						byte[] data = new byte[SECTION_VOLUME / 2];
+						
+						in.readFully(data);
+						chunk.data[section] = data;
+					}
+				}
+				chunks.put(key, chunk);
+			}
+			return new MapTemplate(chunks, environment, spawnX, spawnY, spawnZ);
+		}
+		catch (IOException | IllegalArgumentException exception) {
+			return null;
+		}
+	}
+	
+	/**
+	 * {@link Method} to write this {@link MapTemplate} into a {@link File}, it is written into a
+	 * temporary {@link File} first and then moved over the given one, this {@link Method} does not
+	 * touch Bukkit and can be called in any thread
+	 * 
+	 * @param file The {@link File} to write
+	 * 
+	 * @return True if this {@link MapTemplate} has been written without errors
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean write(@NotNull File file) {
+		if (file == null) return false;
+		
+		File temporary = new File(file.getParentFile(), file.getName() + ".tmp");
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		
+		try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(
+				new BufferedOutputStream(new FileOutputStream(temporary)), deflater))) {
+			
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(environment.name());
+			out.writeDouble(spawnX);
+			out.writeDouble(spawnY);
+			out.writeDouble(spawnZ);
+			out.writeInt(chunks.size());
+			
+			byte[] buffer = new byte[SECTION_VOLUME * 2];
+			
+			for (Map.Entry<Long, TemplateChunk> entry : chunks.entrySet()) {
+				TemplateChunk chunk = entry.getValue();
+				int sections = 0;
+				int dataSections = 0;
+				
+				for (int section = 0; section < 16; section++) {
+					if (chunk.ids[section] != null) {
+						sections |= 1 << section;
+					}
+					if (chunk.data[section] != null) {
+						dataSections |= 1 << section;
+					}
+				}
+				out.writeLong(entry.getKey());
+				out.writeShort(sections);
+				out.writeShort(dataSections);
+				
+				for (int section = 0; section < 16; section++) {
+					if (chunk.ids[section] == null) continue;
+					
+					ByteBuffer.wrap(buffer).asShortBuffer().put(chunk.ids[section]);
+					out.write(buffer);
+					
+					if (chunk.data[section] != null) {
+						out.write(chunk.data[section]);
+					}
+				}
+			}
+		}
+		catch (IOException exception) {
+			temporary.delete();
+			return false;
+		}
+		finally {
+			deflater.end();
+		}
+		try {
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		}
+		catch (IOException exception) {
+			temporary.delete();
+			return false;
+		}
+	}
+	
+	/**
+	 * {@link Method} to create a new {@link World} generated from this {@link MapTemplate}, no
+	 * region {@link File} is read, this {@link Method} must be called in the main thread
+	 * 
+	 * @param name The name of the {@link World} to create
+	 * 
+	 * @return The created {@link World}, or null if it could not be created
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public World createWorld(@NotNull String name) {
+		if (name == null || name.isEmpty()) return null;
+		
+		World world = new WorldCreator(name).environment(environment).generateStructures(false)
+				.generator(new Generator()).createWorld();
+		
+		if (world != null) {
+			world.setAutoSave(false);
+			world.setKeepSpawnInMemory(false);
+		}
+		return world;
+	}
+	
+	/**
+	 * {@link Method} to set the data values of a {@link Chunk} generated from a
+	 * {@link MapTemplate}, the colors and orientations of its blocks, it must be called as soon as
+	 * a new {@link Chunk} is loaded since a {@link BlockPopulator} only runs once all its
+	 * neighbours are loaded and the {@link Chunk}s at the edges of an arena would never get their
+	 * data values, this {@link Method} must be called in the main thread
+	 * 
+	 * @param chunk The new {@link Chunk}
+	 * 
+	 * @return True if the {@link World} of the given {@link Chunk} has been generated from a
+	 * {@link MapTemplate}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public static boolean applyData(@NotNull Chunk chunk) {
+		ChunkGenerator generator = chunk == null ? null : chunk.getWorld().getGenerator();
+		
+		if (!(generator instanceof Generator)) return false;
+		
+		((Generator) generator).getTemplate().setData(chunk);
+		return true;
+	}
+	
+	/**
+	 * Get the amount of chunks with blocks in this {@link MapTemplate}
+	 * 
+	 * @return The amount of chunks of this {@link MapTemplate}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getChunksAmount() {
+		return chunks.size();
+	}
+	
+	/**
+	 * Get the amount of non empty chunk sections in this {@link MapTemplate}
+	 * 
+	 * @return The amount of chunk sections kept in memory
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getSectionsAmount() {
+		int amount = 0;
+		
+		for (TemplateChunk chunk : chunks.values()) {
+			for (short[] ids : chunk.ids) {
+				if (ids != null) {
+					amount++;
+				}
+			}
+		}
+		return amount;
+	}
+	
+	/**
+	 * Internal {@link Method} to set the data values kept for a {@link Chunk}
+	 * 
+	 * @param source The generated {@link Chunk}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@SuppressWarnings("deprecation")
+	private void setData(@NotNull Chunk source) {
+		TemplateChunk chunk = chunks.get(pack(source.getX(), source.getZ()));
+		
+		if (chunk == null) return;
+		
+		for (int section = 0; section < 16; section++) {
+			byte[] data = chunk.data[section];
+			
+			if (data == null) continue;
+			
+			for (int index = 0; index < SECTION_VOLUME; index++) {
+				int value = data[index >> 1] >> ((index & 1) << 2) & 0xF;
+				
+				if (value != 0) {
+					source.getBlock(index & 0xF, section << 4 | index >> 8, index >> 4 & 0xF)
+							.setData((byte) value, false);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to get the packed coordinates of the chunks to capture
+	 * 
+	 * @param source The folder of the {@link World} source
+	 * @param bounds The {@link ArenaBounds} of the {@link GameMap}, or null to use the region files
+	 * 
+	 * @return The packed coordinates of the chunks to capture
+	 * 
+	 * @throws IOException If a region {@link File} could not be read
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	private static List<Long> getChunkKeys(@NotNull File source, @Nullable ArenaBounds bounds)
+			throws IOException {
+		
+		List<Long> keys = new ArrayList<>();
+		
+		if (bounds != null) {
+			for (int x = bounds.getMinX() >> 4; x <= bounds.getMaxX() >> 4; x++) {
+				for (int z = bounds.getMinZ() >> 4; z <= bounds.getMaxZ() >> 4; z++) {
+					keys.add(pack(x, z));
+				}
+			}
+			return keys;
+		}
+		File[] regions = new File(source, "region").listFiles((directory, name)
+				-> name.startsWith("r.") && name.endsWith(".mca"));
+		
+		if (regions == null) return Collections.emptyList();
+		
+		byte[] header = new byte[4096];
+		
+		for (File region : regions) {
+			String[] parts = region.getName().split("\\.");
+			
+			if (parts.length != 4 || region.length() < header.length) continue;
+			
+			int regionX;
+			int regionZ;
+			
+			try {
+				regionX = Integer.parseInt(parts[1]);
+				regionZ = Integer.parseInt(parts[2]);
+			}
+			catch (NumberFormatException exception) {
+				continue;
+			}
+			try (RandomAccessFile file = new RandomAccessFile(region, "r")) {
+				file.readFully(header);
+			}
+			ByteBuffer locations = ByteBuffer.wrap(header);
+			
+			for (int i = 0; i < 1024; i++) {
+				if (locations.getInt(i << 2) != 0) {
+					keys.add(pack(regionX << 5 | i & 31, regionZ << 5 | i >> 5));
+				}
+			}
+		}
+		return keys;
+	}
+	
+	/**
+	 * Internal {@link Method} to describe the block coordinates of a {@link Location}
+	 * 
+	 * @param location The {@link Location} to describe
+	 * 
+	 * @return The block coordinates of the given {@link Location} separated by commas
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	private static String describe(@NotNull Location location) {
+		return location.getBlockX() + ", " + location.getBlockY() + ", " + location.getBlockZ();
+	}
+	
+	/**
+	 * Internal {@link Method} to pack the coordinates of a chunk into a long
+	 * 
+	 * @param x The x coordinate of the chunk
+	 * @param z The z coordinate of the chunk
+	 * 
+	 * @return The packed coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	private static long pack(int x, int z) {
+		return (long) x << 32 | z & 0xFFFFFFFFL;
+	}
+	
+	/**
+	 * {@link Class} to keep the non empty sections of a chunk, the blocks of a section are indexed
+	 * by y, z and x, the data values are kept as nibbles
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class TemplateChunk {
+		
+		/**
+		 * The type ids of each section, null for an empty section
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final short[][] ids = new short[16][];
+		
+		/**
+		 * The data values of each section, null if all of them are zero
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final byte[][] data = new byte[16][];
+		
+		/**
+		 * Check if this {@link TemplateChunk} has no blocks
+		 * 
+		 * @return True if all the sections of this {@link TemplateChunk} are empty
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Default(Boolean = true)
+		private boolean isEmpty() {
+			for (short[] section : ids) {
+				if (section != null) return false;
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * {@link ChunkGenerator} that generates the chunks of a {@link World} from the memory of this
+	 * {@link MapTemplate}, the data values are set by {@link MapTemplate#applyData(Chunk)}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final class Generator extends ChunkGenerator {
+		
+		/**
+		 * Get the {@link MapTemplate} of this {@link Generator}
+		 * 
+		 * @return The {@link MapTemplate} that generates the {@link Chunk}s
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@NotNull
+		private MapTemplate getTemplate() {
+			return MapTemplate.this;
+		}
+		
+		@Override
+		@SuppressWarnings("deprecation")
+		public short[][] generateExtBlockSections(World world, Random random, int x, int z,
+				BiomeGrid biomes) {
+			
+			TemplateChunk chunk = chunks.get(pack(x, z));
+			short[][] result = new short[world.getMaxHeight() >> 4][];
+			
+			if (chunk != null) {
+				for (int section = 0; section < result.length && section < 16; section++) {
+					if (chunk.ids[section] != null) {
+						result[section] = chunk.ids[section].clone();
+					}
+				}
+			}
+			return result;
+		}
+		
+		@Override
+		public Location getFixedSpawnLocation(World world, Random random) {
+			return new Location(world, spawnX, spawnY, spawnZ);
+		}
+	}
+}
\ No newline at end of file
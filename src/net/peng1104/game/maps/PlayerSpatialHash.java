@@ -0,0 +1,740 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * {@link Class} to keep the bounding boxes of the {@link Player}s of a {@link GameWorld} in a
+ * grid of columns, so the shots of the {@link GameType#isGunMode()} {@link GameType}s only test
+ * the {@link Player}s in the columns crossed by the ray instead of every {@link Player} of the
+ * {@link World}, the {@link Player}s only change of columns when they leave their current ones
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class PlayerSpatialHash {
+	
+	/**
+	 * The shift from a block coordinate to a column coordinate, each column is 4 blocks wide
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int CELL_SHIFT = 2;
+	
+	/**
+	 * The width of a column in blocks
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int CELL_SIZE = 1 << CELL_SHIFT;
+	
+	/**
+	 * Half of the width of the bounding box of a {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final double HALF_WIDTH = 0.3;
+	
+	/**
+	 * The height of the bounding box of a {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final double HEIGHT = 1.8;
+	
+	/**
+	 * The {@link World} of the {@link GameWorld}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final World world;
+	
+	/**
+	 * The {@link Entry}s in each column by its packed coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Long, List<Entry>> cells = new HashMap<>();
+	
+	/**
+	 * The {@link Entry} of each tracked {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Player, Entry> entries = new HashMap<>();
+	
+	/**
+	 * Create a new empty {@link PlayerSpatialHash}
+	 * 
+	 * @param world The {@link World} of the {@link GameWorld}
+	 * 
+	 * @throws IllegalArgumentException If the given {@link World} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public PlayerSpatialHash(@NotNull World world) {
+		if (world == null) {
+			throw new IllegalArgumentException("World cannot be null");
+		}
+		this.world = world;
+	}
+	
+	/**
+	 * {@link Method} to track a {@link Player} at a new {@link Location}, a {@link Location} in
+	 * another {@link World} stops tracking it
+	 * 
+	 * @param player The {@link Player} that has moved
+	 * @param location The new {@link Location} of the {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void update(@NotNull Player player, @NotNull Location location) {
+		if (player == null || location == null) return;
+		
+		if (location.getWorld() != world) {
+			remove(player);
+			return;
+		}
+		double x = location.getX();
+		double y = location.getY();
+		double z = location.getZ();
+		
+		Entry entry = entries.get(player);
+		
+		if (entry == null) {
+			entry = new Entry(player);
+			entries.put(player, entry);
+			entry.move(x, y, z);
+			link(entry);
+		}
+		else if (entry.fits(x, z)) {
+			entry.move(x, y, z);
+		}
+		else {
+			unlink(entry);
+			entry.move(x, y, z);
+			link(entry);
+		}
+	}
+	
+	/**
+	 * {@link Method} to stop tracking a {@link Player}
+	 * 
+	 * @param player The {@link Player} to remove
+	 * 
+	 * @return True if the given {@link Player} was being tracked
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean remove(@NotNull Player player) {
+		Entry entry = player == null ? null : entries.remove(player);
+		
+		if (entry == null) return false;
+		
+		unlink(entry);
+		return true;
+	}
+	
+	/**
+	 * Get the amount of tracked {@link Player}s
+	 * 
+	 * @return The amount of {@link Player}s in this {@link PlayerSpatialHash}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * {@link Method} to stop tracking all the {@link Player}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void clear() {
+		entries.clear();
+		cells.clear();
+	}
+	
+	/**
+	 * {@link Method} to find the first {@link Player} or solid {@link Block} hit by a shot, the
+	 * dead {@link Player}s and the ones in {@link GameMode#SPECTATOR} are never hit
+	 * 
+	 * @param origin The position where the shot starts
+	 * @param direction The direction of the shot
+	 * @param maxDistance The range of the shot in blocks
+	 * @param shooter The {@link Player} that fired, it is never hit, or null
+	 * 
+	 * @return The {@link Hit}, or null if the shot did not hit anything within its range
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #raycast(Vector, Vector, double, Player, Predicate)
+	 */
+	
+	@Nullable
+	public Hit raycast(@NotNull Vector origin, @NotNull Vector direction, double maxDistance,
+			@Nullable Player shooter) {
+		
+		return raycast(origin, direction, maxDistance, shooter, null);
+	}
+	
+	/**
+	 * {@link Method} to find the first {@link Player} or solid {@link Block} hit by a shot, the
+	 * {@link Block}s are walked one by one and the {@link Player}s column by column, both up to the
+	 * closest hit, the {@link Block}s of unloaded {@link org.bukkit.Chunk}s stop the shot without
+	 * loading them, the dead {@link Player}s, the ones in {@link GameMode#SPECTATOR} and the ones
+	 * rejected by the given {@link Predicate} are never hit, this {@link Method} must be called in
+	 * the main thread
+	 * 
+	 * @param origin The position where the shot starts
+	 * @param direction The direction of the shot
+	 * @param maxDistance The range of the shot in blocks
+	 * @param shooter The {@link Player} that fired, it is never hit, or null
+	 * @param targets The {@link Predicate} of the {@link Player}s that can be hit, usually the
+	 * ones still alive in the {@link net.peng1104.game.games.Game}, or null to accept all of them
+	 * 
+	 * @return The {@link Hit}, or null if the shot did not hit anything within its range
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public Hit raycast(@NotNull Vector origin, @NotNull Vector direction, double maxDistance,
+			@Nullable Player shooter, @Nullable Predicate<Player> targets) {
+		
+		if (origin == null || direction == null || maxDistance <= 0
+				|| direction.lengthSquared() == 0) {
+			
+			return null;
+		}
+		Vector normal = direction.clone().normalize();
+		
+		double ox = origin.getX();
+		double oy = origin.getY();
+		double oz = origin.getZ();
+		double dx = normal.getX();
+		double dy = normal.getY();
+		double dz = normal.getZ();
+		
+		Block block = traceBlocks(ox, oy, oz, dx, dy, dz, maxDistance);
+		double limit = block == null ? maxDistance : distance(block, ox, oy, oz, dx, dy, dz);
+		
+		Entry closest = null;
+		double best = limit;
+		
+		if (!entries.isEmpty()) {
+			int cellX = (int) Math.floor(ox) >> CELL_SHIFT;
+			int cellZ = (int) Math.floor(oz) >> CELL_SHIFT;
+			int stepX = dx > 0 ? 1 : -1;
+			int stepZ = dz > 0 ? 1 : -1;
+			
+			double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : CELL_SIZE / Math.abs(dx);
+			double deltaZ = dz == 0 ? Double.POSITIVE_INFINITY : CELL_SIZE / Math.abs(dz);
+			double nextX = dx == 0 ? Double.POSITIVE_INFINITY
+					: ((cellX + (dx > 0 ? 1 : 0)) * CELL_SIZE - ox) / dx;
+			double nextZ = dz == 0 ? Double.POSITIVE_INFINITY
+					: ((cellZ + (dz > 0 ? 1 : 0)) * CELL_SIZE - oz) / dz;
+			double enter = 0;
+			
+			while (enter <= best) {
+				List<Entry> cell = cells.get(pack(cellX, cellZ));
+				
+				if (cell != null) {
+					for (int i = 0; i < cell.size(); i++) {
+						Entry entry = cell.get(i);
+						double hit = entry.intersect(ox, oy, oz, dx, dy, dz);
+						
+						if (hit >= 0 && hit < best && entry.player != shooter
+								&& canBeHit(entry.player, targets)) {
+							
+							best = hit;
+							closest = entry;
+						}
+					}
+				}
+				if (nextX < nextZ) {
+					enter = nextX;
+					nextX += deltaX;
+					cellX += stepX;
+				}
+				else {
+					enter = nextZ;
+					nextZ += deltaZ;
+					cellZ += stepZ;
+				}
+			}
+		}
+		if (closest != null) return new Hit(closest.player, null, best);
+		
+		return block == null ? null : new Hit(null, block, limit);
+	}
+	
+	/**
+	 * Check if a {@link Player} can be hit by a shot, the dead {@link Player}s and the ones in
+	 * {@link GameMode#SPECTATOR} are never hit
+	 * 
+	 * @param player The {@link Player} to check
+	 * @param targets The {@link Predicate} of the {@link Player}s that can be hit, or null to
+	 * accept all of them
+	 * 
+	 * @return True if the given {@link Player} can be hit
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public static boolean canBeHit(@NotNull Player player, @Nullable Predicate<Player> targets) {
+		return player != null && !player.isDead() && player.getGameMode() != GameMode.SPECTATOR
+				&& (targets == null || targets.test(player));
+	}
+	
+	/**
+	 * Internal {@link Method} to walk the {@link Block}s crossed by a shot
+	 * 
+	 * @param ox The x coordinate of the origin
+	 * @param oy The y coordinate of the origin
+	 * @param oz The z coordinate of the origin
+	 * @param dx The x coordinate of the normalized direction
+	 * @param dy The y coordinate of the normalized direction
+	 * @param dz The z coordinate of the normalized direction
+	 * @param maxDistance The range of the shot
+	 * 
+	 * @return The first solid {@link Block}, or null if there is none within the range
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private Block traceBlocks(double ox, double oy, double oz, double dx, double dy, double dz,
+			double maxDistance) {
+		
+		int x = (int) Math.floor(ox);
+		int y = (int) Math.floor(oy);
+		int z = (int) Math.floor(oz);
+		int stepX = dx > 0 ? 1 : -1;
+		int stepY = dy > 0 ? 1 : -1;
+		int stepZ = dz > 0 ? 1 : -1;
+		
+		double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : 1 / Math.abs(dx);
+		double deltaY = dy == 0 ? Double.POSITIVE_INFINITY : 1 / Math.abs(dy);
+		double deltaZ = dz == 0 ? Double.POSITIVE_INFINITY : 1 / Math.abs(dz);
+		double nextX = dx == 0 ? Double.POSITIVE_INFINITY : (x + (dx > 0 ? 1 : 0) - ox) / dx;
+		double nextY = dy == 0 ? Double.POSITIVE_INFINITY : (y + (dy > 0 ? 1 : 0) - oy) / dy;
+		double nextZ = dz == 0 ? Double.POSITIVE_INFINITY : (z + (dz > 0 ? 1 : 0) - oz) / dz;
+		double enter = 0;
+		
+		while (enter <= maxDistance) {
+			if (y < 0 || y > 255) return null;
+			
+			if (!world.isChunkLoaded(x >> 4, z >> 4)) return null;
+			
+			Block block = world.getBlockAt(x, y, z);
+			
+			if (block.getType().isSolid()) return block;
+			
+			if (nextX < nextY && nextX < nextZ) {
+				enter = nextX;
+				nextX += deltaX;
+				x += stepX;
+			}
+			else if (nextY < nextZ) {
+				enter = nextY;
+				nextY += deltaY;
+				y += stepY;
+			}
+			else {
+				enter = nextZ;
+				nextZ += deltaZ;
+				z += stepZ;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Internal {@link Method} to get the distance where a shot enters a {@link Block}
+	 * 
+	 * @param block The {@link Block} hit by the shot
+	 * @param ox The x coordinate of the origin
+	 * @param oy The y coordinate of the origin
+	 * @param oz The z coordinate of the origin
+	 * @param dx The x coordinate of the normalized direction
+	 * @param dy The y coordinate of the normalized direction
+	 * @param dz The z coordinate of the normalized direction
+	 * 
+	 * @return The distance from the origin to the given {@link Block}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static double distance(@NotNull Block block, double ox, double oy, double oz,
+			double dx, double dy, double dz) {
+		
+		double hit = intersect(block.getX(), block.getY(), block.getZ(), block.getX() + 1,
+				block.getY() + 1, block.getZ() + 1, ox, oy, oz, dx, dy, dz);
+		
+		return Math.max(0, hit);
+	}
+	
+	/**
+	 * Internal {@link Method} to add an {@link Entry} to the columns its bounding box touches
+	 * 
+	 * @param entry The {@link Entry} to add
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void link(@NotNull Entry entry) {
+		for (int x = entry.minCellX; x <= entry.maxCellX; x++) {
+			for (int z = entry.minCellZ; z <= entry.maxCellZ; z++) {
+				cells.computeIfAbsent(pack(x, z), key -> new ArrayList<>(4)).add(entry);
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to remove an {@link Entry} from the columns it was added to
+	 * 
+	 * @param entry The {@link Entry} to remove
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void unlink(@NotNull Entry entry) {
+		for (int x = entry.minCellX; x <= entry.maxCellX; x++) {
+			for (int z = entry.minCellZ; z <= entry.maxCellZ; z++) {
+				Long key = pack(x, z);
+				List<Entry> cell = cells.get(key);
+				
+				if (cell != null && cell.remove(entry) && cell.isEmpty()) {
+					cells.remove(key);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to pack the coordinates of a column
+	 * 
+	 * @param x The x coordinate of the column
+	 * @param z The z coordinate of the column
+	 * 
+	 * @return The packed coordinates
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	private static long pack(int x, int z) {
+		return (long) x << 32 | z & 0xFFFFFFFFL;
+	}
+	
+	/**
+	 * Internal {@link Method} to intersect a ray with a box, the axes are written out one by one
+	 * so a shot tested against every {@link Player} of a column does not allocate
+	 * 
+	 * @param minX The smallest x coordinate of the box
+	 * @param minY The smallest y coordinate of the box
+	 * @param minZ The smallest z coordinate of the box
+	 * @param maxX The biggest x coordinate of the box
+	 * @param maxY The biggest y coordinate of the box
+	 * @param maxZ The biggest z coordinate of the box
+	 * @param ox The x coordinate of the origin
+	 * @param oy The y coordinate of the origin
+	 * @param oz The z coordinate of the origin
+	 * @param dx The x coordinate of the normalized direction
+	 * @param dy The y coordinate of the normalized direction
+	 * @param dz The z coordinate of the normalized direction
+	 * 
+	 * @return The distance where the ray enters the box, zero if it starts inside it, or -1 if it
+	 * misses the box
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static double intersect(double minX, double minY, double minZ, double maxX,
+			double maxY, double maxZ, double ox, double oy, double oz, double dx, double dy,
+			double dz) {
+		
+		double near = 0;
+		double far = Double.POSITIVE_INFINITY;
+		
+		if (dx == 0) {
+			if (ox < minX || ox > maxX) return -1;
+		}
+		else {
+			double first = (minX - ox) / dx;
+			double second = (maxX - ox) / dx;
+			
+			near = Math.max(near, Math.min(first, second));
+			far = Math.min(far, Math.max(first, second));
+			
+			if (near > far) return -1;
+		}
+		if (dy == 0) {
+			if (oy < minY || oy > maxY) return -1;
+		}
+		else {
+			double first = (minY - oy) / dy;
+			double second = (maxY - oy) / dy;
+			
+			near = Math.max(near, Math.min(first, second));
+			far = Math.min(far, Math.max(first, second));
+			
+			if (near > far) return -1;
+		}
+		if (dz == 0) {
+			if (oz < minZ || oz > maxZ) return -1;
+		}
+		else {
+			double first = (minZ - oz) / dz;
+			double second = (maxZ - oz) / dz;
+			
+			near = Math.max(near, Math.min(first, second));
+			far = Math.min(far, Math.max(first, second));
+			
+			if (near > far) return -1;
+		}
+		return near;
+	}
+	
+	/**
+	 * {@link Class} to keep the bounding box of a tracked {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Entry {
+		
+		/**
+		 * The tracked {@link Player}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final Player player;
+		
+		/**
+		 * The position of the feet of the {@link Player}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private double x, y, z;
+		
+		/**
+		 * The range of columns touched by the bounding box of the {@link Player}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private int minCellX, maxCellX, minCellZ, maxCellZ;
+		
+		/**
+		 * Create a new {@link Entry}
+		 * 
+		 * @param player The tracked {@link Player}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Entry(@NotNull Player player) {
+			this.player = player;
+		}
+		
+		/**
+		 * Check if the bounding box at a new position touches the same columns
+		 * 
+		 * @param x The new x coordinate
+		 * @param z The new z coordinate
+		 * 
+		 * @return True if the {@link Entry} does not need to change of columns
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Default(Boolean = false)
+		private boolean fits(double x, double z) {
+			return cell(x - HALF_WIDTH) == minCellX && cell(x + HALF_WIDTH) == maxCellX
+					&& cell(z - HALF_WIDTH) == minCellZ && cell(z + HALF_WIDTH) == maxCellZ;
+		}
+		
+		/**
+		 * {@link Method} to move the bounding box and its range of columns
+		 * 
+		 * @param x The new x coordinate
+		 * @param y The new y coordinate
+		 * @param z The new z coordinate
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private void move(double x, double y, double z) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			
+			minCellX = cell(x - HALF_WIDTH);
+			maxCellX = cell(x + HALF_WIDTH);
+			minCellZ = cell(z - HALF_WIDTH);
+			maxCellZ = cell(z + HALF_WIDTH);
+		}
+		
+		/**
+		 * {@link Method} to intersect a ray with the bounding box
+		 * 
+		 * @param ox The x coordinate of the origin
+		 * @param oy The y coordinate of the origin
+		 * @param oz The z coordinate of the origin
+		 * @param dx The x coordinate of the normalized direction
+		 * @param dy The y coordinate of the normalized direction
+		 * @param dz The z coordinate of the normalized direction
+		 * 
+		 * @return The distance where the ray enters the bounding box, or -1 if it misses it
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private double intersect(double ox, double oy, double oz, double dx, double dy,
+				double dz) {
+			
+			return PlayerSpatialHash.intersect(x - HALF_WIDTH, y, z - HALF_WIDTH, x + HALF_WIDTH,
+					y + HEIGHT, z + HALF_WIDTH, ox, oy, oz, dx, dy, dz);
+		}
+		
+		/**
+		 * {@link Method} to get the column of a coordinate
+		 * 
+		 * @param coordinate The coordinate in blocks
+		 * 
+		 * @return The column coordinate
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Default(Int = 0)
+		private static int cell(double coordinate) {
+			return (int) Math.floor(coordinate) >> CELL_SHIFT;
+		}
+	}
+	
+	/**
+	 * {@link Class} to describe what a shot has hit
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final class Hit {
+		
+		/**
+		 * See {@link #getPlayer()}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final Player player;
+		
+		/**
+		 * See {@link #getBlock()}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final Block block;
+		
+		/**
+		 * See {@link #getDistance()}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final double distance;
+		
+		/**
+		 * Create a new {@link Hit}
+		 * 
+		 * @param player The hit {@link Player}, or null if a {@link Block} was hit
+		 * @param block The hit {@link Block}, or null if a {@link Player} was hit
+		 * @param distance The distance from the origin of the shot
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Hit(@Nullable Player player, @Nullable Block block, double distance) {
+			this.player = player;
+			this.block = block;
+			this.distance = distance;
+		}
+		
+		/**
+		 * Get the {@link Player} hit by the shot
+		 * 
+		 * @return The hit {@link Player}, or null if the shot hit a {@link Block}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Nullable
+		public Player getPlayer() {
+			return player;
+		}
+		
+		/**
+		 * Get the {@link Block} hit by the shot
+		 * 
+		 * @return The hit {@link Block}, or null if the shot hit a {@link Player}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Nullable
+		public Block getBlock() {
+			return block;
+		}
+		
+		/**
+		 * Get the distance from the origin of the shot to the hit
+		 * 
+		 * @return The distance in blocks
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		public double getDistance() {
+			return distance;
+		}
+	}
+}
\ No newline at end of file
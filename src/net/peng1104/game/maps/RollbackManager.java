@@ -0,0 +1,766 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.material.Attachable;
+import org.bukkit.material.Bed;
+import org.bukkit.material.Door;
+import org.bukkit.material.MaterialData;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * {@link Class} to journal the blocks changed in the {@link GameWorld}s of the
+ * {@link GameType#isRollbackable()} {@link GameType}s and restore them in a limited amount per
+ * tick, so the {@link GameWorld}s can be used again without touching the disk
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class RollbackManager implements Listener {
+	
+	/**
+	 * The {@link Material}s that drop when the {@link Block} below them is removed, the
+	 * {@link Attachable} ones are found by their attached {@link BlockFace}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final Set<Material> SUPPORTED = EnumSet.of(Material.RAILS,
+			Material.POWERED_RAIL, Material.DETECTOR_RAIL, Material.ACTIVATOR_RAIL,
+			Material.REDSTONE_WIRE, Material.DIODE_BLOCK_OFF, Material.DIODE_BLOCK_ON,
+			Material.REDSTONE_COMPARATOR_OFF, Material.REDSTONE_COMPARATOR_ON, Material.STONE_PLATE,
+			Material.WOOD_PLATE, Material.GOLD_PLATE, Material.IRON_PLATE, Material.CARPET,
+			Material.SNOW, Material.LONG_GRASS, Material.DEAD_BUSH, Material.YELLOW_FLOWER,
+			Material.RED_ROSE, Material.DOUBLE_PLANT, Material.SAPLING, Material.BROWN_MUSHROOM,
+			Material.RED_MUSHROOM, Material.CROPS, Material.CARROT, Material.POTATO,
+			Material.NETHER_WARTS, Material.MELON_STEM, Material.PUMPKIN_STEM,
+			Material.SUGAR_CANE_BLOCK, Material.CACTUS, Material.WATER_LILY, Material.FLOWER_POT,
+			Material.CAKE_BLOCK, Material.SKULL, Material.TRIPWIRE, Material.FIRE,
+			Material.WOODEN_DOOR, Material.IRON_DOOR_BLOCK, Material.SPRUCE_DOOR,
+			Material.BIRCH_DOOR, Material.JUNGLE_DOOR, Material.ACACIA_DOOR,
+			Material.DARK_OAK_DOOR);
+	
+	/**
+	 * The {@link BlockFace}s where a {@link Block} can be attached to its support
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final BlockFace[] ATTACHED_FACES = { BlockFace.UP, BlockFace.NORTH,
+			BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST, BlockFace.DOWN };
+	
+	/**
+	 * The maximum amount of {@link Block}s journaled in a chain of attached {@link Block}s, like a
+	 * sugar cane or a door over a rail
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAX_ATTACHED_DEPTH = 8;
+	
+	/**
+	 * The {@link BlockJournal}s by their {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<GameWorld, BlockJournal> journals = new HashMap<>();
+	
+	/**
+	 * The {@link BlockJournal}s by their {@link World}s, a shared {@link World} can have many
+	 * {@link BlockJournal}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<World, List<BlockJournal>> worlds = new HashMap<>();
+	
+	/**
+	 * The {@link GameWorld}s waiting to be restored
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Queue<Job> jobs = new ArrayDeque<>();
+	
+	/**
+	 * The {@link BukkitTask} that restores the {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * Create a new {@link RollbackManager}, start its {@link BukkitTask} and register it as a
+	 * {@link Listener}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public RollbackManager() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, 1, 1);
+		Bukkit.getPluginManager().registerEvents(this, Arcade.getInstance());
+	}
+	
+	/**
+	 * {@link Method} to start journaling the blocks changed in a {@link GameWorld}
+	 * 
+	 * @param gameWorld The {@link GameWorld} to journal
+	 * 
+	 * @return The {@link BlockJournal} of the given {@link GameWorld}, or null if its
+	 * {@link GameType} is not {@link GameType#isRollbackable()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public BlockJournal start(@NotNull GameWorld gameWorld) {
+		if (gameWorld == null || !gameWorld.getGameType().isRollbackable()) return null;
+		
+		BlockJournal journal = journals.get(gameWorld);
+		
+		if (journal == null) {
+			ArenaSlot slot = gameWorld.getArenaSlot();
+			
+			journal = new BlockJournal(slot == null ? null : slot.getBounds());
+			journals.put(gameWorld, journal);
+			worlds.computeIfAbsent(gameWorld.getWorld(), world -> new ArrayList<>(1)).add(journal);
+		}
+		return journal;
+	}
+	
+	/**
+	 * Get the {@link BlockJournal} of a {@link GameWorld}
+	 * 
+	 * @param gameWorld The {@link GameWorld}
+	 * 
+	 * @return The {@link BlockJournal} of the given {@link GameWorld}, or null if it is not
+	 * being journaled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public BlockJournal getJournal(@NotNull GameWorld gameWorld) {
+		return journals.get(gameWorld);
+	}
+	
+	/**
+	 * {@link Method} to restore the journaled blocks of a {@link GameWorld} over several ticks,
+	 * the non {@link Player} {@link Entity}s are removed first
+	 * 
+	 * @param gameWorld The {@link GameWorld} to restore
+	 * @param callback The {@link Runnable} to run in the main thread after the
+	 * {@link GameWorld} has been restored
+	 * 
+	 * @return True if the given {@link GameWorld} is being journaled and has been queued
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean restore(@NotNull GameWorld gameWorld, @Nullable Runnable callback) {
+		BlockJournal journal = gameWorld == null ? null : journals.get(gameWorld);
+		
+		if (journal == null) return false;
+		
+		ArenaSlot slot = gameWorld.getArenaSlot();
+		ArenaBounds bounds = slot == null ? null : slot.getBounds();
+		
+		for (Entity entity : gameWorld.getWorld().getEntities()) {
+			if (!(entity instanceof Player) && (bounds == null || bounds.contains(
+					entity.getLocation().getBlockX(), entity.getLocation().getBlockY(),
+					entity.getLocation().getBlockZ()))) {
+				
+				entity.remove();
+			}
+		}
+		return jobs.add(new Job(gameWorld, journal, callback));
+	}
+	
+	/**
+	 * {@link Method} to stop journaling a {@link GameWorld}, its journaled blocks are forgotten
+	 * 
+	 * @param gameWorld The {@link GameWorld} to stop journaling
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void discard(@NotNull GameWorld gameWorld) {
+		BlockJournal journal = gameWorld == null ? null : journals.remove(gameWorld);
+		
+		if (journal == null) return;
+		
+		List<BlockJournal> list = worlds.get(gameWorld.getWorld());
+		
+		if (list != null && list.remove(journal) && list.isEmpty()) {
+			worlds.remove(gameWorld.getWorld());
+		}
+		jobs.removeIf(job -> job.journal == journal);
+		journal.clear();
+	}
+	
+	/**
+	 * Get the amount of {@link GameWorld}s waiting to be restored
+	 * 
+	 * @return The amount of queued {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getQueueDepth() {
+		return jobs.size();
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link RollbackManager}, all the {@link BlockJournal}s are
+	 * forgotten
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		HandlerList.unregisterAll(this);
+		jobs.clear();
+		journals.clear();
+		worlds.clear();
+	}
+	
+	/**
+	 * Internal {@link Method} to journal a {@link Block} before it changes
+	 * 
+	 * @param block The {@link Block} that is about to change
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void record(@NotNull Block block) {
+		List<BlockJournal> list = worlds.get(block.getWorld());
+		
+		if (list == null) return;
+		
+		for (BlockJournal journal : list) {
+			if (journal.accepts(block.getX(), block.getY(), block.getZ())) {
+				journal.record(block);
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to journal the original state of a {@link Block} that has already
+	 * been replaced
+	 * 
+	 * @param state The {@link BlockState} of the {@link Block} before it was replaced
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void record(@NotNull BlockState state) {
+		List<BlockJournal> list = worlds.get(state.getWorld());
+		
+		if (list == null) return;
+		
+		for (BlockJournal journal : list) {
+			if (journal.accepts(state.getX(), state.getY(), state.getZ())) {
+				journal.record(state);
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to journal a {@link List} of removed {@link Block}s and the
+	 * {@link Block}s attached to them before they change
+	 * 
+	 * @param blocks The {@link Block}s that are about to be removed
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #recordRemoved(Block)
+	 */
+	
+	private void recordRemoved(@NotNull List<Block> blocks) {
+		for (Block block : blocks) {
+			recordRemoved(block);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to journal a {@link Block} that is about to be removed, the
+	 * {@link Block}s attached to it, like torches, signs, ladders, rails and redstone, and the
+	 * other half of a door or bed are journaled first, since they drop without an event of their
+	 * own once it is gone
+	 * 
+	 * @param block The {@link Block} that is about to be removed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void recordRemoved(@NotNull Block block) {
+		recordAttached(block, 0);
+		recordOtherHalf(block);
+		record(block);
+	}
+	
+	/**
+	 * Internal {@link Method} to journal the {@link Block}s attached to a {@link Block} and the
+	 * ones attached to them
+	 * 
+	 * @param block The {@link Block} that supports the attached {@link Block}s
+	 * @param depth The amount of attached {@link Block}s journaled before in this chain
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void recordAttached(@NotNull Block block, int depth) {
+		if (depth >= MAX_ATTACHED_DEPTH) return;
+		
+		for (BlockFace face : ATTACHED_FACES) {
+			Block neighbour = block.getRelative(face);
+			
+			if (isAttached(neighbour, face)) {
+				recordAttached(neighbour, depth + 1);
+				recordOtherHalf(neighbour);
+				record(neighbour);
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to check if a {@link Block} drops when its neighbour is removed
+	 * 
+	 * @param block The {@link Block} to check
+	 * @param face The {@link BlockFace} of the removed neighbour where the given {@link Block} is
+	 * 
+	 * @return True if the given {@link Block} is supported by the neighbour behind the given
+	 * {@link BlockFace}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	@SuppressWarnings("deprecation")
+	private static boolean isAttached(@NotNull Block block, @NotNull BlockFace face) {
+		Material type = block.getType();
+		
+		if (type == Material.AIR) return false;
+		
+		MaterialData data = type.getNewData(block.getData());
+		
+		if (data instanceof Attachable) {
+			return ((Attachable) data).getAttachedFace() == face.getOppositeFace();
+		}
+		if (face == BlockFace.UP) return SUPPORTED.contains(type);
+		
+		return type == Material.VINE;
+	}
+	
+	/**
+	 * Internal {@link Method} to journal the other half of a door or bed
+	 * 
+	 * @param block The half that is about to be removed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@SuppressWarnings("deprecation")
+	private void recordOtherHalf(@NotNull Block block) {
+		MaterialData data = block.getType().getNewData(block.getData());
+		
+		if (data instanceof Door) {
+			record(block.getRelative(((Door) data).isTopHalf() ? BlockFace.DOWN : BlockFace.UP));
+		}
+		else if (data instanceof Bed) {
+			BlockFace facing = ((Bed) data).getFacing();
+			
+			record(block.getRelative(((Bed) data).isHeadOfBed() ? facing.getOppositeFace()
+					: facing));
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the broken {@link Block} and the
+	 * {@link Block}s attached to it
+	 * 
+	 * @param event The {@link BlockBreakEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockBreak(BlockBreakEvent event) {
+		if (!worlds.isEmpty()) recordRemoved(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the replaced {@link Block}s
+	 * 
+	 * @param event The {@link BlockPlaceEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockPlace(BlockPlaceEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		if (event instanceof BlockMultiPlaceEvent) {
+			for (BlockState state : ((BlockMultiPlaceEvent) event).getReplacedBlockStates()) {
+				record(state);
+			}
+		}
+		else {
+			record(event.getBlockReplacedState());
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the burnt {@link Block} and the
+	 * {@link Block}s attached to it
+	 * 
+	 * @param event The {@link BlockBurnEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockBurn(BlockBurnEvent event) {
+		if (!worlds.isEmpty()) recordRemoved(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block} set on fire
+	 * 
+	 * @param event The {@link BlockIgniteEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockIgnite(BlockIgniteEvent event) {
+		if (!worlds.isEmpty()) record(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the faded {@link Block}
+	 * 
+	 * @param event The {@link BlockFadeEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockFade(BlockFadeEvent event) {
+		if (!worlds.isEmpty()) record(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block} where another one has
+	 * formed, like snow and ice
+	 * 
+	 * @param event The {@link BlockFormEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockForm(BlockFormEvent event) {
+		if (!worlds.isEmpty()) record(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block} reached by fire,
+	 * grass, mycelium, vines or mushrooms, the {@link BlockSpreadEvent} has its own
+	 * {@link HandlerList} and is not received by {@link #onBlockForm(BlockFormEvent)}
+	 * 
+	 * @param event The {@link BlockSpreadEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockSpread(BlockSpreadEvent event) {
+		if (!worlds.isEmpty()) record(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the grown {@link Block}
+	 * 
+	 * @param event The {@link BlockGrowEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockGrow(BlockGrowEvent event) {
+		if (!worlds.isEmpty()) record(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block} reached by a liquid or
+	 * a dragon egg
+	 * 
+	 * @param event The {@link BlockFromToEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockFromTo(BlockFromToEvent event) {
+		if (!worlds.isEmpty()) record(event.getToBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the decayed leaves and the vines and
+	 * cocoa attached to them
+	 * 
+	 * @param event The {@link LeavesDecayEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onLeavesDecay(LeavesDecayEvent event) {
+		if (!worlds.isEmpty()) recordRemoved(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block} changed by an
+	 * {@link Entity}, like an enderman or a falling block, and the {@link Block}s attached to it
+	 * 
+	 * @param event The {@link EntityChangeBlockEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+		if (!worlds.isEmpty()) recordRemoved(event.getBlock());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block}s destroyed by an
+	 * {@link Entity} explosion and the {@link Block}s attached to them
+	 * 
+	 * @param event The {@link EntityExplodeEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onEntityExplode(EntityExplodeEvent event) {
+		if (!worlds.isEmpty()) recordRemoved(event.blockList());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block}s destroyed by a
+	 * {@link Block} explosion and the {@link Block}s attached to them
+	 * 
+	 * @param event The {@link BlockExplodeEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockExplode(BlockExplodeEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		recordRemoved(event.getBlock());
+		recordRemoved(event.blockList());
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block}s replaced by a
+	 * growing structure
+	 * 
+	 * @param event The {@link StructureGrowEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onStructureGrow(StructureGrowEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		for (BlockState state : event.getBlocks()) {
+			record(state.getBlock());
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block}s moved by an
+	 * extending piston and the {@link Block}s attached to them
+	 * 
+	 * @param event The {@link BlockPistonExtendEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPistonExtend(BlockPistonExtendEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		BlockFace direction = event.getDirection();
+		
+		record(event.getBlock());
+		record(event.getBlock().getRelative(direction));
+		
+		for (Block block : event.getBlocks()) {
+			recordRemoved(block);
+			recordRemoved(block.getRelative(direction));
+		}
+	}
+	
+	/**
+	 * Internal {@link Listener} {@link Method} to journal the {@link Block}s moved by a
+	 * retracting piston and the {@link Block}s attached to them
+	 * 
+	 * @param event The {@link BlockPistonRetractEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPistonRetract(BlockPistonRetractEvent event) {
+		if (worlds.isEmpty()) return;
+		
+		BlockFace direction = event.getDirection();
+		
+		record(event.getBlock());
+		record(event.getBlock().getRelative(direction.getOppositeFace()));
+		
+		for (Block block : event.getBlocks()) {
+			recordRemoved(block);
+			recordRemoved(block.getRelative(direction));
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to restore the queued {@link GameWorld}s, limited by the configured
+	 * amount of blocks per tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void tick() {
+		int budget = (int) Math.max(1, Storage.getLong(ArcadeConfig.ROLLBACK_BLOCKS_PER_TICK));
+		
+		while (budget > 0 && !jobs.isEmpty()) {
+			Job job = jobs.peek();
+			
+			budget -= job.journal.restore(job.gameWorld.getWorld(), budget);
+			
+			if (job.journal.size() == 0) {
+				jobs.poll();
+				
+				if (job.callback != null) {
+					job.callback.run();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep a {@link GameWorld} waiting to be restored
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Job {
+		
+		/**
+		 * The {@link GameWorld} to restore
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final GameWorld gameWorld;
+		
+		/**
+		 * The {@link BlockJournal} of the {@link #gameWorld}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final BlockJournal journal;
+		
+		/**
+		 * The {@link Runnable} to run after the {@link #gameWorld} has been restored
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final Runnable callback;
+		
+		/**
+		 * Create a new {@link Job}
+		 * 
+		 * @param gameWorld The {@link GameWorld} to restore
+		 * @param journal The {@link BlockJournal} of the {@link GameWorld}
+		 * @param callback The {@link Runnable} to run after the {@link GameWorld} has been
+		 * restored
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Job(@NotNull GameWorld gameWorld, @NotNull BlockJournal journal,
+				@Nullable Runnable callback) {
+			
+			this.gameWorld = gameWorld;
+			this.journal = journal;
+			this.callback = callback;
+		}
+	}
+}
\ No newline at end of file
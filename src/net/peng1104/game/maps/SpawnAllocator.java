@@ -0,0 +1,249 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.bukkit.Location;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.profiles.Profile;
+
+/**
+ * {@link Class} to assign the spawn points of a {@link GameWorld} to {@link Profile}s in a single
+ * batch, the buffers of this {@link SpawnAllocator} are reused between rounds
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class SpawnAllocator {
+	
+	/**
+	 * The {@link Random} instance unsed to make {@link Random} operations in the
+	 * {@link SpawnAllocator} {@link Class}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final Random RANDOM = new Random();
+	
+	/**
+	 * The spawn points {@link Location}s to allocate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final List<Location> spawnPoints;
+	
+	/**
+	 * A permutation of the spawn point indexes, the allocated indexes are moved to its beginning
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int[] order = new int[0];
+	
+	/**
+	 * The squared distance of each candidate in {@link #order} to the nearest allocated spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private double[] nearest = new double[0];
+	
+	/**
+	 * Create a new {@link SpawnAllocator}
+	 * 
+	 * @param spawnPoints The spawn points {@link Location}s to allocate
+	 * 
+	 * @throws IllegalArgumentException If the given spawn points {@link List} is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public SpawnAllocator(@NotNull List<Location> spawnPoints) {
+		if (spawnPoints == null) {
+			throw new IllegalArgumentException("SpawnPoints cannot be null");
+		}
+		this.spawnPoints = spawnPoints;
+	}
+	
+	/**
+	 * {@link Method} to assign a spawn point to each online {@link Profile}, no spawn point is
+	 * repeated until all of them have been assigned
+	 * 
+	 * @param profiles The {@link Profile}s to assign the spawn points to
+	 * @param spread True to spread the {@link Profile}s by maximizing the minimum distance between
+	 * the assigned spawn points, false to assign them at {@link Random}
+	 * 
+	 * @return A {@link Map} containing the spawn point {@link Location} of each {@link Profile}, in
+	 * the order of the given {@link Profile}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = LinkedHashMap.class)
+	public Map<Profile, Location> allocate(@NotNull Collection<Profile> profiles, boolean spread) {
+		int size = spawnPoints.size();
+		
+		if (profiles == null || size == 0) return new LinkedHashMap<>();
+		
+		List<Profile> online = new ArrayList<>(profiles.size());
+		
+		for (Profile profile : profiles) {
+			if (profile != null && profile.isOnline()) {
+				online.add(profile);
+			}
+		}
+		int[] indexes = allocate(online.size(), spread);
+		Map<Profile, Location> plan = new LinkedHashMap<>((int) (online.size() / 0.75F) + 1);
+		
+		for (int i = 0; i < indexes.length; i++) {
+			plan.put(online.get(i), spawnPoints.get(indexes[i]));
+		}
+		return plan;
+	}
+	
+	/**
+	 * Internal {@link Method} to allocate some spawn points, no spawn point is repeated until all
+	 * of them have been allocated
+	 * 
+	 * @param amount The amount of spawn points to allocate
+	 * @param spread True to maximize the minimum distance between the allocated spawn points,
+	 * false to allocate them at {@link Random}
+	 * 
+	 * @return The indexes of the allocated spawn points, empty if there are no spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = int[].class)
+	int[] allocate(int amount, boolean spread) {
+		int size = spawnPoints.size();
+		
+		if (amount <= 0 || size == 0) return new int[0];
+		
+		int[] indexes = new int[amount];
+		int allocated = size;
+		
+		for (int i = 0; i < amount; i++) {
+			if (allocated == size) {
+				allocated = 0;
+				prepare(size);
+			}
+			indexes[i] = spread ? nextSpread(allocated, size) : nextRandom(allocated, size);
+			allocated++;
+		}
+		return indexes;
+	}
+	
+	/**
+	 * Internal {@link Method} to prepare the buffers for a new round, the {@link #order} is only
+	 * reset when the amount of spawn points has changed, any permutation is a valid start for
+	 * the partial Fisher–Yates shuffle
+	 * 
+	 * @param size The amount of spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void prepare(int size) {
+		if (order.length != size) {
+			order = new int[size];
+			nearest = new double[size];
+			
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			nearest[i] = Double.MAX_VALUE;
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to allocate a {@link Random} spawn point, one step of a partial
+	 * Fisher–Yates shuffle
+	 * 
+	 * @param allocated The amount of spawn points already allocated in this round
+	 * @param size The amount of spawn points
+	 * 
+	 * @return The index of the allocated spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	private int nextRandom(int allocated, int size) {
+		swap(allocated, allocated + RANDOM.nextInt(size - allocated));
+		return order[allocated];
+	}
+	
+	/**
+	 * Internal {@link Method} to allocate the spawn point farthest from the already allocated
+	 * ones, the first spawn point of a round is {@link Random}
+	 * 
+	 * @param allocated The amount of spawn points already allocated in this round
+	 * @param size The amount of spawn points
+	 * 
+	 * @return The index of the allocated spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	private int nextSpread(int allocated, int size) {
+		int best = allocated + RANDOM.nextInt(size - allocated);
+		
+		if (allocated > 0) {
+			for (int i = allocated; i < size; i++) {
+				if (nearest[i] > nearest[best]) {
+					best = i;
+				}
+			}
+		}
+		swap(allocated, best);
+		
+		Location chosen = spawnPoints.get(order[allocated]);
+		
+		for (int i = allocated + 1; i < size; i++) {
+			Location location = spawnPoints.get(order[i]);
+			
+			double x = location.getX() - chosen.getX();
+			double y = location.getY() - chosen.getY();
+			double z = location.getZ() - chosen.getZ();
+			double distance = x * x + y * y + z * z;
+			
+			if (distance < nearest[i]) {
+				nearest[i] = distance;
+			}
+		}
+		return order[allocated];
+	}
+	
+	/**
+	 * Internal {@link Method} to swap two positions of the {@link #order} and {@link #nearest}
+	 * 
+	 * @param a The first position
+	 * @param b The second position
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void swap(int a, int b) {
+		int index = order[a];
+		double distance = nearest[a];
+		
+		order[a] = order[b];
+		nearest[a] = nearest[b];
+		order[b] = index;
+		nearest[b] = distance;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.bukkit.DyeColor;
+import org.bukkit.Material;
+import org.bukkit.Note;
+import org.bukkit.SkullType;
+import org.bukkit.block.Banner;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.CommandBlock;
+import org.bukkit.block.CreatureSpawner;
+import org.bukkit.block.Jukebox;
+import org.bukkit.block.NoteBlock;
+import org.bukkit.block.Sign;
+import org.bukkit.block.Skull;
+import org.bukkit.block.banner.Pattern;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+
+/**
+ * {@link Class} to keep a copy of the tile entity of a {@link Block} journaled by a
+ * {@link BlockJournal}, the contents of its inventory, the lines of a {@link Sign}, the owner of a
+ * {@link Skull} and so on, since the type and data value of a {@link Block} do not bring them
+ * back
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+final class TileSnapshot {
+	
+	/**
+	 * The {@link Material}s of the {@link Block}s with a tile entity that is copied
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final Set<Material> TILE_ENTITIES = EnumSet.of(Material.CHEST,
+			Material.TRAPPED_CHEST, Material.FURNACE, Material.BURNING_FURNACE, Material.DISPENSER,
+			Material.DROPPER, Material.HOPPER, Material.BREWING_STAND, Material.SIGN_POST,
+			Material.WALL_SIGN, Material.SKULL, Material.STANDING_BANNER, Material.WALL_BANNER,
+			Material.MOB_SPAWNER, Material.NOTE_BLOCK, Material.JUKEBOX, Material.COMMAND);
+	
+	/**
+	 * The {@link Consumer} that copies the kept values into the {@link BlockState} of the restored
+	 * {@link Block}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Consumer<BlockState> applier;
+	
+	/**
+	 * Internal {@link TileSnapshot} {@link java.lang.reflect.Constructor}
+	 * 
+	 * @param applier The {@link Consumer} that copies the kept values into a {@link BlockState}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private TileSnapshot(@NotNull Consumer<BlockState> applier) {
+		this.applier = applier;
+	}
+	
+	/**
+	 * Check if the {@link Block}s of a {@link Material} have a tile entity that must be copied
+	 * 
+	 * @param type The {@link Material} to check
+	 * 
+	 * @return True if the {@link Block}s of the given {@link Material} have a tile entity
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	static boolean hasTileEntity(@Nullable Material type) {
+		return type != null && TILE_ENTITIES.contains(type);
+	}
+	
+	/**
+	 * {@link Method} to copy the tile entity of a {@link BlockState}
+	 * 
+	 * @param state The {@link BlockState} of the {@link Block} before it changes
+	 * 
+	 * @return The copied tile entity, or null if the given {@link BlockState} has none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	static TileSnapshot capture(@NotNull BlockState state) {
+		if (state instanceof InventoryHolder) {
+			Inventory inventory = state instanceof Chest ? ((Chest) state).getBlockInventory()
+					: ((InventoryHolder) state).getInventory();
+			
+			ItemStack[] contents = copy(inventory.getContents());
+			
+			return new TileSnapshot(target -> {
+				if (target instanceof Chest) {
+					((Chest) target).getBlockInventory().setContents(copy(contents));
+				}
+				else if (target instanceof InventoryHolder) {
+					((InventoryHolder) target).getInventory().setContents(copy(contents));
+				}
+			});
+		}
+		if (state instanceof Sign) {
+			String[] lines = ((Sign) state).getLines().clone();
+			
+			return new TileSnapshot(target -> {
+				for (int i = 0; i < lines.length; i++) {
+					((Sign) target).setLine(i, lines[i]);
+				}
+			});
+		}
+		if (state instanceof Skull) {
+			Skull skull = (Skull) state;
+			SkullType skullType = skull.getSkullType();
+			BlockFace rotation = skull.getRotation();
+			String owner = skull.hasOwner() ? skull.getOwner() : null;
+			
+			return new TileSnapshot(target -> {
+				Skull restored = (Skull) target;
+				
+				restored.setSkullType(skullType);
+				restored.setRotation(rotation);
+				
+				if (owner != null) {
+					restored.setOwner(owner);
+				}
+			});
+		}
+		if (state instanceof Banner) {
+			DyeColor baseColor = ((Banner) state).getBaseColor();
+			List<Pattern> patterns = new ArrayList<>(((Banner) state).getPatterns());
+			
+			return new TileSnapshot(target -> {
+				((Banner) target).setBaseColor(baseColor);
+				((Banner) target).setPatterns(new ArrayList<>(patterns));
+			});
+		}
+		if (state instanceof CreatureSpawner) {
+			EntityType spawnedType = ((CreatureSpawner) state).getSpawnedType();
+			int delay = ((CreatureSpawner) state).getDelay();
+			
+			return new TileSnapshot(target -> {
+				((CreatureSpawner) target).setSpawnedType(spawnedType);
+				((CreatureSpawner) target).setDelay(delay);
+			});
+		}
+		if (state instanceof NoteBlock) {
+			Note note = ((NoteBlock) state).getNote();
+			return new TileSnapshot(target -> ((NoteBlock) target).setNote(note));
+		}
+		if (state instanceof Jukebox) {
+			Material playing = ((Jukebox) state).getPlaying();
+			return new TileSnapshot(target -> ((Jukebox) target).setPlaying(playing));
+		}
+		if (state instanceof CommandBlock) {
+			String command = ((CommandBlock) state).getCommand();
+			String name = ((CommandBlock) state).getName();
+			
+			return new TileSnapshot(target -> {
+				((CommandBlock) target).setCommand(command);
+				((CommandBlock) target).setName(name);
+			});
+		}
+		return null;
+	}
+	
+	/**
+	 * {@link Method} to copy the kept tile entity into a restored {@link Block}, nothing happens if
+	 * the {@link Block} has been restored to another kind of tile entity
+	 * 
+	 * @param block The restored {@link Block}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	void apply(@NotNull Block block) {
+		BlockState state = block.getState();
+		
+		try {
+			applier.accept(state);
+		}
+		catch (ClassCastException exception) {
+			return;
+		}
+		state.update(true, false);
+	}
+	
+	/**
+	 * Internal {@link Method} to copy the {@link ItemStack}s of an inventory
+	 * 
+	 * @param contents The {@link ItemStack}s to copy
+	 * 
+	 * @return A new array with a copy of each {@link ItemStack}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	private static ItemStack[] copy(@NotNull ItemStack[] contents) {
+		ItemStack[] result = new ItemStack[contents.length];
+		
+		for (int i = 0; i < contents.length; i++) {
+			result[i] = contents[i] == null ? null : contents[i].clone();
+		}
+		return result;
+	}
+}
\ No newline at end of file
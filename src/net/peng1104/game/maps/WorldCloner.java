@@ -0,0 +1,318 @@
+package net.peng1104.game.maps;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.storage.game.files.ArenaBounds;
+import net.peng1104.utils.FileUtils;
+import net.peng1104.utils.WorldAPI;
+
+/**
+ * {@link Class} to clone the source of a {@link GameMap} into a new {@link World} without copying
+ * the region files through Java streams, the region files are hard linked when enabled, otherwise
+ * they are copied by the kernel with {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}, only the files that Bukkit rewrites are really copied
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class WorldCloner {
+	
+	/**
+	 * If the file system of the server supports hard links, it becomes false when hard links are
+	 * not supported or the {@link World} container is in another file system than the sources
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static volatile boolean linksSupported = true;
+	
+	/**
+	 * If the file system of the server supports {@link FileChannel#transferTo(long, long,
+	 * java.nio.channels.WritableByteChannel)}, it becomes false after the first failure
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static volatile boolean transferSupported = true;
+	
+	/**
+	 * {@link WorldCloner} is an utility {@link Class}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private WorldCloner() {}
+	
+	/**
+	 * {@link Method} to clone a {@link World} source and load it, this {@link Method} must be
+	 * called in the main thread
+	 * 
+	 * @param source The {@link World} folder to clone
+	 * @param name The name of the new {@link World}
+	 * 
+	 * @return The loaded {@link World}, or null if the source could not be cloned
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see WorldAPI#createWorld(File, String)
+	 */
+	
+	@Nullable
+	public static World createWorld(@NotNull File source, @NotNull String name) {
+		return createWorld(source, name, null);
+	}
+	
+	/**
+	 * {@link Method} to clone a {@link World} source and load it, the {@link Chunk}s generated
+	 * outside the given {@link ArenaBounds} are empty, this {@link Method} must be called in the
+	 * main thread
+	 * 
+	 * @param source The {@link World} folder to clone
+	 * @param name The name of the new {@link World}
+	 * @param bounds The {@link ArenaBounds} of the {@link GameMap} of the source, or null to
+	 * generate the new {@link Chunk}s as usual
+	 * 
+	 * @return The loaded {@link World}, or null if the source could not be cloned
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #load(String, ArenaBounds)
+	 */
+	
+	@Nullable
+	public static World createWorld(@NotNull File source, @NotNull String name,
+			@Nullable ArenaBounds bounds) {
+		
+		return copy(source, name) ? load(name, bounds) : null;
+	}
+	
+	/**
+	 * {@link Method} to clone the files of a {@link World} source into the {@link World}
+	 * container, this {@link Method} does not touch Bukkit and can be called in any thread
+	 * 
+	 * @param source The {@link World} folder to clone
+	 * @param name The name of the new {@link World}
+	 * 
+	 * @return True if the source has been cloned without errors
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #copy(File, String, boolean)
+	 */
+	
+	@Default(Boolean = false)
+	public static boolean copy(@NotNull File source, @NotNull String name) {
+		return copy(source, name, Storage.getBoolean(ArcadeConfig.WORLD_HARD_LINKS));
+	}
+	
+	/**
+	 * {@link Method} to clone the files of a {@link World} source into the {@link World}
+	 * container, the region files of a {@link World} that will be edited and saved must not be
+	 * hard linked, since its saves would be written into the source and into every other clone,
+	 * this {@link Method} does not touch Bukkit and can be called in any thread
+	 * 
+	 * @param source The {@link World} folder to clone
+	 * @param name The name of the new {@link World}
+	 * @param links True to hard link the region files when the file system supports it
+	 * 
+	 * @return True if the source has been cloned without errors
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public static boolean copy(@NotNull File source, @NotNull String name, boolean links) {
+		if (source == null || name == null || !source.isDirectory()) return false;
+		
+		Path from = source.toPath();
+		Path to = new File(Bukkit.getWorldContainer(), name).toPath();
+		
+		try {
+			Files.walkFileTree(from, new SimpleFileVisitor<Path>() {
+				
+				@Override
+				public FileVisitResult preVisitDirectory(Path directory,
+						BasicFileAttributes attributes) throws IOException {
+					
+					Files.createDirectories(to.resolve(from.relativize(directory).toString()));
+					return FileVisitResult.CONTINUE;
+				}
+				
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+						throws IOException {
+					
+					String fileName = file.getFileName().toString();
+					
+					if (fileName.equals("uid.dat") || fileName.equals("session.lock")) {
+						return FileVisitResult.CONTINUE;
+					}
+					Path target = to.resolve(from.relativize(file).toString());
+					
+					if (fileName.endsWith(".mca") || fileName.endsWith(".mcr")) {
+						cloneRegion(file, target, attributes.size(), links);
+					}
+					else {
+						Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			return true;
+		}
+		catch (IOException | RuntimeException exception) {
+			FileUtils.delete(to.toFile());
+			return false;
+		}
+	}
+	
+	/**
+	 * {@link Method} to load a cloned {@link World}, this {@link Method} must be called in the
+	 * main thread
+	 * 
+	 * @param name The name of the cloned {@link World}
+	 * 
+	 * @return The loaded {@link World}, or null if it could not be loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public static World load(@NotNull String name) {
+		return load(name, null);
+	}
+	
+	/**
+	 * {@link Method} to load a cloned {@link World}, when the {@link GameMap} has
+	 * {@link ArenaBounds} the {@link World} is given an {@link EmptyChunkGenerator}, so the stray
+	 * {@link Chunk}s loaded around the arena are not generated with terrain just to be unloaded by
+	 * the {@link ChunkPreloader}, this {@link Method} must be called in the main thread
+	 * 
+	 * @param name The name of the cloned {@link World}
+	 * @param bounds The {@link ArenaBounds} of the {@link GameMap}, or null to generate the new
+	 * {@link Chunk}s as usual
+	 * 
+	 * @return The loaded {@link World}, or null if it could not be loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public static World load(@NotNull String name, @Nullable ArenaBounds bounds) {
+		WorldCreator creator = new WorldCreator(name);
+		
+		if (bounds != null) {
+			creator.generator(new EmptyChunkGenerator()).generateStructures(false);
+		}
+		World world = creator.createWorld();
+		
+		if (world != null) {
+			world.setAutoSave(false);
+		}
+		return world;
+	}
+	
+	/**
+	 * Internal {@link Method} to clone a region file, hard links are only used when enabled since
+	 * a linked region file is shared with the {@link GameMap} source, a region file left by an
+	 * older clone is deleted first, since it may be a hard link that the copy would truncate
+	 * 
+	 * @param file The region file to clone
+	 * @param target The new region file
+	 * @param size The size of the region file
+	 * @param links True to try to hard link the region file
+	 * 
+	 * @throws IOException If the region file could not be cloned in any way
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void cloneRegion(@NotNull Path file, @NotNull Path target, long size,
+			boolean links) throws IOException {
+		
+		Files.deleteIfExists(target);
+		
+		if (links && linksSupported) {
+			try {
+				Files.createLink(target, file);
+				return;
+			}
+			catch (UnsupportedOperationException exception) {
+				linksSupported = false;
+			}
+			catch (IOException exception) {
+				if (isOtherFileStore(file, target)) {
+					linksSupported = false;
+				}
+				Files.deleteIfExists(target);
+			}
+		}
+		if (transferSupported) {
+			try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+					FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+							StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				
+				long position = 0;
+				
+				while (position < size) {
+					long transferred = in.transferTo(position, size - position, out);
+					
+					if (transferred <= 0) break;
+					
+					position += transferred;
+				}
+				if (position >= size) return;
+			}
+			catch (IOException | UnsupportedOperationException exception) {
+				// Falls back to a normal copy below
+			}
+			transferSupported = false;
+		}
+		Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+	}
+	
+	/**
+	 * Internal {@link Method} to check if a region file cannot be hard linked because its clone is
+	 * in another file system
+	 * 
+	 * @param file The region file to clone
+	 * @param target The new region file
+	 * 
+	 * @return True if the given files are in different {@link java.nio.file.FileStore}s, false if
+	 * they are in the same one or it could not be checked
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private static boolean isOtherFileStore(@NotNull Path file, @NotNull Path target) {
+		try {
+			return !Files.getFileStore(file).equals(Files.getFileStore(target.getParent()));
+		}
+		catch (IOException | SecurityException exception) {
+			return false;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,453 @@
+package net.peng1104.game.maps;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.Room;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.utils.WorldAPI;
+
+/**
+ * {@link Class} to limit how many {@link GameWorld}s are created at the same time, the requests
+ * are served in the order their {@link Room}s start, the {@link GameMap} sources are cloned in
+ * other threads and the {@link World}s are loaded in the main thread within a limited amount of
+ * milliseconds per tick
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class WorldCreationQueue {
+	
+	/**
+	 * The {@link Request}s waiting to be started, ordered by their start time
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Queue<Request> waiting = new PriorityQueue<>();
+	
+	/**
+	 * The {@link Request}s whose {@link GameMap} source has been cloned by another thread and
+	 * are waiting for their {@link World} to be loaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Queue<Request> cloned = new ConcurrentLinkedQueue<>();
+	
+	/**
+	 * The {@link Request}s being created in the main thread
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Deque<Request> ready = new ArrayDeque<>();
+	
+	/**
+	 * The {@link BukkitTask} that creates the {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * The counter used to keep the order of the {@link Request}s with the same start time
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long sequence = 0;
+	
+	/**
+	 * The amount of {@link Request}s that have been started and not finished yet
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private int inFlight = 0;
+	
+	/**
+	 * See {@link #getCompleted()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long completed = 0;
+	
+	/**
+	 * The sum of the wait times of the completed {@link Request}s in milliseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long totalWait = 0;
+	
+	/**
+	 * See {@link #getMaxWait()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long maxWait = 0;
+	
+	/**
+	 * Create a new {@link WorldCreationQueue} and start its {@link BukkitTask}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public WorldCreationQueue() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, 1, 1);
+	}
+	
+	/**
+	 * {@link Method} to queue the creation of a {@link GameWorld}, this {@link Method} must be
+	 * called in the main thread and the returned {@link CompletableFuture} is always completed in
+	 * the main thread
+	 * 
+	 * @param gameMap The {@link GameMap} of the {@link GameWorld}
+	 * @param type The {@link GameType} of the {@link GameWorld}
+	 * @param worldName The name of the {@link World} to create
+	 * @param startTime The time in milliseconds when the {@link GameWorld} is needed, the
+	 * earliest one is created first
+	 * 
+	 * @return A {@link CompletableFuture} completed with the created {@link GameWorld}, or with
+	 * null if it could not be created, or exceptionally if its creation has thrown an exception,
+	 * cancelling it before it is completed gives the {@link GameWorld} back to the
+	 * {@link GameWorldPool}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public CompletableFuture<GameWorld> submit(@NotNull GameMap gameMap, @NotNull GameType type,
+			@NotNull String worldName, long startTime) {
+		
+		if (gameMap == null || type == null || worldName == null || !gameMap.isValidType(type)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		Request request = new Request(gameMap, type, worldName, startTime, sequence++);
+		
+		waiting.add(request);
+		return request.future;
+	}
+	
+	/**
+	 * Get the amount of {@link GameWorld}s waiting to be created, including the ones being created
+	 * 
+	 * @return The amount of queued {@link GameWorld}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getQueueDepth() {
+		return waiting.size() + inFlight;
+	}
+	
+	/**
+	 * Get the amount of {@link GameWorld}s created by this {@link WorldCreationQueue}
+	 * 
+	 * @return The amount of completed requests
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getCompleted() {
+		return completed;
+	}
+	
+	/**
+	 * Get the average time that a request waited in the queue before it was started
+	 * 
+	 * @return The average wait time in milliseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getAverageWait() {
+		return completed == 0 ? 0 : totalWait / completed;
+	}
+	
+	/**
+	 * Get the longest time that a request waited in the queue before it was started
+	 * 
+	 * @return The longest wait time in milliseconds
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getMaxWait() {
+		return maxWait;
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link WorldCreationQueue}, all the pending requests are
+	 * completed with null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		
+		List<Request> pending = new ArrayList<>(waiting);
+		
+		pending.addAll(ready);
+		pending.addAll(cloned);
+		waiting.clear();
+		ready.clear();
+		cloned.clear();
+		inFlight = 0;
+		
+		for (Request request : pending) {
+			request.future.complete(null);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to start the waiting {@link Request}s up to the configured
+	 * concurrency and create the ready ones within the configured milliseconds per tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void tick() {
+		int concurrency = (int) Math.max(1,
+				Storage.getLong(ArcadeConfig.WORLD_CREATIONS_IN_FLIGHT));
+		
+		while (inFlight < concurrency && !waiting.isEmpty()) {
+			Request request = waiting.poll();
+			
+			if (request.future.isDone()) continue;
+			
+			long wait = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.queued);
+			
+			totalWait += wait;
+			maxWait = Math.max(maxWait, wait);
+			inFlight++;
+			
+			if (request.gameMap.getTemplate() != null || Arcade.getInstance().getMapManager()
+					.getArenaManager().fits(request.gameMap.getBounds())) {
+				
+				ready.addLast(request);
+			}
+			else {
+				Bukkit.getScheduler().runTaskAsynchronously(Arcade.getInstance(), () -> {
+					try {
+						request.cloned = WorldCloner.copy(request.gameMap.getWorldSource(),
+								request.worldName);
+					}
+					finally {
+						cloned.add(request);
+					}
+				});
+			}
+		}
+		for (Request request = cloned.poll(); request != null; request = cloned.poll()) {
+			ready.addLast(request);
+		}
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1,
+				Storage.getLong(ArcadeConfig.WORLD_CREATION_MILLIS_PER_TICK)));
+		
+		while (!ready.isEmpty() && System.nanoTime() < deadline) {
+			finish(ready.pollFirst());
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to create the {@link GameWorld} of a started {@link Request} in the
+	 * main thread and complete it
+	 * 
+	 * @param request The {@link Request} to finish
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void finish(@NotNull Request request) {
+		inFlight--;
+		completed++;
+		
+		GameMap gameMap = request.gameMap;
+		GameWorld gameWorld = null;
+		
+		try {
+			gameWorld = create(request);
+		}
+		catch (RuntimeException exception) {
+			Arcade.getInstance().getLogger().warning("Could not create the world "
+					+ request.worldName + ": " + exception);
+			
+			request.future.completeExceptionally(exception);
+			return;
+		}
+		if (!request.future.complete(gameWorld) && gameWorld != null) {
+			Arcade.getInstance().getMapManager().getWorldPool().release(gameMap, gameWorld, false);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to create the {@link GameWorld} of a started {@link Request}, its
+	 * cloned folder is reclaimed if its {@link GameMap} has been reloaded meanwhile
+	 * 
+	 * @param request The {@link Request} to create
+	 * 
+	 * @return The created {@link GameWorld}, or null if it could not be created
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private GameWorld create(@NotNull Request request) {
+		GameMap gameMap = request.gameMap;
+		GameWorld gameWorld = null;
+		
+		if (Arcade.getInstance().getMapManager().get(gameMap.getName()) == gameMap) {
+			if (request.cloned) {
+				World world = WorldCloner.load(request.worldName, gameMap.getBounds());
+				
+				gameWorld = world == null ? null : gameMap.wrap(world, request.type);
+			}
+			else if (!request.future.isDone()) {
+				gameWorld = gameMap.createGameWorldFromMemory(request.type, request.worldName);
+				
+				if (gameWorld == null) {
+					World world = WorldAPI.createWorld(gameMap.getWorldSource(), request.worldName);
+					
+					gameWorld = world == null ? null : gameMap.wrap(world, request.type);
+				}
+			}
+		}
+		else if (request.cloned) {
+			Arcade.getInstance().getMapManager().getWorldReclaimer().reclaim(
+					new File(Bukkit.getWorldContainer(), request.worldName));
+		}
+		return gameWorld;
+	}
+	
+	/**
+	 * {@link Class} to keep a queued {@link GameWorld} creation
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Request implements Comparable<Request> {
+		
+		/**
+		 * The {@link GameMap} of the {@link GameWorld}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final GameMap gameMap;
+		
+		/**
+		 * The {@link GameType} of the {@link GameWorld}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final GameType type;
+		
+		/**
+		 * The name of the {@link World} to create
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final String worldName;
+		
+		/**
+		 * The time in milliseconds when the {@link GameWorld} is needed
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long startTime;
+		
+		/**
+		 * The order in which this {@link Request} has been submitted
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long sequence;
+		
+		/**
+		 * The {@link System#nanoTime()} when this {@link Request} has been submitted
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long queued = System.nanoTime();
+		
+		/**
+		 * The {@link CompletableFuture} of this {@link Request}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final CompletableFuture<GameWorld> future = new CompletableFuture<>();
+		
+		/**
+		 * If the {@link GameMap} source has been cloned by another thread
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private volatile boolean cloned = false;
+		
+		/**
+		 * Create a new {@link Request}
+		 * 
+		 * @param gameMap The {@link GameMap} of the {@link GameWorld}
+		 * @param type The {@link GameType} of the {@link GameWorld}
+		 * @param worldName The name of the {@link World} to create
+		 * @param startTime The time in milliseconds when the {@link GameWorld} is needed
+		 * @param sequence The order in which the {@link Request} has been submitted
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Request(@NotNull GameMap gameMap, @NotNull GameType type,
+				@NotNull String worldName, long startTime, long sequence) {
+			
+			this.gameMap = gameMap;
+			this.type = type;
+			this.worldName = worldName;
+			this.startTime = startTime;
+			this.sequence = sequence;
+		}
+		
+		@Override
+		public int compareTo(@Nullable Request request) {
+			int result = Long.compare(startTime, request.startTime);
+			return result != 0 ? result : Long.compare(sequence, request.sequence);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,409 @@
+package net.peng1104.game.maps;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.storage.Storage;
+import net.peng1104.storage.enums.main.ArcadeConfig;
+import net.peng1104.utils.FileUtils;
+
+/**
+ * {@link Class} to delete the {@link World}s of the {@link GameWorld}s without stopping the server,
+ * the {@link World}s are unloaded in the main thread and their folders are deleted in a background
+ * thread
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class WorldReclaimer {
+	
+	/**
+	 * The {@link Pattern} of the {@link World} folders created for the {@link GameWorld}s, its
+	 * group is the id given by {@link #newWorldName(String, String)}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final Pattern GAME_WORLD_PATTERN = Pattern.compile("(?:pool|arena)?(\\d+)_.+");
+	
+	/**
+	 * The first id given by {@link #newWorldName(String, String)} since the server started, the
+	 * time in milliseconds when this {@link Class} was loaded, so the ids of a previous start are
+	 * always lower and its folders are never reused while they are being deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final long FIRST_WORLD_ID = System.currentTimeMillis();
+	
+	/**
+	 * The next id given by {@link #newWorldName(String, String)}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final AtomicLong nextWorldId = new AtomicLong(FIRST_WORLD_ID);
+	
+	/**
+	 * {@link Method} to get a {@link World} name that has never been used, neither in this nor in
+	 * a previous start of the server, so a new {@link GameWorld} is never written into a folder
+	 * that is still waiting to be deleted
+	 * 
+	 * @param prefix The prefix of the name, empty or one of the prefixes of the
+	 * {@link GameWorld}s swept by {@link #sweepOrphans()}
+	 * @param name The end of the name, usually the name of the {@link GameMap}
+	 * 
+	 * @return A new unique {@link World} name
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public static String newWorldName(@NotNull String prefix, @NotNull String name) {
+		return prefix + nextWorldId.getAndIncrement() + "_" + name;
+	}
+	
+	/**
+	 * The maximum amount of attempts to unload or delete a {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAX_ATTEMPTS = 5;
+	
+	/**
+	 * The {@link World}s waiting to be unloaded
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Queue<Job> unloadQueue = new ArrayDeque<>();
+	
+	/**
+	 * The {@link World} folders waiting to be deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Queue<Job> deleteQueue = new ConcurrentLinkedQueue<>();
+	
+	/**
+	 * The amount of {@link World} folders being deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final AtomicInteger inFlight = new AtomicInteger();
+	
+	/**
+	 * The {@link ExecutorService} that deletes the {@link World} folders
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Arcade-WorldReclaimer");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	/**
+	 * The {@link BukkitTask} that processes the queues
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * Create a new {@link WorldReclaimer} and start its {@link BukkitTask}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public WorldReclaimer() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::tick, 1, 1);
+	}
+	
+	/**
+	 * {@link Method} to queue a {@link World} to be unloaded and deleted
+	 * 
+	 * @param world The {@link World} to reclaim
+	 * 
+	 * @return True if the given {@link World} has been queued
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean reclaim(@NotNull World world) {
+		if (world == null) return false;
+		
+		world.setAutoSave(false);
+		return unloadQueue.add(new Job(world, world.getWorldFolder()));
+	}
+	
+	/**
+	 * {@link Method} to queue the folder of a {@link World} that has not been loaded to be deleted
+	 * 
+	 * @param folder The folder to delete
+	 * 
+	 * @return True if the given folder has been queued
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean reclaim(@NotNull File folder) {
+		return folder != null && deleteQueue.add(new Job(null, folder));
+	}
+	
+	/**
+	 * {@link Method} to queue the folders of {@link GameWorld}s that were not deleted before the
+	 * last shutdown, the folders named in this start of the server are never queued
+	 * 
+	 * @return The amount of folders queued to be deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int sweepOrphans() {
+		File[] folders = Bukkit.getWorldContainer().listFiles();
+		int amount = 0;
+		
+		if (folders != null) {
+			for (File folder : folders) {
+				String name = folder.getName();
+				
+				Matcher matcher = GAME_WORLD_PATTERN.matcher(name);
+				
+				if (folder.isDirectory() && matcher.matches() && isOrphan(matcher.group(1))
+						&& Bukkit.getWorld(name) == null) {
+					
+					deleteQueue.add(new Job(null, folder));
+					amount++;
+				}
+			}
+		}
+		return amount;
+	}
+	
+	/**
+	 * Get the amount of {@link World}s that have not been fully reclaimed yet
+	 * 
+	 * @return The amount of {@link World}s waiting to be unloaded, waiting to be deleted or being
+	 * deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getQueueDepth() {
+		return unloadQueue.size() + deleteQueue.size() + inFlight.get();
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link WorldReclaimer}, all the queued {@link World}s are
+	 * reclaimed before this {@link Method} returns
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		
+		Job job;
+		
+		while ((job = unloadQueue.poll()) != null) {
+			if (unload(job.world)) {
+				deleteQueue.add(job);
+			}
+		}
+		executor.shutdown();
+		
+		try {
+			executor.awaitTermination(30, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+		while ((job = deleteQueue.poll()) != null) {
+			FileUtils.delete(job.folder);
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to unload and start deleting the queued {@link World}s, limited by
+	 * the configured amount per tick and in flight
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void tick() {
+		int perTick = (int) Math.max(1, Storage.getLong(ArcadeConfig.WORLD_DELETIONS_PER_TICK));
+		int maxInFlight = (int) Math.max(1, Storage.getLong(ArcadeConfig.WORLD_DELETIONS_IN_FLIGHT));
+		
+		for (int i = 0; i < perTick && !unloadQueue.isEmpty(); i++) {
+			Job job = unloadQueue.poll();
+			
+			if (unload(job.world)) {
+				job.attempts = 0;
+				deleteQueue.add(job);
+			}
+			else if (++job.attempts < MAX_ATTEMPTS) {
+				unloadQueue.add(job);
+			}
+			else {
+				Arcade.getInstance().getLogger().warning("Could not unload the world "
+						+ job.world.getName());
+			}
+		}
+		for (int i = 0; i < perTick && inFlight.get() < maxInFlight; i++) {
+			Job job = deleteQueue.poll();
+			
+			if (job == null) break;
+			
+			inFlight.incrementAndGet();
+			executor.execute(() -> delete(job));
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to unload a {@link World} without saving it, the {@link Player}s in
+	 * it are sent to the main {@link World} first
+	 * 
+	 * @param world The {@link World} to unload
+	 * 
+	 * @return True if the given {@link World} is not loaded anymore
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private boolean unload(@NotNull World world) {
+		if (Bukkit.getWorld(world.getUID()) == null) return true;
+		
+		Location spawn = Bukkit.getWorlds().get(0).getSpawnLocation();
+		
+		for (Player player : world.getPlayers()) {
+			player.teleport(spawn);
+		}
+		return Bukkit.unloadWorld(world, false);
+	}
+	
+	/**
+	 * Internal {@link Method} to delete the folder of a {@link Job}, failed deletions are queued
+	 * again until {@link #MAX_ATTEMPTS} is reached
+	 * 
+	 * @param job The {@link Job} to delete
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void delete(@NotNull Job job) {
+		try {
+			if (!FileUtils.delete(job.folder) && job.folder.exists()) {
+				if (++job.attempts < MAX_ATTEMPTS) {
+					deleteQueue.add(job);
+				}
+				else {
+					Arcade.getInstance().getLogger().warning("Could not delete the world folder "
+							+ job.folder.getName());
+				}
+			}
+		}
+		finally {
+			inFlight.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to check if a {@link World} folder has been named before this start
+	 * of the server
+	 * 
+	 * @param id The id given by {@link #newWorldName(String, String)} to the folder
+	 * 
+	 * @return True if the given id is lower than {@link #FIRST_WORLD_ID}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private static boolean isOrphan(@NotNull String id) {
+		try {
+			return Long.parseLong(id) < FIRST_WORLD_ID;
+		}
+		catch (NumberFormatException exception) {
+			return true;
+		}
+	}
+	
+	/**
+	 * {@link Class} to keep a {@link World} that is being reclaimed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Job {
+		
+		/**
+		 * The {@link World} to unload, null if it is not loaded
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final World world;
+		
+		/**
+		 * The folder of the {@link World}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final File folder;
+		
+		/**
+		 * The amount of failed attempts of the current stage
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private volatile int attempts = 0;
+		
+		/**
+		 * Create a new {@link Job}
+		 * 
+		 * @param world The {@link World} to unload, null if it is not loaded
+		 * @param folder The folder of the {@link World}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Job(World world, @NotNull File folder) {
+			this.world = world;
+			this.folder = folder;
+		}
+	}
+}
\ No newline at end of file
@@ -4,5 +4,33 @@ public enum ArcadeConfig {
 	
 	PRIVATE_ROOM_DELETE_TIME,
 	
-	GAME_WAIT_TIME
+	GAME_WAIT_TIME,
+	
+	WORLD_POOL_SIZE,
+	
+	WORLD_POOL_MAX,
+	
+	WORLD_DELETIONS_PER_TICK,
+	
+	WORLD_DELETIONS_IN_FLIGHT,
+	
+	WORLD_HARD_LINKS,
+	
+	WORLD_CREATIONS_IN_FLIGHT,
+	
+	WORLD_CREATION_MILLIS_PER_TICK,
+	
+	ARENA_CHUNKS_PER_TICK,
+	
+	ARENA_CHUNK_RADIUS,
+	
+	ARENA_SLOT_SIZE,
+	
+	ARENA_BLOCKS_PER_TICK,
+	
+	ARENA_UNLOAD_INTERVAL,
+	
+	ROLLBACK_BLOCKS_PER_TICK,
+	
+	GAME_MICROS_PER_TICK
 }
\ No newline at end of file
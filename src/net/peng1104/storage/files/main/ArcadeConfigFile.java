@@ -1,8 +1,10 @@
 package net.peng1104.storage.files.main;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.bukkit.ChatColor;
 
 import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
@@ -11,12 +13,14 @@ import net.peng1104.storage.enums.main.ArcadeConfig;
 
 public class ArcadeConfigFile extends MainFileConfiguration {
 	
-	private final Map<Long, String> deleteMessages;
+	private final NavigableMap<Long, String> deleteMessages;
+	
+	private final String notImplementedMessage;
 	
 	public ArcadeConfigFile() {
 		super(Arcade.getInstance());
 		
-		deleteMessages = new HashMap<>();
+		deleteMessages = new TreeMap<>();
 		
 		for (String string : getStringListC("Mensagens.Sala Será Apagada")) {
 			if (string.contains(", ")) {
@@ -27,6 +31,8 @@ public class ArcadeConfigFile extends MainFileConfiguration {
 				}
 			}
 		}
+		notImplementedMessage = ChatColor.translateAlternateColorCodes('&',
+				getString("Mensagens.Jogo Não Implementado", ""));
 	}
 	
 	@Override
@@ -34,16 +40,61 @@ public class ArcadeConfigFile extends MainFileConfiguration {
 		set("Tempo.Espera", 150);
 		set("Tempo.Remoção", 300);
 		set("Mensagens.Sala Será Apagada", new ArrayList<>());
+		set("Mensagens.Jogo Não Implementado", "&cEste modo de jogo ainda não está disponível, "
+				+ "a sala ficará aguardando até que ele seja alterado.");
+		set("Mundos.Pré Carregados", 1);
+		set("Mundos.Máximo De Pré Carregados", 8);
+		set("Mundos.Remoções Por Tick", 1);
+		set("Mundos.Remoções Simultâneas", 2);
+		set("Mundos.Links Físicos", false);
+		set("Mundos.Criações Simultâneas", 2);
+		set("Mundos.Milissegundos De Criação Por Tick", 25);
+		set("Arenas.Chunks Por Tick", 4);
+		set("Arenas.Raio De Chunks", 2);
+		set("Arenas.Tamanho Do Espaço", 256);
+		set("Arenas.Blocos Por Tick", 32768);
+		set("Arenas.Intervalo De Descarga", 100);
+		set("Mundos.Restaurações Por Tick", 4096);
+		set("Jogos.Microssegundos Por Tick", 2000);
 	}
 	
 	@Override
 	public void saveToStorage() {
 		Storage.store(ArcadeConfig.GAME_WAIT_TIME, getLong("Tempo.Espera"));
 		Storage.store(ArcadeConfig.PRIVATE_ROOM_DELETE_TIME, getLong("Tempo.Remoção"));
+		Storage.store(ArcadeConfig.WORLD_POOL_SIZE, getLong("Mundos.Pré Carregados"));
+		Storage.store(ArcadeConfig.WORLD_POOL_MAX, getLong("Mundos.Máximo De Pré Carregados"));
+		Storage.store(ArcadeConfig.WORLD_DELETIONS_PER_TICK, getLong("Mundos.Remoções Por Tick"));
+		Storage.store(ArcadeConfig.WORLD_DELETIONS_IN_FLIGHT, getLong("Mundos.Remoções Simultâneas"));
+		Storage.store(ArcadeConfig.WORLD_HARD_LINKS, getBoolean("Mundos.Links Físicos"));
+		Storage.store(ArcadeConfig.WORLD_CREATIONS_IN_FLIGHT, getLong("Mundos.Criações Simultâneas"));
+		Storage.store(ArcadeConfig.WORLD_CREATION_MILLIS_PER_TICK, getLong("Mundos.Milissegundos De Criação Por Tick"));
+		Storage.store(ArcadeConfig.ARENA_CHUNKS_PER_TICK, getLong("Arenas.Chunks Por Tick"));
+		Storage.store(ArcadeConfig.ARENA_CHUNK_RADIUS, getLong("Arenas.Raio De Chunks"));
+		Storage.store(ArcadeConfig.ARENA_SLOT_SIZE, getLong("Arenas.Tamanho Do Espaço"));
+		Storage.store(ArcadeConfig.ARENA_BLOCKS_PER_TICK, getLong("Arenas.Blocos Por Tick"));
+		Storage.store(ArcadeConfig.ARENA_UNLOAD_INTERVAL, getLong("Arenas.Intervalo De Descarga"));
+		Storage.store(ArcadeConfig.ROLLBACK_BLOCKS_PER_TICK, getLong("Mundos.Restaurações Por Tick"));
+		Storage.store(ArcadeConfig.GAME_MICROS_PER_TICK, getLong("Jogos.Microssegundos Por Tick"));
 	}
 	
-	@Default(value = HashMap.class)
-	public Map<Long, String> getDeleteMessages() {
+	@Default(value = TreeMap.class)
+	public NavigableMap<Long, String> getDeleteMessages() {
 		return deleteMessages;
 	}
+	
+	/**
+	 * Get the message sent to the {@link net.peng1104.profiles.Profile}s of a
+	 * {@link net.peng1104.game.Room} whose {@link net.peng1104.storage.game.enums.GameType} has
+	 * no {@link net.peng1104.game.games.Game} yet
+	 * 
+	 * @return The message with its colors translated
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(string = "")
+	public String getNotImplementedMessage() {
+		return notImplementedMessage;
+	}
 }
\ No newline at end of file
@@ -2,11 +2,14 @@ package net.peng1104.storage.game.enums;
 
 import java.lang.reflect.Constructor;
 
+import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
+import net.peng1104.game.maps.GameWorld;
+import net.peng1104.game.maps.PlayerSpatialHash;
 
 /**
  * {@link Enum} containing all the possible {@link GameType}s
@@ -288,6 +291,52 @@ public enum GameType {
 		}
 	}
 	
+	/**
+	 * Check if the {@link Player}s of this {@link GameType} shoot each other, so the
+	 * {@link GameWorld}s of this {@link GameType} keep a {@link PlayerSpatialHash} of its
+	 * {@link Player}s to find the hits
+	 * 
+	 * @return True if this {@link GameType} is {@link #FREE_FOR_ALL_GUN},
+	 * {@link #TEAM_GUNN_VRS_GUNN} or {@link #OTIC}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isGunMode() {
+		switch (this) {
+			case FREE_FOR_ALL_GUN:
+			case TEAM_GUNN_VRS_GUNN:
+			case OTIC:
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Check if the blocks changed in the {@link GameWorld}s of this {@link GameType} can be
+	 * restored, so the {@link GameWorld}s can be used again instead of being deleted
+	 * 
+	 * @return True if this {@link GameType} only changes a few blocks of its map
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isRollbackable() {
+		switch (this) {
+			case LAVAFLOOR:
+			case HIDE_AND_SEEK:
+			case BUILD_BATTLE:
+			case TEAM_BUILD_BATTLE:
+			case SPEED_BUILDERS:
+				return true;
+			default:
+				return false;
+		}
+	}
+	
 	/**
 	 * Check if this {@link GameType} is a special event {@link GameType}
 	 * only
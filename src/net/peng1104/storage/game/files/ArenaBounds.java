@@ -0,0 +1,263 @@
+package net.peng1104.storage.game.files;
+
+import java.lang.reflect.Method;
+
+import org.bukkit.Location;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.game.maps.GameMap;
+
+/**
+ * {@link Class} to keep the region of blocks that a {@link GameMap} uses, so it can be pasted
+ * into a shared arena {@link org.bukkit.World}, both corners are inclusive
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class ArenaBounds {
+	
+	/**
+	 * The smallest x coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int minX;
+	
+	/**
+	 * The smallest y coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int minY;
+	
+	/**
+	 * The smallest z coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int minZ;
+	
+	/**
+	 * The biggest x coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int maxX;
+	
+	/**
+	 * The biggest y coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int maxY;
+	
+	/**
+	 * The biggest z coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int maxZ;
+	
+	/**
+	 * Create a new {@link ArenaBounds} from two corners in any order
+	 * 
+	 * @param x1 The x coordinate of the first corner
+	 * @param y1 The y coordinate of the first corner
+	 * @param z1 The z coordinate of the first corner
+	 * @param x2 The x coordinate of the second corner
+	 * @param y2 The y coordinate of the second corner
+	 * @param z2 The z coordinate of the second corner
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public ArenaBounds(int x1, int y1, int z1, int x2, int y2, int z2) {
+		minX = Math.min(x1, x2);
+		minY = Math.max(0, Math.min(y1, y2));
+		minZ = Math.min(z1, z2);
+		maxX = Math.max(x1, x2);
+		maxY = Math.min(255, Math.max(y1, y2));
+		maxZ = Math.max(z1, z2);
+	}
+	
+	/**
+	 * Create a new {@link ArenaBounds} from two corner {@link Location}s
+	 * 
+	 * @param first The first corner
+	 * @param second The second corner
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public ArenaBounds(@NotNull Location first, @NotNull Location second) {
+		this(first.getBlockX(), first.getBlockY(), first.getBlockZ(), second.getBlockX(),
+				second.getBlockY(), second.getBlockZ());
+	}
+	
+	/**
+	 * Get the smallest x coordinate of this {@link ArenaBounds}
+	 * 
+	 * @return The smallest x coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public int getMinX() {
+		return minX;
+	}
+	
+	/**
+	 * Get the smallest y coordinate of this {@link ArenaBounds}
+	 * 
+	 * @return The smallest y coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public int getMinY() {
+		return minY;
+	}
+	
+	/**
+	 * Get the smallest z coordinate of this {@link ArenaBounds}
+	 * 
+	 * @return The smallest z coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public int getMinZ() {
+		return minZ;
+	}
+	
+	/**
+	 * Get the biggest x coordinate of this {@link ArenaBounds}
+	 * 
+	 * @return The biggest x coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public int getMaxX() {
+		return maxX;
+	}
+	
+	/**
+	 * Get the biggest y coordinate of this {@link ArenaBounds}
+	 * 
+	 * @return The biggest y coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public int getMaxY() {
+		return maxY;
+	}
+	
+	/**
+	 * Get the biggest z coordinate of this {@link ArenaBounds}
+	 * 
+	 * @return The biggest z coordinate
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public int getMaxZ() {
+		return maxZ;
+	}
+	
+	/**
+	 * Get the size of this {@link ArenaBounds} in the x axis
+	 * 
+	 * @return The amount of blocks in the x axis
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 1)
+	public int getWidth() {
+		return maxX - minX + 1;
+	}
+	
+	/**
+	 * Get the size of this {@link ArenaBounds} in the y axis
+	 * 
+	 * @return The amount of blocks in the y axis
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 1)
+	public int getHeight() {
+		return maxY - minY + 1;
+	}
+	
+	/**
+	 * Get the size of this {@link ArenaBounds} in the z axis
+	 * 
+	 * @return The amount of blocks in the z axis
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 1)
+	public int getLength() {
+		return maxZ - minZ + 1;
+	}
+	
+	/**
+	 * Get the amount of blocks inside this {@link ArenaBounds}
+	 * 
+	 * @return The volume of this {@link ArenaBounds}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 1)
+	public long getVolume() {
+		return (long) getWidth() * getHeight() * getLength();
+	}
+	
+	/**
+	 * Check if a block is inside this {@link ArenaBounds}
+	 * 
+	 * @param x The x coordinate of the block
+	 * @param y The y coordinate of the block
+	 * @param z The z coordinate of the block
+	 * 
+	 * @return True if the given block is inside this {@link ArenaBounds}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean contains(int x, int y, int z) {
+		return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+	}
+	
+	/**
+	 * {@link Method} to create a copy of this {@link ArenaBounds} moved by an offset
+	 * 
+	 * @param x The offset in the x axis
+	 * @param y The offset in the y axis
+	 * @param z The offset in the z axis
+	 * 
+	 * @return A new {@link ArenaBounds} moved by the given offset
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArenaBounds.class)
+	public ArenaBounds offset(int x, int y, int z) {
+		return new ArenaBounds(minX + x, minY + y, minZ + z, maxX + x, maxY + y, maxZ + z);
+	}
+}
\ No newline at end of file
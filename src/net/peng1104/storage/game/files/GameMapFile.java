@@ -4,19 +4,24 @@ import java.io.File;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
 
+import net.peng1104.Arcade;
 import net.peng1104.annotation.Default;
 import net.peng1104.annotation.NotNull;
 import net.peng1104.annotation.Nullable;
 import net.peng1104.game.maps.GameMap;
+import net.peng1104.game.maps.MapManager;
 import net.peng1104.storage.files.FileBase;
 import net.peng1104.storage.game.enums.GameType;
 import net.peng1104.utils.FileUtils;
@@ -49,6 +54,14 @@ public class GameMapFile extends FileBase {
 	
 	private static final File GAME_MAP_FILE_CONTAINER = new File(getDefaultDirectory(), CONTAINER_NAME);
 	
+	/**
+	 * The key of the {@link ArenaBounds} in the {@link GameMapFile}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String BOUNDS_KEY = "Limites";
+	
 	/**
 	 * Get the {@link File} that represents the {@link GameMapFile}s container
 	 * location
@@ -64,6 +77,22 @@ public class GameMapFile extends FileBase {
 		return GAME_MAP_FILE_CONTAINER;
 	}
 	
+	/**
+	 * Get the {@link File} of the {@link MapDescriptor} compiled from the {@link GameMapFile} of a
+	 * {@link GameMap}
+	 * 
+	 * @param name The name of the {@link GameMap}
+	 * 
+	 * @return The {@link MapDescriptor} {@link File} next to the {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = File.class)
+	public static File getDescriptorFile(@NotNull String name) {
+		return new File(GAME_MAP_FILE_CONTAINER, name + MapDescriptor.EXTENSION);
+	}
+	
 	/**
 	 * The {@link Set} containing all the valid {@link GameType}s for this {@link GameMap}
 	 * 
@@ -72,6 +101,31 @@ public class GameMapFile extends FileBase {
 	
 	private final Set<GameType> validTypes;
 	
+	/**
+	 * The name of the {@link GameMap} of this {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final String name;
+	
+	/**
+	 * The compiled {@link SpawnTable} of each valid {@link GameType}, with the linked
+	 * {@link GameType}s already resolved, null until it is needed or after a change
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Map<GameType, SpawnTable> spawnTables;
+	
+	/**
+	 * See {@link #getBounds()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private ArenaBounds bounds;
+	
 	/**
 	 * Create or load a {@link GameMapFile} using the name of a {@link GameMap}
 	 * 
@@ -85,6 +139,7 @@ public class GameMapFile extends FileBase {
 	public GameMapFile(@NotNull String name) {
 		super(new File(CONTAINER_NAME, name + ".yml"));
 		
+		this.name = name;
 		validTypes = new HashSet<>();
 		
 		for (String type : getKeys()) {
@@ -143,6 +198,21 @@ public class GameMapFile extends FileBase {
 		return Collections.unmodifiableSet(validTypes);
 	}
 	
+	/**
+	 * Get the {@link File} of the {@link MapDescriptor} compiled from this {@link GameMapFile}
+	 * 
+	 * @return The {@link MapDescriptor} {@link File} next to this {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see #getDescriptorFile(String)
+	 */
+	
+	@Default(value = File.class)
+	public File getDescriptorFile() {
+		return getDescriptorFile(name);
+	}
+	
 	/**
 	 * {@link Method} to get the spawn points configured for the {@link GameMap}
 	 * that this {@link GameMapFile} represents
@@ -158,35 +228,135 @@ public class GameMapFile extends FileBase {
 	
 	@Default(value = ArrayList.class)
 	public List<Location> getSpawnPoints(@NotNull World world, @NotNull GameType gameType) {
-		List<Location> resultList = new ArrayList<>();
-		
 		if (world == null || gameType == null) {
-			return resultList;
+			return new ArrayList<>();
 		}
-		String type = gameType.getName();
-		
-		Object object = get(type);
-		
-		if (object instanceof String) {
-			return getSpawnPoints(world, get(gameType, new HashSet<>()));
+		return getSpawnTable(gameType).bind(world);
+	}
+	
+	/**
+	 * Get the compiled spawn points of a {@link GameType}, the {@link SpawnTable}s are compiled
+	 * once and kept until this {@link GameMapFile} changes
+	 * 
+	 * @param gameType The {@link GameType} to get the compiled spawn points from
+	 * 
+	 * @return The {@link SpawnTable} of the given {@link GameType}, or {@link SpawnTable#EMPTY} if
+	 * it has no spawn points configured
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = SpawnTable.class)
+	public SpawnTable getSpawnTable(@NotNull GameType gameType) {
+		if (spawnTables == null) {
+			spawnTables = compileSpawnTables();
 		}
-		if (object instanceof ConfigurationSection) {
-			Set<String> spawns = getSubKeys(type);
-			type += '.';
+		SpawnTable table = gameType == null ? null : spawnTables.get(gameType);
+		return table == null ? SpawnTable.EMPTY : table;
+	}
+	
+	/**
+	 * Internal {@link Method} to compile the spawn points of all the {@link GameType}s of this
+	 * {@link GameMapFile}
+	 * 
+	 * @return A {@link Map} containing the {@link SpawnTable} of each {@link GameType} that has
+	 * spawn points, linked {@link GameType}s share the {@link SpawnTable} of their base
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = EnumMap.class)
+	private Map<GameType, SpawnTable> compileSpawnTables() {
+		Map<GameType, SpawnTable> tables = new EnumMap<>(GameType.class);
+		
+		for (GameType gameType : GameType.values()) {
+			GameType base = getBase(gameType);
 			
-			for (String spawn : spawns) {
-				spawn = type + spawn;
+			if (base == null) continue;
+			
+			SpawnTable table = tables.get(base);
+			
+			if (table == null) {
+				String type = base.getName();
+				Set<String> spawns = getSubKeys(type);
+				int size = spawns.size();
+				int index = 0;
+				
+				double[] x = new double[size];
+				double[] y = new double[size];
+				double[] z = new double[size];
+				float[] yaw = new float[size];
+				float[] pitch = new float[size];
 				
-				double x = getDouble(spawn + ".x");
-				double y = getDouble(spawn + ".y") + 1.5;
-				double z = getDouble(spawn + ".z");
-				float yaw = getFloat(spawn + ".yaw");
-				float pitch = getFloat(spawn + ".pitch");
+				type += '.';
 				
-				resultList.add(new Location(world, x, y, z, yaw, pitch));
+				for (String spawn : spawns) {
+					spawn = type + spawn + '.';
+					
+					x[index] = getDouble(spawn + 'x');
+					y[index] = getDouble(spawn + 'y') + 1.5;
+					z[index] = getDouble(spawn + 'z');
+					yaw[index] = getFloat(spawn + "yaw");
+					pitch[index] = getFloat(spawn + "pitch");
+					index++;
+				}
+				table = new SpawnTable(x, y, z, yaw, pitch);
+				tables.put(base, table);
 			}
+			tables.put(gameType, table);
+		}
+		return tables;
+	}
+	
+	/**
+	 * Get the region of blocks used by the {@link GameMap} that this {@link GameMapFile}
+	 * represents, only {@link GameMap}s with bounds can be pasted into a shared arena
+	 * {@link World}
+	 * 
+	 * @return The {@link ArenaBounds} of the {@link GameMap}, or null if they are not configured
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public ArenaBounds getBounds() {
+		if (bounds == null && !getSubKeys(BOUNDS_KEY).isEmpty()) {
+			String key = BOUNDS_KEY + '.';
+			
+			bounds = new ArenaBounds(getInt(key + "x1"), getInt(key + "y1"), getInt(key + "z1"),
+					getInt(key + "x2"), getInt(key + "y2"), getInt(key + "z2"));
+		}
+		return bounds;
+	}
+	
+	/**
+	 * {@link Method} to set the region of blocks used by the {@link GameMap} that this
+	 * {@link GameMapFile} represents
+	 * 
+	 * @param bounds The {@link ArenaBounds} to set, or null to remove them
+	 * 
+	 * @return True if the {@link ArenaBounds} have been saved
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean setBounds(@Nullable ArenaBounds bounds) {
+		if (bounds == null) {
+			set(BOUNDS_KEY, null);
 		}
-		return resultList;
+		else {
+			String key = BOUNDS_KEY + '.';
+			
+			set(key + "x1", bounds.getMinX());
+			set(key + "y1", bounds.getMinY());
+			set(key + "z1", bounds.getMinZ());
+			set(key + "x2", bounds.getMaxX());
+			set(key + "y2", bounds.getMaxY());
+			set(key + "z2", bounds.getMaxZ());
+		}
+		this.bounds = bounds;
+		return saveLater();
 	}
 	
 	/**
@@ -207,7 +377,9 @@ public class GameMapFile extends FileBase {
 		if (type != null && get(type, new HashSet<>()) != base && get(base, new HashSet<>()) != null) {
 			validTypes.add(type);
 			set(type.getName(), base.getName());
-			return save();
+			spawnTables = null;
+			updateCatalog();
+			return saveLater();
 		}
 		return false;
 	}
@@ -244,7 +416,9 @@ public class GameMapFile extends FileBase {
 			set(spawn + ".yaw", location.getYaw());
 			set(spawn + ".pitch", location.getPitch());
 		}
-		return save();
+		spawnTables = null;
+		updateCatalog();
+		return saveLater();
 	}
 	
 	/**
@@ -273,10 +447,19 @@ public class GameMapFile extends FileBase {
 				}
 			}
 		}
+		spawnTables = null;
+		updateCatalog();
+		
 		if (validTypes.isEmpty()) {
-			return FileUtils.delete(getFilePath());
+			GameMapFileWriter writer = getWriter();
+			
+			if (writer == null) {
+				return FileUtils.delete(getFilePath());
+			}
+			writer.delete(this);
+			return true;
 		}
-		return save();
+		return saveLater();
 	}
 	
 	/**
@@ -289,7 +472,7 @@ public class GameMapFile extends FileBase {
 	 */
 	
 	@Default(value = HashSet.class)
-	private void remove0(@NotNull GameType gameType) {		
+	private void remove0(@NotNull GameType gameType) {
 		if (validTypes.remove(gameType)) {
 			String type = gameType.getName();
 			
@@ -304,6 +487,108 @@ public class GameMapFile extends FileBase {
 		}
 	}
 	
+	/**
+	 * {@link Method} to serialize the current {@link Configuration} of this {@link GameMapFile},
+	 * this {@link Method} must be called in the main thread
+	 * 
+	 * @return The YAML content of this {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFileWriter
+	 */
+	
+	@Default(value = String.class)
+	public String saveToString() {
+		YamlConfiguration snapshot = new YamlConfiguration();
+		
+		for (String key : getKeys()) {
+			Object value = get(key);
+			
+			if (value instanceof ConfigurationSection) {
+				for (Map.Entry<String, Object> entry : ((ConfigurationSection) value)
+						.getValues(true).entrySet()) {
+					
+					if (!(entry.getValue() instanceof ConfigurationSection)) {
+						snapshot.set(key + '.' + entry.getKey(), entry.getValue());
+					}
+				}
+			}
+			else {
+				snapshot.set(key, value);
+			}
+		}
+		return snapshot.saveToString();
+	}
+	
+	/**
+	 * Internal {@link Method} to write the changes of this {@link GameMapFile} behind the main
+	 * thread, they are written right away if the {@link GameMapFileWriter} is not available
+	 * 
+	 * @return True if the changes have been queued or written
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	private boolean saveLater() {
+		GameMapFileWriter writer = getWriter();
+		
+		if (writer == null) return save();
+		
+		writer.markDirty(this);
+		return true;
+	}
+	
+	/**
+	 * Internal {@link Method} to get the {@link GameMapFileWriter} of the {@link MapManager}
+	 * 
+	 * @return The {@link GameMapFileWriter}, or null if the {@link MapManager} is not available
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private static GameMapFileWriter getWriter() {
+		Arcade arcade = Arcade.getInstance();
+		
+		if (arcade == null || arcade.getMapManager() == null) return null;
+		
+		return arcade.getMapManager().getMapFileWriter();
+	}
+	
+	/**
+	 * Internal {@link Method} to update the {@link MapManager} catalog after the valid
+	 * {@link GameType}s of this {@link GameMapFile} have changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void updateCatalog() {
+		Arcade arcade = Arcade.getInstance();
+		
+		if (arcade != null && arcade.getMapManager() != null) {
+			arcade.getMapManager().updateCatalog(name);
+		}
+	}
+	
+	/**
+	 * Get the {@link GameType} that keeps the spawn points of another {@link GameType}, following
+	 * the linked {@link GameType}s
+	 * 
+	 * @param gameType The {@link GameType} to resolve
+	 * 
+	 * @return The {@link GameType} that contains the spawn points configuration for the given
+	 * {@link GameType}, null otherwise
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	GameType getBase(@NotNull GameType gameType) {
+		return get(gameType, new HashSet<>());
+	}
+	
 	/**
 	 * {@link Method} get the {@link GameType}, that another {@link GameType}
 	 * is configured to
@@ -0,0 +1,267 @@
+package net.peng1104.storage.game.files;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.Configuration;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.Arcade;
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.utils.FileUtils;
+
+/**
+ * {@link Class} to write the changed {@link GameMapFile}s behind the main thread, the changes of a
+ * {@link GameMapFile} are coalesced for {@link #FLUSH_PERIOD} ticks, then its
+ * {@link Configuration} is serialized in the main thread and written into a temporary
+ * {@link File} that is moved over the real one in a background thread, followed by its compiled
+ * {@link MapDescriptor}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class GameMapFileWriter {
+	
+	/**
+	 * The amount of server ticks between each flush of the changed {@link GameMapFile}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final long FLUSH_PERIOD = 20;
+	
+	/**
+	 * The {@link GameMapFile}s changed since the last flush, in the order they changed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Set<GameMapFile> dirty = new LinkedHashSet<>();
+	
+	/**
+	 * The {@link ExecutorService} that writes the {@link GameMapFile}s, a single thread keeps the
+	 * writes of each {@link File} in order
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Arcade-GameMapFileWriter");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	/**
+	 * The {@link BukkitTask} that flushes the changed {@link GameMapFile}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final BukkitTask task;
+	
+	/**
+	 * See {@link #getWrites()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long writes = 0;
+	
+	/**
+	 * See {@link #getCoalesced()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long coalesced = 0;
+	
+	/**
+	 * Create a new {@link GameMapFileWriter} and start its flush task
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public GameMapFileWriter() {
+		task = Bukkit.getScheduler().runTaskTimer(Arcade.getInstance(), this::flush, FLUSH_PERIOD,
+				FLUSH_PERIOD);
+	}
+	
+	/**
+	 * {@link Method} to mark a {@link GameMapFile} as changed, it is written in the next flush
+	 * 
+	 * @param file The changed {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void markDirty(@NotNull GameMapFile file) {
+		if (file != null && !dirty.add(file)) {
+			coalesced++;
+		}
+	}
+	
+	/**
+	 * {@link Method} to forget the pending changes of a {@link GameMapFile} and delete its
+	 * {@link File} and {@link MapDescriptor} after the writes already queued
+	 * 
+	 * @param file The {@link GameMapFile} to delete
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void delete(@NotNull GameMapFile file) {
+		if (file == null) return;
+		
+		dirty.remove(file);
+		
+		File path = file.getFilePath();
+		File descriptor = file.getDescriptorFile();
+		
+		executor.execute(() -> {
+			FileUtils.delete(path);
+			FileUtils.delete(descriptor);
+		});
+	}
+	
+	/**
+	 * Get the amount of {@link GameMapFile}s waiting for the next flush
+	 * 
+	 * @return The amount of changed {@link GameMapFile}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int getPending() {
+		return dirty.size();
+	}
+	
+	/**
+	 * Get the amount of {@link File}s written by this {@link GameMapFileWriter}
+	 * 
+	 * @return The amount of writes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getWrites() {
+		return writes;
+	}
+	
+	/**
+	 * Get the amount of changes that have been merged into a pending write
+	 * 
+	 * @return The amount of writes saved by coalescing
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getCoalesced() {
+		return coalesced;
+	}
+	
+	/**
+	 * {@link Method} to stop this {@link GameMapFileWriter}, all the changed {@link GameMapFile}s
+	 * are written before this {@link Method} returns
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public void shutdown() {
+		task.cancel();
+		flush();
+		executor.shutdown();
+		
+		try {
+			executor.awaitTermination(30, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to serialize and compile the changed {@link GameMapFile}s in the main
+	 * thread and queue their writes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void flush() {
+		if (dirty.isEmpty()) return;
+		
+		List<GameMapFile> files = new ArrayList<>(dirty);
+		
+		dirty.clear();
+		
+		for (GameMapFile file : files) {
+			String content = file.saveToString();
+			MapDescriptor descriptor = MapDescriptor.compile(file);
+			File path = file.getFilePath();
+			
+			writes++;
+			executor.execute(() -> write(file, path, content, descriptor));
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to write the content of a {@link GameMapFile} atomically and then its
+	 * {@link MapDescriptor}, a failed write is logged and the {@link GameMapFile} is marked as
+	 * changed again
+	 * 
+	 * @param file The {@link GameMapFile} being written
+	 * @param path The {@link File} of the {@link GameMapFile}
+	 * @param content The serialized {@link Configuration}
+	 * @param descriptor The compiled {@link MapDescriptor}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void write(@NotNull GameMapFile file, @NotNull File path, @NotNull String content,
+			@NotNull MapDescriptor descriptor) {
+		
+		File temporary = new File(path.getParentFile(), path.getName() + ".tmp");
+		
+		try {
+			path.getParentFile().mkdirs();
+			Files.write(temporary.toPath(), content.getBytes(StandardCharsets.UTF_8));
+			
+			try {
+				Files.move(temporary.toPath(), path.toPath(), StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException exception) {
+				Files.move(temporary.toPath(), path.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			descriptor.write(file.getDescriptorFile(), path);
+		}
+		catch (IOException exception) {
+			temporary.delete();
+			
+			Arcade.getInstance().getLogger().warning("Could not save the map file "
+					+ path.getName());
+			
+			if (!executor.isShutdown()) {
+				Bukkit.getScheduler().runTask(Arcade.getInstance(), () -> markDirty(file));
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,481 @@
+package net.peng1104.storage.game.files;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+import net.peng1104.game.maps.GameMap;
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * {@link Class} to keep a compiled copy of a {@link GameMapFile} in a binary {@link File} next to
+ * it, with the valid {@link GameType}s, the resolved linked {@link GameType}s, the
+ * {@link ArenaBounds} and the {@link SpawnTable}s in a fixed layout that is read in a single
+ * pass into a {@link ByteBuffer}, the {@link GameMapFile} stays the source of truth and a
+ * {@link MapDescriptor} older than it is ignored
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class MapDescriptor {
+	
+	/**
+	 * The extension of the {@link MapDescriptor} {@link File}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final String EXTENSION = ".bin";
+	
+	/**
+	 * The first int of a {@link MapDescriptor} {@link File}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MAGIC = 0x41524D44;
+	
+	/**
+	 * The format version of the {@link MapDescriptor} {@link File}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int VERSION = 1;
+	
+	/**
+	 * The position of the last modification time of the {@link GameMapFile} in the layout
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MODIFIED_OFFSET = 12;
+	
+	/**
+	 * The position of the length of the {@link GameMapFile} in the layout
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int LENGTH_OFFSET = 20;
+	
+	/**
+	 * The amount of bytes of each spawn point in the layout
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int SPAWN_BYTES = 8 * 3 + 4 * 2;
+	
+	/**
+	 * See {@link #getModified()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final long modified;
+	
+	/**
+	 * See {@link #getLength()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final long length;
+	
+	/**
+	 * The valid {@link GameType}s as a bitmask of their {@link GameType#ordinal()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final long types;
+	
+	/**
+	 * The {@link GameType} that keeps the spawn points of each {@link GameType}, by
+	 * {@link GameType#ordinal()}, null if it has no spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameType[] bases;
+	
+	/**
+	 * The {@link SpawnTable}s of the valid {@link GameType}s, linked {@link GameType}s share the
+	 * {@link SpawnTable} of their base
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<GameType, SpawnTable> tables;
+	
+	/**
+	 * See {@link #getBounds()}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final ArenaBounds bounds;
+	
+	/**
+	 * Internal {@link MapDescriptor} {@link java.lang.reflect.Constructor}
+	 * 
+	 * @param modified The last modification time of the {@link GameMapFile}
+	 * @param length The length of the {@link GameMapFile}
+	 * @param types The valid {@link GameType}s bitmask
+	 * @param bases The base {@link GameType} of each {@link GameType}
+	 * @param tables The {@link SpawnTable}s of the valid {@link GameType}s
+	 * @param bounds The {@link ArenaBounds}, or null if there are none
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	MapDescriptor(long modified, long length, long types, @NotNull GameType[] bases,
+			@NotNull Map<GameType, SpawnTable> tables, @Nullable ArenaBounds bounds) {
+		
+		this.modified = modified;
+		this.length = length;
+		this.types = types;
+		this.bases = bases;
+		this.tables = tables;
+		this.bounds = bounds;
+	}
+	
+	/**
+	 * {@link Method} to compile a parsed {@link GameMapFile}
+	 * 
+	 * @param configFile The {@link GameMapFile} to compile
+	 * 
+	 * @return The {@link MapDescriptor} of the given {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public static MapDescriptor compile(@NotNull GameMapFile configFile) {
+		if (configFile == null) {
+			throw new IllegalArgumentException("ConfigFile cannot be null");
+		}
+		GameType[] values = GameType.values();
+		GameType[] bases = new GameType[values.length];
+		Map<GameType, SpawnTable> tables = new EnumMap<>(GameType.class);
+		long types = 0;
+		
+		for (GameType type : values) {
+			GameType base = configFile.getBase(type);
+			
+			if (configFile.isValidType(type)) {
+				types |= 1L << type.ordinal();
+			}
+			
+			if (base != null) {
+				bases[type.ordinal()] = base;
+				tables.put(type, configFile.getSpawnTable(type));
+			}
+		}
+		File path = configFile.getFilePath();
+		
+		return new MapDescriptor(path.lastModified(), path.length(), types, bases, tables,
+				configFile.getBounds());
+	}
+	
+	/**
+	 * {@link Method} to read a {@link MapDescriptor} {@link File} into a heap {@link ByteBuffer},
+	 * it is not mapped since a {@link java.nio.MappedByteBuffer} keeps the {@link File} open until
+	 * it is garbage collected and a later {@link #write(File, File)} could not replace it on
+	 * Windows, this {@link Method} does not touch Bukkit and can be called in any thread
+	 * 
+	 * @param file The {@link MapDescriptor} {@link File}
+	 * @param configFile The {@link File} of the {@link GameMapFile} it describes
+	 * 
+	 * @return The read {@link MapDescriptor}, or null if it does not exist, is corrupted, outdated
+	 * or older than the given {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	public static MapDescriptor read(@NotNull File file, @NotNull File configFile) {
+		if (file == null || configFile == null || !file.isFile()) return null;
+		
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long fileSize = channel.size();
+			
+			if (fileSize > Integer.MAX_VALUE) return null;
+			
+			ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+			
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) return null;
+			}
+			
+			buffer.flip();
+			
+			GameType[] values = GameType.values();
+			
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+					|| buffer.getInt() != values.length) {
+				
+				return null;
+			}
+			long modified = buffer.getLong();
+			long length = buffer.getLong();
+			
+			if (modified != configFile.lastModified() || length != configFile.length()) {
+				return null;
+			}
+			long types = buffer.getLong();
+			GameType[] bases = new GameType[values.length];
+			
+			for (int i = 0; i < values.length; i++) {
+				int base = buffer.get();
+				bases[i] = base < 0 || base >= values.length ? null : values[base];
+			}
+			ArenaBounds bounds = null;
+			
+			if (buffer.get() != 0) {
+				bounds = new ArenaBounds(buffer.getInt(), buffer.getInt(), buffer.getInt(),
+						buffer.getInt(), buffer.getInt(), buffer.getInt());
+			}
+			Map<GameType, SpawnTable> tables = new EnumMap<>(GameType.class);
+			int amount = buffer.getInt();
+			
+			for (int i = 0; i < amount; i++) {
+				GameType base = values[buffer.getInt()];
+				int size = buffer.getInt();
+				
+				double[] x = new double[size];
+				double[] y = new double[size];
+				double[] z = new double[size];
+				float[] yaw = new float[size];
+				float[] pitch = new float[size];
+				
+				for (int j = 0; j < size; j++) {
+					x[j] = buffer.getDouble();
+					y[j] = buffer.getDouble();
+					z[j] = buffer.getDouble();
+					yaw[j] = buffer.getFloat();
+					pitch[j] = buffer.getFloat();
+				}
+				tables.put(base, new SpawnTable(x, y, z, yaw, pitch));
+			}
+			for (GameType type : values) {
+				GameType base = bases[type.ordinal()];
+				
+				if (base != null && tables.containsKey(base)) {
+					tables.put(type, tables.get(base));
+				}
+			}
+			return new MapDescriptor(modified, length, types, bases, tables, bounds);
+		}
+		catch (IOException | BufferUnderflowException | IndexOutOfBoundsException exception) {
+			return null;
+		}
+	}
+	
+	/**
+	 * {@link Method} to write this {@link MapDescriptor} into a {@link File}, it is stamped with
+	 * the current modification time and length of the given {@link GameMapFile}, so it must be
+	 * called after the {@link GameMapFile} has been written, this {@link Method} does not touch
+	 * Bukkit and can be called in any thread
+	 * 
+	 * @param file The {@link MapDescriptor} {@link File} to write
+	 * @param configFile The {@link File} of the {@link GameMapFile} it describes
+	 * 
+	 * @return True if this {@link MapDescriptor} has been written without errors
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Boolean = false)
+	public boolean write(@NotNull File file, @NotNull File configFile) {
+		if (file == null || configFile == null) return false;
+		
+		ByteBuffer buffer = encode();
+		
+		buffer.putLong(MODIFIED_OFFSET, configFile.lastModified());
+		buffer.putLong(LENGTH_OFFSET, configFile.length());
+		
+		File temporary = new File(file.getParentFile(), file.getName() + ".tmp");
+		
+		try {
+			try (FileChannel channel = FileChannel.open(temporary.toPath(),
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+			try {
+				Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException exception) {
+				Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			return true;
+		}
+		catch (IOException exception) {
+			temporary.delete();
+			return false;
+		}
+	}
+	
+	/**
+	 * Get the last modification time of the {@link GameMapFile} when this {@link MapDescriptor}
+	 * was compiled or written
+	 * 
+	 * @return The last modification time of the {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getModified() {
+		return modified;
+	}
+	
+	/**
+	 * Get the length of the {@link GameMapFile} when this {@link MapDescriptor} was compiled or
+	 * written
+	 * 
+	 * @return The length of the {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Long = 0)
+	public long getLength() {
+		return length;
+	}
+	
+	/**
+	 * Check if a {@link GameType} is valid for the described {@link GameMap}
+	 * 
+	 * @param type The {@link GameType} to check
+	 * 
+	 * @return True if the given {@link GameType} is configured in the {@link GameMapFile}
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFile#isValidType(GameType)
+	 */
+	
+	@Default(Boolean = false)
+	public boolean isValidType(@NotNull GameType type) {
+		return type != null && (types & 1L << type.ordinal()) != 0;
+	}
+	
+	/**
+	 * Get the compiled spawn points of a {@link GameType}
+	 * 
+	 * @param type The {@link GameType} of the spawn points
+	 * 
+	 * @return The {@link SpawnTable} of the given {@link GameType}, or {@link SpawnTable#EMPTY} if
+	 * it is not valid
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFile#getSpawnTable(GameType)
+	 */
+	
+	@Default(value = SpawnTable.class)
+	public SpawnTable getSpawnTable(@NotNull GameType type) {
+		SpawnTable table = type == null ? null : tables.get(type);
+		return table == null ? SpawnTable.EMPTY : table;
+	}
+	
+	/**
+	 * Get the {@link ArenaBounds} of the described {@link GameMap}
+	 * 
+	 * @return The {@link ArenaBounds}, or null if they are not configured
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @see GameMapFile#getBounds()
+	 */
+	
+	@Nullable
+	public ArenaBounds getBounds() {
+		return bounds;
+	}
+	
+	/**
+	 * Internal {@link Method} to encode this {@link MapDescriptor} in its fixed layout
+	 * 
+	 * @return A {@link ByteBuffer} ready to be written
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ByteBuffer.class)
+	private ByteBuffer encode() {
+		GameType[] values = GameType.values();
+		int size = LENGTH_OFFSET + 8 + 8 + values.length + 1 + 4 * 6 + 4;
+		int amount = 0;
+		
+		for (GameType type : values) {
+			if (bases[type.ordinal()] == type && tables.containsKey(type)) {
+				size += 4 * 2 + tables.get(type).size() * SPAWN_BYTES;
+				amount++;
+			}
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(values.length);
+		buffer.putLong(modified);
+		buffer.putLong(length);
+		buffer.putLong(types);
+		
+		for (GameType base : bases) {
+			buffer.put((byte) (base == null ? -1 : base.ordinal()));
+		}
+		buffer.put((byte) (bounds == null ? 0 : 1));
+		
+		if (bounds != null) {
+			buffer.putInt(bounds.getMinX());
+			buffer.putInt(bounds.getMinY());
+			buffer.putInt(bounds.getMinZ());
+			buffer.putInt(bounds.getMaxX());
+			buffer.putInt(bounds.getMaxY());
+			buffer.putInt(bounds.getMaxZ());
+		}
+		buffer.putInt(amount);
+		
+		for (GameType type : values) {
+			if (bases[type.ordinal()] != type || !tables.containsKey(type)) continue;
+			
+			SpawnTable table = tables.get(type);
+			
+			buffer.putInt(type.ordinal());
+			buffer.putInt(table.size());
+			
+			for (int i = 0; i < table.size(); i++) {
+				buffer.putDouble(table.getX(i));
+				buffer.putDouble(table.getY(i));
+				buffer.putDouble(table.getZ(i));
+				buffer.putFloat(table.getYaw(i));
+				buffer.putFloat(table.getPitch(i));
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+}
\ No newline at end of file
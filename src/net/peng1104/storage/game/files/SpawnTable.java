@@ -0,0 +1,230 @@
+package net.peng1104.storage.game.files;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import net.peng1104.annotation.Default;
+import net.peng1104.annotation.NotNull;
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * {@link Class} to keep the compiled spawn points of a {@link GameType} of a {@link GameMapFile}
+ * in primitive arrays, so they can be bound to a {@link World} without reading the
+ * {@link GameMapFile} again
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class SpawnTable {
+	
+	/**
+	 * An empty {@link SpawnTable}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static final SpawnTable EMPTY = new SpawnTable(new double[0], new double[0],
+			new double[0], new float[0], new float[0]);
+	
+	/**
+	 * The x coordinate of each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final double[] x;
+	
+	/**
+	 * The y coordinate of each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final double[] y;
+	
+	/**
+	 * The z coordinate of each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final double[] z;
+	
+	/**
+	 * The yaw of each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final float[] yaw;
+	
+	/**
+	 * The pitch of each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final float[] pitch;
+	
+	/**
+	 * Create a new {@link SpawnTable}, all the given arrays must have the same length and must
+	 * not be changed after
+	 * 
+	 * @param x The x coordinate of each spawn point
+	 * @param y The y coordinate of each spawn point
+	 * @param z The z coordinate of each spawn point
+	 * @param yaw The yaw of each spawn point
+	 * @param pitch The pitch of each spawn point
+	 * 
+	 * @throws IllegalArgumentException If the given arrays do not have the same length
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public SpawnTable(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z,
+			@NotNull float[] yaw, @NotNull float[] pitch) {
+		
+		if (x.length != y.length || x.length != z.length || x.length != yaw.length
+				|| x.length != pitch.length) {
+			
+			throw new IllegalArgumentException("All the arrays must have the same length");
+		}
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.yaw = yaw;
+		this.pitch = pitch;
+	}
+	
+	/**
+	 * Get the amount of spawn points of this {@link SpawnTable}
+	 * 
+	 * @return The amount of spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(Int = 0)
+	public int size() {
+		return x.length;
+	}
+	
+	/**
+	 * Get the x coordinate of a spawn point
+	 * 
+	 * @param index The index of the spawn point
+	 * 
+	 * @return The x coordinate of the spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public double getX(int index) {
+		return x[index];
+	}
+	
+	/**
+	 * Get the y coordinate of a spawn point
+	 * 
+	 * @param index The index of the spawn point
+	 * 
+	 * @return The y coordinate of the spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public double getY(int index) {
+		return y[index];
+	}
+	
+	/**
+	 * Get the z coordinate of a spawn point
+	 * 
+	 * @param index The index of the spawn point
+	 * 
+	 * @return The z coordinate of the spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public double getZ(int index) {
+		return z[index];
+	}
+	
+	/**
+	 * Get the yaw of a spawn point
+	 * 
+	 * @param index The index of the spawn point
+	 * 
+	 * @return The yaw of the spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public float getYaw(int index) {
+		return yaw[index];
+	}
+	
+	/**
+	 * Get the pitch of a spawn point
+	 * 
+	 * @param index The index of the spawn point
+	 * 
+	 * @return The pitch of the spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public float getPitch(int index) {
+		return pitch[index];
+	}
+	
+	/**
+	 * {@link Method} to create the spawn points {@link Location}s of this {@link SpawnTable} in a
+	 * {@link World}
+	 * 
+	 * @param world The {@link World} of the {@link Location}s
+	 * 
+	 * @return A new {@link List} containing a {@link Location} for each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArrayList.class)
+	public List<Location> bind(@NotNull World world) {
+		return bind(world, 0, 0, 0);
+	}
+	
+	/**
+	 * {@link Method} to create the spawn points {@link Location}s of this {@link SpawnTable} in a
+	 * {@link World}, moved by an offset
+	 * 
+	 * @param world The {@link World} of the {@link Location}s
+	 * @param offsetX The offset in the x axis
+	 * @param offsetY The offset in the y axis
+	 * @param offsetZ The offset in the z axis
+	 * 
+	 * @return A new {@link List} containing a {@link Location} for each spawn point
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Default(value = ArrayList.class)
+	public List<Location> bind(@NotNull World world, double offsetX, double offsetY,
+			double offsetZ) {
+		
+		List<Location> result = new ArrayList<>(x.length);
+		
+		for (int i = 0; i < x.length; i++) {
+			result.add(new Location(world, x[i] + offsetX, y[i] + offsetY, z[i] + offsetZ, yaw[i],
+					pitch[i]));
+		}
+		return result;
+	}
+}
\ No newline at end of file
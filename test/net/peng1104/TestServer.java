@@ -0,0 +1,215 @@
+package net.peng1104;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import net.peng1104.annotation.NotNull;
+import net.peng1104.annotation.Nullable;
+
+/**
+ * {@link Class} to run the tests without a server, a {@link Proxy} of the {@link Server} is
+ * installed in {@link Bukkit} and the tasks given to its {@link BukkitScheduler} are kept so the
+ * tests can run them by hand, one call for each period
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public final class TestServer {
+	
+	/**
+	 * The tasks given to the {@link BukkitScheduler}, in the order they were scheduled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final List<Runnable> TASKS = new ArrayList<>();
+	
+	/**
+	 * The {@link World} container of the {@link Server}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static volatile File worldContainer = new File(System.getProperty("java.io.tmpdir"));
+	
+	/**
+	 * Internal {@link TestServer} {@link java.lang.reflect.Constructor}, this {@link Class} only
+	 * has static {@link Method}s
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private TestServer() {}
+	
+	/**
+	 * {@link Method} to install the {@link Proxy} of the {@link Server} in {@link Bukkit}, nothing
+	 * happens if a {@link Server} is already installed
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static synchronized void install() {
+		if (Bukkit.getServer() != null) return;
+		
+		BukkitTask task = stub(BukkitTask.class, (method, arguments) -> null);
+		BukkitScheduler scheduler = stub(BukkitScheduler.class, (method, arguments) -> {
+			if (method.getName().startsWith("runTask") && arguments[1] instanceof Runnable) {
+				TASKS.add((Runnable) arguments[1]);
+				return task;
+			}
+			return null;
+		});
+		Bukkit.setServer(stub(Server.class, (method, arguments) -> {
+			switch (method.getName()) {
+				case "getLogger":
+					return Logger.getLogger(TestServer.class.getName());
+				case "getName":
+				case "getVersion":
+				case "getBukkitVersion":
+					return TestServer.class.getSimpleName();
+				case "getScheduler":
+					return scheduler;
+				case "getWorldContainer":
+					return worldContainer;
+				default:
+					return null;
+			}
+		}));
+	}
+	
+	/**
+	 * {@link Method} to set the {@link World} container of the {@link Server}, by default the
+	 * temporary folder of the system
+	 * 
+	 * @param folder The new {@link World} container
+	 * 
+	 * @throws IllegalArgumentException If the given folder is null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static void setWorldContainer(@NotNull File folder) {
+		if (folder == null) {
+			throw new IllegalArgumentException("Folder cannot be null");
+		}
+		worldContainer = folder;
+	}
+	
+	/**
+	 * Get the last task given to the {@link BukkitScheduler}
+	 * 
+	 * @return The last scheduled task
+	 * 
+	 * @throws IllegalStateException If no task has been scheduled
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public static synchronized Runnable getLastTask() {
+		if (TASKS.isEmpty()) {
+			throw new IllegalStateException("No task has been scheduled");
+		}
+		return TASKS.get(TASKS.size() - 1);
+	}
+	
+	/**
+	 * {@link Method} to create a {@link Proxy} of an interface, the {@link Object}
+	 * {@link Method}s use the identity of the {@link Proxy} and the {@link Method}s that
+	 * {@link Answer} null with a primitive return type return its default value
+	 * 
+	 * @param type The interface to implement
+	 * @param answer The {@link Answer} of the other {@link Method}s
+	 * 
+	 * @return The created {@link Proxy}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@NotNull
+	public static <T> T stub(@NotNull Class<T> type, @NotNull Answer answer) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, arguments) -> {
+					switch (method.getName()) {
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == arguments[0];
+						case "toString":
+							return type.getSimpleName();
+						default:
+							Object result = answer.answer(method, arguments);
+							return result != null ? result : getDefault(method.getReturnType());
+					}
+				}));
+	}
+	
+	/**
+	 * Internal {@link Method} to get the default value of a return type
+	 * 
+	 * @param type The return type
+	 * 
+	 * @return The default value of the given primitive type, or null
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Nullable
+	private static Object getDefault(@NotNull Class<?> type) {
+		if (!type.isPrimitive() || type == void.class) return null;
+		
+		if (type == boolean.class) return false;
+		
+		if (type == char.class) return '\0';
+		
+		if (type == float.class) return 0F;
+		
+		if (type == double.class) return 0D;
+		
+		if (type == long.class) return 0L;
+		
+		if (type == byte.class) return (byte) 0;
+		
+		if (type == short.class) return (short) 0;
+		
+		return 0;
+	}
+	
+	/**
+	 * {@link FunctionalInterface} of the answers of a {@link Proxy}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@FunctionalInterface
+	public interface Answer {
+		
+		/**
+		 * {@link Method} to answer a call
+		 * 
+		 * @param method The called {@link Method}
+		 * @param arguments The arguments of the call, null if there are none
+		 * 
+		 * @return The result of the call, or null for the default value
+		 * 
+		 * @throws Throwable If the call fails
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		@Nullable
+		Object answer(@NotNull Method method, @Nullable Object[] arguments) throws Throwable;
+	}
+}
\ No newline at end of file
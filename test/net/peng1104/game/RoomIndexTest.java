@@ -0,0 +1,253 @@
+package net.peng1104.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import net.peng1104.storage.game.enums.GameType;
+import net.peng1104.storage.game.enums.RoomState;
+
+/**
+ * Tests of the {@link RoomIndex}, the indexed {@link Room}s only keep their state, slots and
+ * amount of players so no server is needed
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class RoomIndexTest {
+	
+	/**
+	 * The {@link RoomIndex} being tested
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private RoomIndex index;
+	
+	@Before
+	public void setUp() {
+		index = new RoomIndex();
+	}
+	
+	@Test
+	public void filtersByTypeStateAndPrivacy() {
+		FakeRoom murder = add(new FakeRoom(1, GameType.MURDER, RoomState.WAITING, 12, 0));
+		FakeRoom lava = add(new FakeRoom(2, GameType.LAVAFLOOR, RoomState.WAITING, 12, 0));
+		FakeRoom playing = add(new FakeRoom(3, GameType.MURDER, RoomState.PLAYING, 12, 0));
+		FakeRoom owned = add(new FakeRoom(4, GameType.MURDER, UUID.randomUUID(),
+				RoomState.WAITING, 12, 0));
+		
+		assertEquals(4, index.size());
+		assertEquals(Arrays.asList(murder, owned), index.query(new RoomQuery()
+				.setGameType(GameType.MURDER).setState(RoomState.WAITING), 0, 10));
+		assertEquals(Arrays.asList(murder), index.query(new RoomQuery()
+				.setGameType(GameType.MURDER).setState(RoomState.WAITING).setPrivate(false), 0,
+				10));
+		assertEquals(Arrays.asList(owned), index.query(new RoomQuery().setPrivate(true), 0, 10));
+		assertEquals(Arrays.asList(playing), index.query(new RoomQuery()
+				.setState(RoomState.PLAYING), 0, 10));
+		assertEquals(Arrays.asList(lava), index.query(new RoomQuery()
+				.setGameType(GameType.LAVAFLOOR), 0, 10));
+	}
+	
+	@Test
+	public void ordersByFreeSlotsAndSkipsFullerRooms() {
+		FakeRoom empty = add(new FakeRoom(1, GameType.MURDER, RoomState.WAITING, 12, 0));
+		FakeRoom half = add(new FakeRoom(2, GameType.MURDER, RoomState.WAITING, 12, 6));
+		FakeRoom full = add(new FakeRoom(3, GameType.MURDER, RoomState.WAITING, 12, 12));
+		FakeRoom almost = add(new FakeRoom(4, GameType.MURDER, RoomState.WAITING, 12, 11));
+		
+		assertEquals(Arrays.asList(full, almost, half, empty), index.query(new RoomQuery(), 0,
+				10));
+		assertEquals(Arrays.asList(half, empty), index.query(new RoomQuery()
+				.setMinFreeSlots(2), 0, 10));
+	}
+	
+	@Test
+	public void updatesMovedRooms() {
+		FakeRoom room = add(new FakeRoom(1, GameType.MURDER, RoomState.WAITING, 12, 0));
+		RoomQuery waiting = new RoomQuery().setState(RoomState.WAITING);
+		
+		room.players = 12;
+		index.update(room);
+		
+		assertEquals(Arrays.asList(room), index.query(waiting, 0, 10));
+		assertTrue(index.query(new RoomQuery().setMinFreeSlots(1), 0, 10).isEmpty());
+		
+		room.state = RoomState.PLAYING;
+		index.update(room);
+		
+		assertTrue(index.query(waiting, 0, 10).isEmpty());
+		assertEquals(1, index.size());
+		
+		index.remove(room);
+		
+		assertTrue(index.query(new RoomQuery(), 0, 10).isEmpty());
+		assertEquals(0, index.size());
+	}
+	
+	@Test
+	public void ignoresUpdatesOfRoomsNotIndexed() {
+		index.update(new FakeRoom(1, GameType.MURDER, RoomState.WAITING, 12, 0));
+		
+		assertEquals(0, index.size());
+	}
+	
+	@Test
+	public void pagesAcrossBucketsWithoutRepeats() {
+		List<Room> rooms = new ArrayList<>();
+		
+		for (int i = 0; i < 25; i++) {
+			rooms.add(add(new FakeRoom(i + 1, GameType.values()[i % 3], RoomState.WAITING, 12,
+					i % 4)));
+		}
+		List<Room> pages = new ArrayList<>();
+		RoomQuery query = new RoomQuery();
+		
+		for (int page = 0; page < 5; page++) {
+			List<Room> result = index.query(query, page, 7);
+			
+			assertTrue(result.size() <= 7);
+			pages.addAll(result);
+		}
+		assertEquals(25, pages.size());
+		assertTrue(pages.containsAll(rooms));
+		
+		for (int i = 1; i < pages.size(); i++) {
+			assertTrue(free(pages.get(i - 1)) <= free(pages.get(i)));
+		}
+		assertTrue(index.query(query, -1, 7).isEmpty());
+		assertTrue(index.query(query, 0, 0).isEmpty());
+	}
+	
+	/**
+	 * Internal method to add a {@link Room} to the {@link #index}
+	 * 
+	 * @param room The {@link Room} to add
+	 * 
+	 * @return The given {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private FakeRoom add(FakeRoom room) {
+		index.add(room);
+		return room;
+	}
+	
+	/**
+	 * Internal method to get the free slots of a {@link Room}
+	 * 
+	 * @param room The {@link Room}
+	 * 
+	 * @return The amount of free slots of the given {@link Room}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static int free(Room room) {
+		return room.getSlots() - room.getPlayersAmount();
+	}
+	
+	/**
+	 * {@link Room} whose state, slots and amount of players are set by the tests
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class FakeRoom extends Room {
+		
+		/**
+		 * The {@link RoomState} of this {@link FakeRoom}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private RoomState state;
+		
+		/**
+		 * The amount of slots of this {@link FakeRoom}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private int slots;
+		
+		/**
+		 * The amount of players in this {@link FakeRoom}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private int players;
+		
+		/**
+		 * Create a new public {@link FakeRoom}
+		 * 
+		 * @param id The id of the {@link FakeRoom}
+		 * @param gameType The {@link GameType} of the {@link FakeRoom}
+		 * @param state The {@link RoomState} of the {@link FakeRoom}
+		 * @param slots The amount of slots of the {@link FakeRoom}
+		 * @param players The amount of players in the {@link FakeRoom}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private FakeRoom(int id, GameType gameType, RoomState state, int slots, int players) {
+			super(id, gameType);
+			
+			this.state = state;
+			this.slots = slots;
+			this.players = players;
+		}
+		
+		/**
+		 * Create a new private {@link FakeRoom}
+		 * 
+		 * @param id The id of the {@link FakeRoom}
+		 * @param gameType The {@link GameType} of the {@link FakeRoom}
+		 * @param owner The owner of the {@link FakeRoom}
+		 * @param state The {@link RoomState} of the {@link FakeRoom}
+		 * @param slots The amount of slots of the {@link FakeRoom}
+		 * @param players The amount of players in the {@link FakeRoom}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private FakeRoom(int id, GameType gameType, UUID owner, RoomState state, int slots,
+				int players) {
+			super(id, gameType, owner, "");
+			
+			this.state = state;
+			this.slots = slots;
+			this.players = players;
+		}
+		
+		@Override
+		public void resetRoom() {}
+		
+		@Override
+		public RoomState getState() {
+			return state;
+		}
+		
+		@Override
+		public int getSlots() {
+			return slots;
+		}
+		
+		@Override
+		public int getPlayersAmount() {
+			return players;
+		}
+	}
+}
\ No newline at end of file
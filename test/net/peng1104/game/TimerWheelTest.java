@@ -0,0 +1,232 @@
+package net.peng1104.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import net.peng1104.TestServer;
+
+/**
+ * Tests of the {@link TimerWheel} and its {@link WheelTimer}s, the ticks of the
+ * {@link TimerWheel} are run by hand through its scheduled task
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class TimerWheelTest {
+	
+	/**
+	 * The {@link TimerWheel} being tested
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private TimerWheel wheel;
+	
+	/**
+	 * The scheduled task of the {@link #wheel}, each run is one tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Runnable tick;
+	
+	@Before
+	public void setUp() {
+		TestServer.install();
+		
+		wheel = new TimerWheel();
+		tick = TestServer.getLastTask();
+	}
+	
+	@Test
+	public void loopsEverySecondAndExecutesAtTheEnd() {
+		Probe probe = new Probe(wheel, 3, true);
+		
+		probe.start();
+		run(2);
+		
+		assertEquals(2, probe.loops.size());
+		assertEquals(Long.valueOf(2), probe.loops.get(0));
+		assertEquals(Long.valueOf(1), probe.loops.get(1));
+		assertEquals(-1, probe.executedAt);
+		
+		run(1);
+		
+		assertEquals(3, probe.executedAt);
+		assertFalse(probe.isRunning());
+		assertEquals(0, wheel.getSize());
+	}
+	
+	@Test
+	public void executesLongTimersAtTheirExactTick() {
+		Probe probe = new Probe(wheel, 5000, false);
+		
+		probe.start();
+		run(4999);
+		
+		assertEquals(-1, probe.executedAt);
+		assertTrue(probe.loops.isEmpty());
+		
+		run(1);
+		
+		assertEquals(5000, probe.executedAt);
+	}
+	
+	@Test
+	public void executesManyTimersAtTheirExactTicks() {
+		Random random = new Random(1104);
+		List<Probe> probes = new ArrayList<>();
+		
+		for (int i = 0; i < 500; i++) {
+			Probe probe = new Probe(wheel, 1 + random.nextInt(20000), random.nextBoolean());
+			
+			probe.start();
+			probes.add(probe);
+		}
+		assertEquals(500, wheel.getSize());
+		
+		run(20000);
+		
+		for (Probe probe : probes) {
+			assertEquals(probe.time, probe.executedAt);
+		}
+		assertEquals(0, wheel.getSize());
+	}
+	
+	@Test
+	public void cancelledTimersNeverExecute() {
+		Probe probe = new Probe(wheel, 100, false);
+		
+		probe.start();
+		run(50);
+		probe.cancel();
+		run(100);
+		
+		assertEquals(-1, probe.executedAt);
+		assertEquals(0, wheel.getSize());
+	}
+	
+	@Test
+	public void pausedTimersKeepTheirCount() {
+		Probe probe = new Probe(wheel, 10, false);
+		
+		probe.start();
+		run(4);
+		probe.setPaused(true);
+		run(100);
+		
+		assertEquals(6, probe.getCount());
+		assertEquals(-1, probe.executedAt);
+		
+		probe.setPaused(false);
+		run(6);
+		
+		assertEquals(110, probe.executedAt);
+	}
+	
+	/**
+	 * Internal method to run some ticks of the {@link #wheel}
+	 * 
+	 * @param ticks The amount of ticks to run
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private void run(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			tick.run();
+		}
+	}
+	
+	/**
+	 * {@link WheelTimer} that keeps the counts of its loops and the tick it was executed at
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Probe extends WheelTimer {
+		
+		/**
+		 * The {@link TimerWheel} of this {@link Probe}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final TimerWheel wheel;
+		
+		/**
+		 * The time of this {@link Probe} in seconds
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final long time;
+		
+		/**
+		 * If this {@link Probe} loops every second or only wakes at the end
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final boolean loop;
+		
+		/**
+		 * The counts of the loops of this {@link Probe}
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final List<Long> loops = new ArrayList<>();
+		
+		/**
+		 * The tick this {@link Probe} was executed at, or -1
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private long executedAt = -1;
+		
+		/**
+		 * Create a new {@link Probe}
+		 * 
+		 * @param wheel The {@link TimerWheel} of the {@link Probe}
+		 * @param time The time of the {@link Probe} in seconds
+		 * @param loop True to loop every second, false to only wake at the end
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Probe(TimerWheel wheel, long time, boolean loop) {
+			super(wheel, time);
+			
+			this.wheel = wheel;
+			this.time = time;
+			this.loop = loop;
+		}
+		
+		@Override
+		public void onLoop() {
+			loops.add(getCount());
+		}
+		
+		@Override
+		public void execute() {
+			executedAt = wheel.getTick();
+		}
+		
+		@Override
+		protected long nextLoop(long count) {
+			return loop ? count - 1 : 0;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package net.peng1104.game;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the {@link UUIDSet} against a {@link HashSet} of {@link UUID}s, with the size of
+ * the players of a {@link Room} and of a long ban list, each operation looks up 256
+ * {@link UUID}s, half of them in the set, or removes and adds back 256 of them
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=net.peng1104.game.UUIDSetBenchmark
+ * </pre>
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UUIDSetBenchmark {
+	
+	/**
+	 * The amount of {@link UUID}s used by each operation
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int OPERATIONS = 256;
+	
+	/**
+	 * The amount of {@link UUID}s in the sets
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Param({ "16", "1024" })
+	public int size;
+	
+	/**
+	 * The {@link UUIDSet} being measured
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final UUIDSet uuidSet = new UUIDSet();
+	
+	/**
+	 * The {@link HashSet} with the same {@link UUID}s, as without the {@link UUIDSet}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Set<UUID> hashSet = new HashSet<>();
+	
+	/**
+	 * The looked up {@link UUID}s, the even ones are in the sets
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final UUID[] lookups = new UUID[OPERATIONS];
+	
+	/**
+	 * The {@link UUID}s removed and added back, all of them are in the sets
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final UUID[] churn = new UUID[OPERATIONS];
+	
+	/**
+	 * {@link Method} to fill the sets and prepare the {@link UUID}s of the operations
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(1104);
+		UUID[] members = new UUID[size];
+		
+		for (int i = 0; i < size; i++) {
+			members[i] = new UUID(random.nextLong(), random.nextLong());
+			uuidSet.add(members[i]);
+			hashSet.add(members[i]);
+		}
+		for (int i = 0; i < OPERATIONS; i++) {
+			UUID member = members[random.nextInt(size)];
+			
+			lookups[i] = i % 2 == 0 ? new UUID(member.getMostSignificantBits(),
+					member.getLeastSignificantBits()) : new UUID(random.nextLong(),
+							random.nextLong());
+			churn[i] = members[random.nextInt(size)];
+		}
+	}
+	
+	/**
+	 * The lookups in the {@link UUIDSet}
+	 * 
+	 * @param blackhole The {@link Blackhole} of the results
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void uuidSetContains(Blackhole blackhole) {
+		for (UUID uuid : lookups) {
+			blackhole.consume(uuidSet.contains(uuid));
+		}
+	}
+	
+	/**
+	 * The lookups in the {@link HashSet}
+	 * 
+	 * @param blackhole The {@link Blackhole} of the results
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void hashSetContains(Blackhole blackhole) {
+		for (UUID uuid : lookups) {
+			blackhole.consume(hashSet.contains(uuid));
+		}
+	}
+	
+	/**
+	 * The removals and additions in the {@link UUIDSet}
+	 * 
+	 * @param blackhole The {@link Blackhole} of the results
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void uuidSetChurn(Blackhole blackhole) {
+		for (UUID uuid : churn) {
+			blackhole.consume(uuidSet.remove(uuid));
+			blackhole.consume(uuidSet.add(uuid));
+		}
+	}
+	
+	/**
+	 * The removals and additions in the {@link HashSet}
+	 * 
+	 * @param blackhole The {@link Blackhole} of the results
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void hashSetChurn(Blackhole blackhole) {
+		for (UUID uuid : churn) {
+			blackhole.consume(hashSet.remove(uuid));
+			blackhole.consume(hashSet.add(uuid));
+		}
+	}
+	
+	/**
+	 * {@link Method} to run this benchmark
+	 * 
+	 * @param arguments The arguments of the command line, not used
+	 * 
+	 * @throws RunnerException If the benchmark could not be run
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static void main(String[] arguments) throws RunnerException {
+		new Runner(new OptionsBuilder().include(UUIDSetBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,283 @@
+package net.peng1104.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Tests of the {@link UUIDSet}, checked against a {@link HashSet} of the same {@link UUID}s
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class UUIDSetTest {
+	
+	@Test
+	public void addsContainsAndRemoves() {
+		UUIDSet set = new UUIDSet();
+		UUID uuid = UUID.randomUUID();
+		
+		assertTrue(set.add(uuid));
+		assertFalse(set.add(new UUID(uuid.getMostSignificantBits(),
+				uuid.getLeastSignificantBits())));
+		assertTrue(set.contains(uuid));
+		assertTrue(set.contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+		assertFalse(set.contains(UUID.randomUUID()));
+		assertFalse(set.contains("not an uuid"));
+		assertEquals(1, set.size());
+		
+		assertTrue(set.remove(uuid));
+		assertFalse(set.remove(uuid));
+		assertFalse(set.contains(uuid));
+		assertTrue(set.isEmpty());
+	}
+	
+	@Test
+	public void keepsTheNilUUID() {
+		UUIDSet set = new UUIDSet();
+		UUID nil = new UUID(0, 0);
+		
+		assertFalse(set.contains(nil));
+		assertTrue(set.add(nil));
+		assertFalse(set.add(0, 0));
+		assertTrue(set.contains(nil));
+		assertEquals(1, set.size());
+		assertEquals(nil, set.iterator().next());
+		
+		assertTrue(set.remove(0, 0));
+		assertFalse(set.contains(nil));
+		assertEquals(0, set.size());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNull() {
+		new UUIDSet().add(null);
+	}
+	
+	@Test
+	public void matchesAHashSet() {
+		Random random = new Random(1104);
+		UUIDSet set = new UUIDSet();
+		Set<UUID> expected = new HashSet<>();
+		List<UUID> pool = new ArrayList<>();
+		
+		pool.add(new UUID(0, 0));
+		
+		for (int i = 0; i < 300; i++) {
+			pool.add(UUID.randomUUID());
+		}
+		for (int i = 0; i < 100; i++) {
+			long mostBits = random.nextLong();
+			long leastBits = random.nextLong();
+			
+			pool.add(new UUID(mostBits, leastBits));
+			pool.add(new UUID(mostBits ^ i, leastBits ^ i));
+		}
+		for (int i = 0; i < 50000; i++) {
+			UUID uuid = pool.get(random.nextInt(pool.size()));
+			
+			switch (random.nextInt(3)) {
+				case 0:
+					assertEquals(expected.add(uuid), set.add(uuid));
+					break;
+				case 1:
+					assertEquals(expected.remove(uuid), set.remove(uuid));
+					break;
+				default:
+					assertEquals(expected.contains(uuid), set.contains(uuid));
+			}
+			assertEquals(expected.size(), set.size());
+			
+			if (i % 5000 == 0) {
+				assertEquals(expected, copy(set));
+			}
+		}
+		assertEquals(expected, copy(set));
+		assertEquals(expected, set);
+	}
+	
+	@Test
+	public void visitsEveryUUIDOnce() {
+		UUIDSet set = new UUIDSet();
+		Set<UUID> expected = new HashSet<>();
+		
+		for (int i = 0; i < 100; i++) {
+			UUID uuid = UUID.randomUUID();
+			
+			set.add(uuid);
+			expected.add(uuid);
+		}
+		set.add(0, 0);
+		expected.add(new UUID(0, 0));
+		
+		Set<UUID> visited = new HashSet<>();
+		
+		set.forEach((mostBits, leastBits) -> assertTrue(visited.add(new UUID(mostBits,
+				leastBits))));
+		
+		assertEquals(expected, visited);
+	}
+	
+	@Test
+	public void clearsAndGrowsAgain() {
+		UUIDSet set = new UUIDSet();
+		
+		for (int i = 0; i < 1000; i++) {
+			set.add(UUID.randomUUID());
+		}
+		set.add(0, 0);
+		set.clear();
+		
+		assertEquals(0, set.size());
+		assertFalse(set.iterator().hasNext());
+		
+		for (int i = 0; i < 10; i++) {
+			assertTrue(set.add(i + 1, i));
+		}
+		assertEquals(10, set.size());
+	}
+	
+	@Test
+	public void removesThroughTheIterator() {
+		Random random = new Random(1104);
+		
+		for (int round = 0; round < 200; round++) {
+			UUIDSet set = new UUIDSet();
+			Set<UUID> expected = new HashSet<>();
+			
+			for (int i = random.nextInt(100); i >= 0; i--) {
+				UUID uuid = new UUID(random.nextInt(4) == 0 ? 0 : random.nextLong(),
+						random.nextInt(64));
+				
+				set.add(uuid);
+				expected.add(uuid);
+			}
+			Set<UUID> visited = new HashSet<>();
+			
+			for (Iterator<UUID> iterator = set.iterator(); iterator.hasNext();) {
+				UUID uuid = iterator.next();
+				
+				assertTrue(visited.add(uuid));
+				
+				if (random.nextBoolean()) {
+					iterator.remove();
+					expected.remove(uuid);
+				}
+			}
+			assertEquals(expected.size(), set.size());
+			assertEquals(expected, copy(set));
+			
+			for (UUID uuid : visited) {
+				assertEquals(expected.contains(uuid), set.contains(uuid));
+			}
+		}
+	}
+	
+	@Test
+	public void supportsTheInheritedBulkRemovals() {
+		UUIDSet set = new UUIDSet();
+		List<UUID> uuids = new ArrayList<>();
+		
+		for (int i = 0; i < 200; i++) {
+			UUID uuid = UUID.randomUUID();
+			
+			uuids.add(uuid);
+			set.add(uuid);
+		}
+		set.add(0, 0);
+		
+		Set<UUID> kept = new HashSet<>(uuids.subList(0, 100));
+		
+		assertTrue(set.retainAll(kept));
+		assertEquals(kept, copy(set));
+		
+		assertTrue(set.removeIf(uuid -> uuid.getLeastSignificantBits() % 2 == 0));
+		kept.removeIf(uuid -> uuid.getLeastSignificantBits() % 2 == 0);
+		assertEquals(kept, copy(set));
+		
+		assertTrue(set.removeAll(uuids.subList(0, 50)));
+		kept.removeAll(uuids.subList(0, 50));
+		assertEquals(kept, copy(set));
+		assertFalse(set.removeAll(uuids.subList(0, 50)));
+		
+		try {
+			set.iterator().remove();
+			fail("The iterator removed before returning an UUID");
+		}
+		catch (IllegalStateException exception) {
+			// Expected
+		}
+	}
+	
+	@Test
+	public void failsFastOnChanges() {
+		UUIDSet set = new UUIDSet();
+		
+		set.add(UUID.randomUUID());
+		set.add(UUID.randomUUID());
+		
+		Iterator<UUID> iterator = set.iterator();
+		
+		set.add(UUID.randomUUID());
+		
+		try {
+			iterator.next();
+			fail("The iterator did not fail after a change");
+		}
+		catch (ConcurrentModificationException exception) {
+			// Expected
+		}
+		try {
+			set.forEach((mostBits, leastBits) -> set.add(UUID.randomUUID()));
+			fail("The visitor did not fail after a change");
+		}
+		catch (ConcurrentModificationException exception) {
+			// Expected
+		}
+		Iterator<UUID> empty = new UUIDSet().iterator();
+		
+		try {
+			empty.next();
+			fail("The iterator did not fail after the last UUID");
+		}
+		catch (NoSuchElementException exception) {
+			// Expected
+		}
+	}
+	
+	/**
+	 * Internal method to copy a {@link UUIDSet} through its {@link Iterator}
+	 * 
+	 * @param set The {@link UUIDSet} to copy
+	 * 
+	 * @return A {@link HashSet} with the iterated {@link UUID}s
+	 * 
+	 * @throws AssertionError If a {@link UUID} is iterated twice
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static Set<UUID> copy(UUIDSet set) {
+		Set<UUID> copy = new HashSet<>();
+		
+		for (UUID uuid : set) {
+			assertTrue(copy.add(uuid));
+		}
+		return copy;
+	}
+}
\ No newline at end of file
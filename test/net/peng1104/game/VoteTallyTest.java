@@ -0,0 +1,169 @@
+package net.peng1104.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the {@link VoteTally}
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class VoteTallyTest {
+	
+	/**
+	 * The {@link VoteTally} being tested
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private VoteTally tally;
+	
+	@Before
+	public void setUp() {
+		tally = new VoteTally();
+	}
+	
+	@Test
+	public void addsEachOptionOnce() {
+		assertTrue(tally.addOption("Mansao"));
+		assertTrue(tally.addOption("Navio"));
+		assertFalse(tally.addOption("Mansao"));
+		assertFalse(tally.addOption(null));
+		
+		assertEquals(2, tally.getOptionsAmount());
+		assertEquals(Arrays.asList("Mansao", "Navio"), Arrays.asList(tally.getOptions()
+				.toArray()));
+		assertTrue(tally.hasOption("Navio"));
+		assertFalse(tally.hasOption("Castelo"));
+	}
+	
+	@Test
+	public void movesAndRetractsVotes() {
+		UUID uuid = UUID.randomUUID();
+		
+		tally.addOption("Mansao");
+		tally.addOption("Navio");
+		
+		assertFalse(tally.vote(uuid, "Castelo"));
+		assertTrue(tally.vote(uuid, "Mansao"));
+		assertFalse(tally.vote(uuid, "Mansao"));
+		assertEquals("Mansao", tally.getVote(uuid));
+		assertEquals(1, tally.getVotes("Mansao"));
+		
+		assertTrue(tally.vote(uuid, "Navio"));
+		assertEquals(0, tally.getVotes("Mansao"));
+		assertEquals(1, tally.getVotes("Navio"));
+		assertEquals("Navio", tally.getLeader());
+		
+		assertTrue(tally.retract(uuid));
+		assertFalse(tally.retract(uuid));
+		assertNull(tally.getVote(uuid));
+		assertEquals(0, tally.getVotes("Navio"));
+		assertEquals("Mansao", tally.getLeader());
+	}
+	
+	@Test
+	public void tiesAreWonByTheFirstToReachTheVotes() {
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		
+		assertNull(tally.getLeader());
+		
+		tally.addOption("Mansao");
+		tally.addOption("Navio");
+		tally.vote(first, "Navio");
+		tally.vote(second, "Mansao");
+		
+		assertEquals("Navio", tally.getLeader());
+		
+		tally.vote(first, "Mansao");
+		
+		assertEquals("Mansao", tally.getLeader());
+		assertEquals(2, tally.getVotes("Mansao"));
+	}
+	
+	@Test
+	public void changesTheVersionOnlyOnChanges() {
+		UUID uuid = UUID.randomUUID();
+		
+		tally.addOption("Mansao");
+		
+		long version = tally.getVersion();
+		
+		tally.vote(uuid, "Mansao");
+		
+		assertTrue(tally.getVersion() > version);
+		
+		version = tally.getVersion();
+		tally.vote(uuid, "Mansao");
+		tally.addOption("Mansao");
+		tally.retract(UUID.randomUUID());
+		
+		assertEquals(version, tally.getVersion());
+		
+		tally.clear();
+		
+		assertTrue(tally.getVersion() > version);
+		assertEquals(0, tally.getOptionsAmount());
+		assertNull(tally.getVote(uuid));
+		assertNull(tally.getLeader());
+	}
+	
+	@Test
+	public void matchesACountOfEveryVote() {
+		Random random = new Random(1104);
+		String[] options = { "Mansao", "Navio", "Castelo", "Hospital", "Escola" };
+		UUID[] players = new UUID[24];
+		Map<UUID, String> votes = new HashMap<>();
+		
+		for (String option : options) {
+			tally.addOption(option);
+		}
+		for (int i = 0; i < players.length; i++) {
+			players[i] = UUID.randomUUID();
+		}
+		for (int i = 0; i < 5000; i++) {
+			UUID player = players[random.nextInt(players.length)];
+			
+			if (random.nextInt(4) == 0) {
+				tally.retract(player);
+				votes.remove(player);
+			}
+			else {
+				String option = options[random.nextInt(options.length)];
+				
+				tally.vote(player, option);
+				votes.put(player, option);
+			}
+			int max = 0;
+			
+			for (String option : options) {
+				int count = 0;
+				
+				for (String vote : votes.values()) {
+					if (vote.equals(option)) {
+						count++;
+					}
+				}
+				assertEquals(count, tally.getVotes(option));
+				assertEquals(Integer.valueOf(count), tally.getSnapshot().get(option));
+				max = Math.max(max, count);
+			}
+			assertEquals(max, tally.getVotes(tally.getLeader()));
+		}
+	}
+}
\ No newline at end of file
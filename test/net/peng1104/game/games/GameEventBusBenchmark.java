@@ -0,0 +1,236 @@
+package net.peng1104.game.games;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.bukkit.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.peng1104.game.games.events.GameEventType;
+import net.peng1104.game.games.events.TimerEvent;
+
+/**
+ * Benchmark of the {@link GameEventBus} posting the {@link TimerEvent}s of a second of many
+ * {@link Game}s, against a dispatch like the one of the Bukkit {@link Event}s, where a new event
+ * is created for each post and its handlers are looked up by {@link Class}
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=net.peng1104.game.games.GameEventBusBenchmark
+ * </pre>
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEventBusBenchmark {
+	
+	/**
+	 * The amount of events posted by each operation
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int POSTS = 1000;
+	
+	/**
+	 * The name of the posted timer
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String TIMER = "Partida";
+	
+	/**
+	 * The amount of handlers of the events
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Param({ "1", "4" })
+	public int handlers;
+	
+	/**
+	 * The {@link GameEventBus} being measured
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameEventBus bus = new GameEventBus();
+	
+	/**
+	 * A {@link GameEventBus} without handlers
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final GameEventBus emptyBus = new GameEventBus();
+	
+	/**
+	 * The handlers of the baseline by event {@link Class}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Map<Class<?>, List<Consumer<Object>>> baseline = new HashMap<>();
+	
+	/**
+	 * The sum of the remaining seconds seen by the handlers, so they are not optimized away
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private long seen = 0;
+	
+	/**
+	 * {@link Method} to register the handlers in the {@link GameEventBus} and in the baseline
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Setup
+	public void setup() {
+		List<Consumer<Object>> registered = new ArrayList<>();
+		
+		for (int i = 0; i < handlers; i++) {
+			bus.register(GameEventType.TIMER, event -> seen += event.getRemaining());
+			registered.add(event -> seen += ((Tick) event).remaining);
+		}
+		baseline.put(Tick.class, registered);
+	}
+	
+	/**
+	 * The events posted to the {@link GameEventBus}
+	 * 
+	 * @return The sum of the remaining seconds seen by the handlers
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public long bus() {
+		for (int i = 0; i < POSTS; i++) {
+			bus.post(GameEventType.TIMER, bus.acquire(GameEventType.TIMER).set(TIMER, i));
+		}
+		return seen;
+	}
+	
+	/**
+	 * The events posted to a {@link GameEventBus} without handlers
+	 * 
+	 * @return The sum of the remaining seconds seen by the handlers
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public long emptyBus() {
+		for (int i = 0; i < POSTS; i++) {
+			emptyBus.post(GameEventType.TIMER, emptyBus.acquire(GameEventType.TIMER).set(TIMER,
+					i));
+		}
+		return seen;
+	}
+	
+	/**
+	 * The events posted like the Bukkit {@link Event}s, as without the {@link GameEventBus}
+	 * 
+	 * @return The sum of the remaining seconds seen by the handlers
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public long baseline() {
+		for (int i = 0; i < POSTS; i++) {
+			Tick event = new Tick(TIMER, i);
+			List<Consumer<Object>> registered = baseline.get(event.getClass());
+			
+			if (registered != null) {
+				for (Consumer<Object> handler : registered) {
+					handler.accept(event);
+				}
+			}
+		}
+		return seen;
+	}
+	
+	/**
+	 * {@link Method} to run this benchmark
+	 * 
+	 * @param arguments The arguments of the command line, not used
+	 * 
+	 * @throws RunnerException If the benchmark could not be run
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static void main(String[] arguments) throws RunnerException {
+		new Runner(new OptionsBuilder().include(GameEventBusBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+	
+	/**
+	 * The event of the baseline, with the same fields of a {@link TimerEvent}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final class Tick {
+		
+		/**
+		 * The name of the timer
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final String timer;
+		
+		/**
+		 * The remaining seconds of the timer
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private final int remaining;
+		
+		/**
+		 * Create a new {@link Tick}
+		 * 
+		 * @param timer The name of the timer
+		 * @param remaining The remaining seconds of the timer
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		private Tick(String timer, int remaining) {
+			this.timer = timer;
+			this.remaining = remaining;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package net.peng1104.game.games;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.peng1104.game.games.events.GameEventType;
+import net.peng1104.game.games.events.TimerEvent;
+
+/**
+ * Tests of the {@link GameEventBus} and the pooling of its events
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class GameEventBusTest {
+	
+	@Test
+	public void callsTheHandlersInOrder() {
+		GameEventBus bus = new GameEventBus();
+		List<String> calls = new ArrayList<>();
+		
+		bus.register(GameEventType.TIMER, event -> calls.add("first " + event.getRemaining()));
+		bus.register(GameEventType.TIMER, event -> calls.add("second " + event.getTimer()));
+		
+		assertTrue(bus.hasHandlers(GameEventType.TIMER));
+		assertFalse(bus.hasHandlers(GameEventType.KILL));
+		assertTrue(bus.post(GameEventType.TIMER, bus.acquire(GameEventType.TIMER).set("Partida",
+				30)));
+		
+		assertEquals(2, calls.size());
+		assertEquals("first 30", calls.get(0));
+		assertEquals("second Partida", calls.get(1));
+		assertEquals(1, bus.getPosted());
+	}
+	
+	@Test
+	public void returnsFalseForCancelledEvents() {
+		GameEventBus bus = new GameEventBus();
+		
+		bus.register(GameEventType.TIMER, event -> event.setCancelled(event.getRemaining() == 0));
+		
+		assertTrue(bus.post(GameEventType.TIMER, bus.acquire(GameEventType.TIMER).set("Partida",
+				1)));
+		assertFalse(bus.post(GameEventType.TIMER, bus.acquire(GameEventType.TIMER).set("Partida",
+				0)));
+	}
+	
+	@Test
+	public void releasesPostedEventsToThePool() {
+		GameEventBus bus = new GameEventBus();
+		TimerEvent event = bus.acquire(GameEventType.TIMER).set("Partida", 10);
+		
+		bus.register(GameEventType.TIMER, posted -> posted.setCancelled(true));
+		bus.post(GameEventType.TIMER, event);
+		
+		TimerEvent next = bus.acquire(GameEventType.TIMER);
+		
+		assertSame(event, next);
+		assertNull(next.getTimer());
+		assertEquals(0, next.getRemaining());
+		assertFalse(next.isCancelled());
+		
+		GameEventBus empty = new GameEventBus();
+		
+		assertTrue(empty.post(GameEventType.TIMER, next));
+		assertEquals(0, empty.getPosted());
+		assertSame(next, empty.acquire(GameEventType.TIMER));
+	}
+	
+	@Test
+	public void forgetsClearedHandlers() {
+		GameEventBus bus = new GameEventBus();
+		int[] calls = new int[1];
+		
+		bus.register(GameEventType.TIMER, event -> calls[0]++);
+		bus.clear();
+		
+		assertFalse(bus.hasHandlers(GameEventType.TIMER));
+		assertTrue(bus.post(GameEventType.TIMER, bus.acquire(GameEventType.TIMER).set("Partida",
+				5)));
+		assertEquals(0, calls[0]);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullHandlers() {
+		new GameEventBus().register(GameEventType.TIMER, null);
+	}
+}
\ No newline at end of file
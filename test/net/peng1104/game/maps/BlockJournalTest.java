@@ -0,0 +1,173 @@
+package net.peng1104.game.maps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.junit.Test;
+
+import net.peng1104.TestServer;
+import net.peng1104.storage.game.files.ArenaBounds;
+
+/**
+ * Tests of the {@link BlockJournal}, the restored {@link Block}s are
+ * {@link java.lang.reflect.Proxy}s that keep the type id and data set on them
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class BlockJournalTest {
+	
+	@Test
+	public void packsAndUnpacksCoordinates() {
+		int[][] coordinates = { { 0, 0, 0 }, { -1, 255, -1 }, { 1, 64, -1 },
+				{ 29999999, 0, -29999999 }, { -33554432, 4095, 33554431 }, { 33554431, 128,
+						-33554432 } };
+		
+		for (int[] coordinate : coordinates) {
+			long key = BlockJournal.pack(coordinate[0], coordinate[1], coordinate[2]);
+			
+			assertEquals(coordinate[0], BlockJournal.unpackX(key));
+			assertEquals(coordinate[1], BlockJournal.unpackY(key));
+			assertEquals(coordinate[2], BlockJournal.unpackZ(key));
+		}
+		Random random = new Random(1104);
+		
+		for (int i = 0; i < 10000; i++) {
+			int x = random.nextInt(60000000) - 30000000;
+			int y = random.nextInt(256);
+			int z = random.nextInt(60000000) - 30000000;
+			long key = BlockJournal.pack(x, y, z);
+			
+			assertEquals(x, BlockJournal.unpackX(key));
+			assertEquals(y, BlockJournal.unpackY(key));
+			assertEquals(z, BlockJournal.unpackZ(key));
+		}
+	}
+	
+	@Test
+	public void keepsTheFirstStateOfEachBlock() {
+		BlockJournal journal = new BlockJournal(null);
+		
+		assertTrue(journal.record(1, 64, -1, 1 << 4));
+		assertFalse(journal.record(1, 64, -1, 2 << 4));
+		assertTrue(journal.record(-1, 64, 1, 3 << 4 | 2));
+		assertEquals(2, journal.size());
+		
+		List<int[]> changes = new ArrayList<>();
+		
+		assertEquals(2, journal.restore(world(changes), 10));
+		assertEquals(0, journal.size());
+		assertEquals(2, changes.size());
+		assertChange(changes.get(0), -1, 64, 1, 3, 2);
+		assertChange(changes.get(1), 1, 64, -1, 1, 0);
+	}
+	
+	@Test
+	public void restoresInBatchesNewestFirst() {
+		BlockJournal journal = new BlockJournal(null);
+		
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(journal.record(i, i & 0xFF, -i, i << 4 | i & 0xF));
+		}
+		assertEquals(1000, journal.size());
+		
+		List<int[]> changes = new ArrayList<>();
+		World world = world(changes);
+		
+		assertEquals(300, journal.restore(world, 300));
+		assertEquals(700, journal.size());
+		assertFalse(journal.record(5000, 64, 5000, 0));
+		
+		assertEquals(700, journal.restore(world, 1000));
+		assertEquals(1000, changes.size());
+		
+		for (int i = 0; i < 1000; i++) {
+			int block = 999 - i;
+			
+			assertChange(changes.get(i), block, block & 0xFF, -block, block, block & 0xF);
+		}
+		assertTrue(journal.record(5000, 64, 5000, 0));
+	}
+	
+	@Test
+	public void forgetsClearedBlocks() {
+		BlockJournal journal = new BlockJournal(null);
+		
+		journal.record(0, 64, 0, 1 << 4);
+		journal.clear();
+		
+		assertEquals(0, journal.size());
+		assertEquals(0, journal.restore(world(new ArrayList<>()), 10));
+		assertTrue(journal.record(0, 64, 0, 2 << 4));
+	}
+	
+	@Test
+	public void acceptsOnlyTheBlocksInItsBounds() {
+		BlockJournal journal = new BlockJournal(new ArenaBounds(-10, 0, -10, 10, 100, 10));
+		
+		assertTrue(journal.accepts(-10, 0, 10));
+		assertFalse(journal.accepts(11, 50, 0));
+		assertFalse(journal.accepts(0, 101, 0));
+		assertTrue(new BlockJournal(null).accepts(1000000, 255, -1000000));
+	}
+	
+	/**
+	 * Internal method to assert a restored {@link Block}
+	 * 
+	 * @param change The coordinates, type id and data of the restored {@link Block}
+	 * @param x The expected x coordinate
+	 * @param y The expected y coordinate
+	 * @param z The expected z coordinate
+	 * @param type The expected type id
+	 * @param data The expected data
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void assertChange(int[] change, int x, int y, int z, int type, int data) {
+		assertEquals(x, change[0]);
+		assertEquals(y, change[1]);
+		assertEquals(z, change[2]);
+		assertEquals(type, change[3]);
+		assertEquals(data, change[4]);
+	}
+	
+	/**
+	 * Internal method to create a {@link World} that keeps the type id and data set on its
+	 * {@link Block}s
+	 * 
+	 * @param changes The {@link List} to add the coordinates, type id and data of each change
+	 * 
+	 * @return The {@link java.lang.reflect.Proxy} of the {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static World world(List<int[]> changes) {
+		return TestServer.stub(World.class, (method, arguments) -> {
+			if (!method.getName().equals("getBlockAt") || arguments.length != 3) return null;
+			
+			int x = (int) arguments[0];
+			int y = (int) arguments[1];
+			int z = (int) arguments[2];
+			
+			return TestServer.stub(Block.class, (blockMethod, blockArguments) -> {
+				if (blockMethod.getName().equals("setTypeIdAndData")) {
+					changes.add(new int[] { x, y, z, (int) blockArguments[0],
+							(byte) blockArguments[1] });
+					return true;
+				}
+				return null;
+			});
+		});
+	}
+}
\ No newline at end of file
@@ -0,0 +1,406 @@
+package net.peng1104.game.maps;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the {@link PlayerSpatialHash} with 64 {@link Player}s firing 5 shots per second
+ * in a 64 by 64 blocks arena, each operation is one second of a match, the 320 shots are also
+ * tested against every {@link Player} as a baseline, the {@link World} and the {@link Player}s
+ * are {@link Proxy}s so no server is needed
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=net.peng1104.game.maps.PlayerSpatialHashBenchmark
+ * </pre>
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerSpatialHashBenchmark {
+	
+	/**
+	 * The amount of {@link Player}s in the arena
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int PLAYERS = 64;
+	
+	/**
+	 * The amount of shots fired by each {@link Player} in a second
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int SHOTS_PER_SECOND = 5;
+	
+	/**
+	 * The amount of moves of each {@link Player} in a second, one per tick
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int MOVES_PER_SECOND = 20;
+	
+	/**
+	 * The size of each side of the arena in blocks
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int ARENA_SIZE = 64;
+	
+	/**
+	 * The range of a shot in blocks
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final double RANGE = 64;
+	
+	/**
+	 * The {@link PlayerSpatialHash} being measured
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private PlayerSpatialHash playerHash;
+	
+	/**
+	 * The {@link Player}s in the arena
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Player[] players = new Player[PLAYERS];
+	
+	/**
+	 * The feet positions of the {@link Player}s, x, y and z for each one
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final double[] positions = new double[PLAYERS * 3];
+	
+	/**
+	 * The shots of a second, the index of the shooter of each one
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final int[] shooters = new int[PLAYERS * SHOTS_PER_SECOND];
+	
+	/**
+	 * The origins of the shots of a second
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Vector[] origins = new Vector[shooters.length];
+	
+	/**
+	 * The directions of the shots of a second
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Vector[] directions = new Vector[shooters.length];
+	
+	/**
+	 * The {@link Location}s of the moves of a second
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private final Location[] moves = new Location[PLAYERS * MOVES_PER_SECOND];
+	
+	/**
+	 * {@link Method} to place the {@link Player}s and prepare the shots and moves of a second
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(1104);
+		World world = world();
+		
+		playerHash = new PlayerSpatialHash(world);
+		
+		for (int i = 0; i < PLAYERS; i++) {
+			players[i] = player();
+			positions[i * 3] = random.nextDouble() * ARENA_SIZE;
+			positions[i * 3 + 1] = 64;
+			positions[i * 3 + 2] = random.nextDouble() * ARENA_SIZE;
+			
+			playerHash.update(players[i], new Location(world, positions[i * 3],
+					positions[i * 3 + 1], positions[i * 3 + 2]));
+		}
+		for (int i = 0; i < shooters.length; i++) {
+			int shooter = random.nextInt(PLAYERS);
+			double angle = random.nextDouble() * Math.PI * 2;
+			
+			shooters[i] = shooter;
+			origins[i] = new Vector(positions[shooter * 3], positions[shooter * 3 + 1] + 1.62,
+					positions[shooter * 3 + 2]);
+			directions[i] = new Vector(Math.cos(angle), random.nextDouble() * 0.2 - 0.1,
+					Math.sin(angle));
+		}
+		for (int i = 0; i < moves.length; i++) {
+			int player = i % PLAYERS;
+			
+			moves[i] = new Location(world, positions[player * 3] + random.nextDouble() * 0.4
+					- 0.2, 64, positions[player * 3 + 2] + random.nextDouble() * 0.4 - 0.2);
+		}
+	}
+	
+	/**
+	 * The shots of a second tested by the {@link PlayerSpatialHash}
+	 * 
+	 * @param blackhole The {@link Blackhole} of the results
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void shots(Blackhole blackhole) {
+		for (int i = 0; i < shooters.length; i++) {
+			blackhole.consume(playerHash.raycast(origins[i], directions[i], RANGE,
+					players[shooters[i]]));
+		}
+	}
+	
+	/**
+	 * The shots of a second tested against every {@link Player}, as without the
+	 * {@link PlayerSpatialHash}
+	 * 
+	 * @param blackhole The {@link Blackhole} of the results
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void shotsAgainstEveryPlayer(Blackhole blackhole) {
+		for (int i = 0; i < shooters.length; i++) {
+			Vector direction = directions[i].clone().normalize();
+			Player closest = null;
+			double best = RANGE;
+			
+			for (int j = 0; j < PLAYERS; j++) {
+				if (j == shooters[i]) continue;
+				
+				double hit = intersect(j, origins[i], direction);
+				
+				if (hit >= 0 && hit < best) {
+					best = hit;
+					closest = players[j];
+				}
+			}
+			blackhole.consume(closest);
+		}
+	}
+	
+	/**
+	 * The moves of a second tracked by the {@link PlayerSpatialHash}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void moves() {
+		for (int i = 0; i < moves.length; i++) {
+			playerHash.update(players[i % PLAYERS], moves[i]);
+		}
+	}
+	
+	/**
+	 * {@link Method} to run this benchmark
+	 * 
+	 * @param arguments The arguments of the command line, not used
+	 * 
+	 * @throws RunnerException If the benchmark could not be run
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static void main(String[] arguments) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PlayerSpatialHashBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+	
+	/**
+	 * Internal {@link Method} to intersect a shot with the bounding box of a {@link Player}
+	 * 
+	 * @param player The index of the {@link Player}
+	 * @param origin The origin of the shot
+	 * @param direction The normalized direction of the shot
+	 * 
+	 * @return The distance where the shot enters the bounding box, or -1 if it misses it
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private double intersect(int player, Vector origin, Vector direction) {
+		double near = 0;
+		double far = Double.POSITIVE_INFINITY;
+		
+		for (int axis = 0; axis < 3; axis++) {
+			double position = positions[player * 3 + axis];
+			double min = axis == 1 ? position : position - 0.3;
+			double max = axis == 1 ? position + 1.8 : position + 0.3;
+			double start = axis == 0 ? origin.getX() : axis == 1 ? origin.getY() : origin.getZ();
+			double step = axis == 0 ? direction.getX() : axis == 1 ? direction.getY()
+					: direction.getZ();
+			
+			if (step == 0) {
+				if (start < min || start > max) return -1;
+				
+				continue;
+			}
+			double first = (min - start) / step;
+			double second = (max - start) / step;
+			
+			near = Math.max(near, Math.min(first, second));
+			far = Math.min(far, Math.max(first, second));
+			
+			if (near > far) return -1;
+		}
+		return near;
+	}
+	
+	/**
+	 * Internal {@link Method} to create a {@link World} whose {@link Block}s are all air
+	 * 
+	 * @return The {@link Proxy} of the {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static World world() {
+		Block air = stub(Block.class, (method, arguments) -> method.getName().equals("getType")
+				? Material.AIR : null);
+		
+		return stub(World.class, (method, arguments) -> {
+			switch (method.getName()) {
+				case "isChunkLoaded":
+					return true;
+				case "getBlockAt":
+					return air;
+				case "getMaxHeight":
+					return 256;
+				default:
+					return null;
+			}
+		});
+	}
+	
+	/**
+	 * Internal {@link Method} to create a living {@link Player} in {@link GameMode#SURVIVAL}
+	 * 
+	 * @return The {@link Proxy} of the {@link Player}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static Player player() {
+		UUID uuid = UUID.randomUUID();
+		
+		return stub(Player.class, (method, arguments) -> {
+			switch (method.getName()) {
+				case "getUniqueId":
+					return uuid;
+				case "isDead":
+					return false;
+				case "getGameMode":
+					return GameMode.SURVIVAL;
+				default:
+					return null;
+			}
+		});
+	}
+	
+	/**
+	 * Internal {@link Method} to create a {@link Proxy} of an interface, the {@link Object}
+	 * {@link Method}s use the identity of the {@link Proxy}
+	 * 
+	 * @param type The interface to implement
+	 * @param answer The answers of the other {@link Method}s
+	 * 
+	 * @return The created {@link Proxy}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static <T> T stub(Class<T> type, Answer answer) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, arguments) -> {
+					switch (method.getName()) {
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == arguments[0];
+						case "toString":
+							return type.getSimpleName();
+						default:
+							return answer.answer(method, arguments);
+					}
+				}));
+	}
+	
+	/**
+	 * {@link FunctionalInterface} of the answers of a {@link Proxy}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@FunctionalInterface
+	private interface Answer {
+		
+		/**
+		 * {@link Method} to answer a call
+		 * 
+		 * @param method The called {@link Method}
+		 * @param arguments The arguments of the call
+		 * 
+		 * @return The result of the call
+		 * 
+		 * @since 1.0.0
+		 */
+		
+		Object answer(Method method, Object[] arguments);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package net.peng1104.game.maps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bukkit.Location;
+import org.junit.Test;
+
+/**
+ * Tests of the {@link SpawnAllocator}, only the allocated indexes are tested since the
+ * {@link net.peng1104.profiles.Profile}s need a server
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class SpawnAllocatorTest {
+	
+	@Test
+	public void allocatesNothingWithoutSpawnPoints() {
+		SpawnAllocator allocator = new SpawnAllocator(Collections.emptyList());
+		
+		assertEquals(0, allocator.allocate(5, false).length);
+		assertEquals(0, allocator.allocate(5, true).length);
+	}
+	
+	@Test
+	public void allocatesNothingForNoProfiles() {
+		SpawnAllocator allocator = new SpawnAllocator(line(4));
+		
+		assertEquals(0, allocator.allocate(0, false).length);
+		assertEquals(0, allocator.allocate(-1, true).length);
+	}
+	
+	@Test
+	public void neverRepeatsUntilEverySpawnPointIsAllocated() {
+		for (boolean spread : new boolean[] { false, true }) {
+			SpawnAllocator allocator = new SpawnAllocator(line(7));
+			
+			for (int round = 0; round < 50; round++) {
+				int[] indexes = allocator.allocate(17, spread);
+				
+				assertEquals(17, indexes.length);
+				assertPermutation(indexes, 0, 7);
+				assertPermutation(indexes, 7, 7);
+				
+				Set<Integer> rest = new HashSet<>();
+				
+				for (int i = 14; i < 17; i++) {
+					assertTrue(rest.add(indexes[i]));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void spreadsOverFarClusters() {
+		List<Location> spawnPoints = new ArrayList<>();
+		
+		for (int cluster = 0; cluster < 4; cluster++) {
+			for (int i = 0; i < 3; i++) {
+				spawnPoints.add(new Location(null, cluster % 2 * 100 + i, 64, cluster / 2 * 100));
+			}
+		}
+		SpawnAllocator allocator = new SpawnAllocator(spawnPoints);
+		
+		for (int round = 0; round < 50; round++) {
+			Set<Integer> clusters = new HashSet<>();
+			
+			for (int index : allocator.allocate(4, true)) {
+				clusters.add(index / 3);
+			}
+			assertEquals(4, clusters.size());
+		}
+	}
+	
+	/**
+	 * Internal method to create some spawn points in a line, one block apart
+	 * 
+	 * @param size The amount of spawn points
+	 * 
+	 * @return The created spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static List<Location> line(int size) {
+		List<Location> spawnPoints = new ArrayList<>(size);
+		
+		for (int i = 0; i < size; i++) {
+			spawnPoints.add(new Location(null, i, 64, 0));
+		}
+		return spawnPoints;
+	}
+	
+	/**
+	 * Internal method to assert that a range of indexes holds every spawn point once
+	 * 
+	 * @param indexes The allocated indexes
+	 * @param from The start of the range
+	 * @param size The amount of spawn points
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void assertPermutation(int[] indexes, int from, int size) {
+		Set<Integer> seen = new HashSet<>();
+		
+		for (int i = from; i < from + size; i++) {
+			assertTrue(indexes[i] >= 0 && indexes[i] < size);
+			assertTrue(seen.add(indexes[i]));
+		}
+	}
+}
\ No newline at end of file
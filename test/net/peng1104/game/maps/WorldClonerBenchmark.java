@@ -0,0 +1,280 @@
+package net.peng1104.game.maps;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.peng1104.TestServer;
+
+/**
+ * Benchmark of the {@link WorldCloner} cloning a {@link World} source with some region files of
+ * 1 MiB, up to a map of 50 MiB, copied by the kernel and hard linked, each operation clones the
+ * whole {@link World}
+ * <p>
+ * The baseline is the copy done by {@link net.peng1104.utils.WorldAPI#createWorld(File, String)},
+ * which streams every file through Java, it is reproduced here since the real one also loads the
+ * {@link World}, which needs a running server and is the same {@link org.bukkit.WorldCreator}
+ * call for both paths
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=net.peng1104.game.maps.WorldClonerBenchmark
+ * </pre>
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldClonerBenchmark {
+	
+	/**
+	 * The size of each region file in bytes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final int REGION_SIZE = 1 << 20;
+	
+	/**
+	 * The name of the cloned {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static final String NAME = "clone";
+	
+	/**
+	 * The amount of region files of the {@link World} source
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Param({ "4", "16", "50" })
+	public int regions;
+	
+	/**
+	 * The temporary folder of this benchmark
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private Path folder;
+	
+	/**
+	 * The {@link World} source folder
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private File source;
+	
+	/**
+	 * The folder of the cloned {@link World}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private File target;
+	
+	/**
+	 * {@link Method} to write the {@link World} source and point the {@link World} container to
+	 * the temporary folder
+	 * 
+	 * @throws IOException If the {@link World} source could not be written
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Setup
+	public void setup() throws IOException {
+		Random random = new Random(1104);
+		byte[] region = new byte[REGION_SIZE];
+		
+		folder = Files.createTempDirectory("arcade-cloner");
+		source = folder.resolve("source").toFile();
+		target = folder.resolve(NAME).toFile();
+		
+		Path regionFolder = Files.createDirectories(source.toPath().resolve("region"));
+		
+		for (int i = 0; i < regions; i++) {
+			random.nextBytes(region);
+			Files.write(regionFolder.resolve("r." + (i % 4) + "." + (i / 4) + ".mca"), region);
+		}
+		Files.write(source.toPath().resolve("level.dat"), new byte[1024]);
+		Files.createDirectories(source.toPath().resolve("data"));
+		
+		TestServer.install();
+		TestServer.setWorldContainer(folder.toFile());
+	}
+	
+	/**
+	 * {@link Method} to delete the cloned {@link World} after each operation
+	 * 
+	 * @throws IOException If the cloned {@link World} could not be deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@TearDown(Level.Invocation)
+	public void deleteClone() throws IOException {
+		delete(target.toPath());
+	}
+	
+	/**
+	 * {@link Method} to delete the temporary folder of this benchmark
+	 * 
+	 * @throws IOException If the temporary folder could not be deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@TearDown
+	public void deleteFolder() throws IOException {
+		delete(folder);
+	}
+	
+	/**
+	 * The {@link World} source copied by the kernel
+	 * 
+	 * @return True if the {@link World} source has been cloned
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public boolean copy() {
+		return WorldCloner.copy(source, NAME, false);
+	}
+	
+	/**
+	 * The {@link World} source with its region files hard linked
+	 * 
+	 * @return True if the {@link World} source has been cloned
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public boolean links() {
+		return WorldCloner.copy(source, NAME, true);
+	}
+	
+	/**
+	 * The {@link World} source copied through Java streams, as
+	 * {@link net.peng1104.utils.WorldAPI#createWorld(File, String)} does without the
+	 * {@link WorldCloner}
+	 * 
+	 * @throws IOException If the {@link World} source could not be copied
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	@Benchmark
+	public void streams() throws IOException {
+		copy(source, target, new byte[8192]);
+	}
+	
+	/**
+	 * {@link Method} to run this benchmark
+	 * 
+	 * @param arguments The arguments of the command line, not used
+	 * 
+	 * @throws RunnerException If the benchmark could not be run
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	public static void main(String[] arguments) throws RunnerException {
+		new Runner(new OptionsBuilder().include(WorldClonerBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+	
+	/**
+	 * Internal {@link Method} to copy a folder through Java streams
+	 * 
+	 * @param from The folder to copy
+	 * @param to The new folder
+	 * @param buffer The buffer of the copy
+	 * 
+	 * @throws IOException If the folder could not be copied
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void copy(File from, File to, byte[] buffer) throws IOException {
+		to.mkdirs();
+		
+		for (File file : from.listFiles()) {
+			File target = new File(to, file.getName());
+			
+			if (file.isDirectory()) {
+				copy(file, target, buffer);
+				continue;
+			}
+			try (InputStream in = new FileInputStream(file);
+					OutputStream out = new FileOutputStream(target)) {
+				
+				int read;
+				
+				while ((read = in.read(buffer)) > 0) {
+					out.write(buffer, 0, read);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Internal {@link Method} to delete a folder and everything in it
+	 * 
+	 * @param path The folder to delete
+	 * 
+	 * @throws IOException If the folder could not be deleted
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void delete(Path path) throws IOException {
+		if (!Files.exists(path)) return;
+		
+		try (Stream<Path> paths = Files.walk(path)) {
+			for (Path file : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+}
\ No newline at end of file
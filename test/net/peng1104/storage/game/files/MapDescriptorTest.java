@@ -0,0 +1,183 @@
+package net.peng1104.storage.game.files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import net.peng1104.storage.game.enums.GameType;
+
+/**
+ * Tests of the {@link MapDescriptor} written to a file and read back
+ * 
+ * @since 1.0.0
+ * 
+ * @author Peng1104
+ */
+
+public class MapDescriptorTest {
+	
+	/**
+	 * The temporary folder of the test
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private File folder;
+	
+	/**
+	 * The {@link MapDescriptor} file
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private File file;
+	
+	/**
+	 * The {@link GameMapFile} that the {@link MapDescriptor} describes
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private File configFile;
+	
+	@Before
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("arcade-descriptor").toFile();
+		file = new File(folder, "mapa" + MapDescriptor.EXTENSION);
+		configFile = new File(folder, "mapa.yml");
+		
+		Files.write(configFile.toPath(), "Nome: Mapa\n".getBytes("UTF-8"));
+	}
+	
+	@After
+	public void tearDown() {
+		for (File child : folder.listFiles()) {
+			child.delete();
+		}
+		folder.delete();
+	}
+	
+	@Test
+	public void readsBackWhatWasWritten() {
+		SpawnTable murder = new SpawnTable(new double[] { 0.5, -10.5, 1e6 }, new double[] { 64,
+				65, 255 }, new double[] { -0.5, 20.25, -1e6 }, new float[] { 0, 90, -180 },
+				new float[] { 0, -45.5F, 90 });
+		SpawnTable lava = new SpawnTable(new double[] { 1, 2 }, new double[] { 70, 71 },
+				new double[] { 3, 4 }, new float[] { 45, 135 }, new float[] { 10, 20 });
+		GameType[] bases = new GameType[GameType.values().length];
+		Map<GameType, SpawnTable> tables = new EnumMap<>(GameType.class);
+		
+		bases[GameType.MURDER.ordinal()] = GameType.MURDER;
+		bases[GameType.MURDER_DOUBLE.ordinal()] = GameType.MURDER;
+		bases[GameType.LAVAFLOOR.ordinal()] = GameType.LAVAFLOOR;
+		tables.put(GameType.MURDER, murder);
+		tables.put(GameType.MURDER_DOUBLE, murder);
+		tables.put(GameType.LAVAFLOOR, lava);
+		
+		long types = 1L << GameType.MURDER.ordinal() | 1L << GameType.MURDER_DOUBLE.ordinal()
+				| 1L << GameType.LAVAFLOOR.ordinal();
+		MapDescriptor descriptor = new MapDescriptor(0, 0, types, bases, tables,
+				new ArenaBounds(-100, 0, -50, 100, 128, 50));
+		
+		assertTrue(descriptor.write(file, configFile));
+		
+		MapDescriptor read = MapDescriptor.read(file, configFile);
+		
+		assertNotNull(read);
+		assertEquals(configFile.lastModified(), read.getModified());
+		assertEquals(configFile.length(), read.getLength());
+		
+		for (GameType type : GameType.values()) {
+			assertEquals((types & 1L << type.ordinal()) != 0, read.isValidType(type));
+		}
+		assertSpawnTable(murder, read.getSpawnTable(GameType.MURDER));
+		assertSpawnTable(lava, read.getSpawnTable(GameType.LAVAFLOOR));
+		assertSame(read.getSpawnTable(GameType.MURDER), read.getSpawnTable(GameType.MURDER_DOUBLE));
+		assertSame(SpawnTable.EMPTY, read.getSpawnTable(GameType.HIDE_AND_SEEK));
+		
+		ArenaBounds bounds = read.getBounds();
+		
+		assertNotNull(bounds);
+		assertEquals(-100, bounds.getMinX());
+		assertEquals(0, bounds.getMinY());
+		assertEquals(-50, bounds.getMinZ());
+		assertEquals(100, bounds.getMaxX());
+		assertEquals(128, bounds.getMaxY());
+		assertEquals(50, bounds.getMaxZ());
+	}
+	
+	@Test
+	public void readsBackMapsWithoutBoundsOrSpawns() {
+		MapDescriptor descriptor = new MapDescriptor(0, 0, 0, new GameType[GameType.values()
+				.length], new EnumMap<>(GameType.class), null);
+		
+		assertTrue(descriptor.write(file, configFile));
+		
+		MapDescriptor read = MapDescriptor.read(file, configFile);
+		
+		assertNotNull(read);
+		assertNull(read.getBounds());
+		assertFalse(read.isValidType(GameType.MURDER));
+		assertSame(SpawnTable.EMPTY, read.getSpawnTable(GameType.MURDER));
+	}
+	
+	@Test
+	public void rejectsStaleOrDamagedFiles() throws IOException {
+		MapDescriptor descriptor = new MapDescriptor(0, 0, 1L, new GameType[GameType.values()
+				.length], new EnumMap<>(GameType.class), new ArenaBounds(0, 0, 0, 1, 1, 1));
+		
+		assertNull(MapDescriptor.read(file, configFile));
+		assertTrue(descriptor.write(file, configFile));
+		assertNotNull(MapDescriptor.read(file, configFile));
+		
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 5));
+		assertNull(MapDescriptor.read(file, configFile));
+		
+		bytes[0] ^= 1;
+		Files.write(file.toPath(), bytes);
+		assertNull(MapDescriptor.read(file, configFile));
+		
+		assertTrue(descriptor.write(file, configFile));
+		Files.write(configFile.toPath(), "Nome: Outro Mapa\n".getBytes("UTF-8"),
+				StandardOpenOption.APPEND);
+		assertNull(MapDescriptor.read(file, configFile));
+	}
+	
+	/**
+	 * Internal method to assert that two {@link SpawnTable}s have the same spawn points
+	 * 
+	 * @param expected The expected {@link SpawnTable}
+	 * @param actual The read {@link SpawnTable}
+	 * 
+	 * @since 1.0.0
+	 */
+	
+	private static void assertSpawnTable(SpawnTable expected, SpawnTable actual) {
+		assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.getX(i), actual.getX(i), 0);
+			assertEquals(expected.getY(i), actual.getY(i), 0);
+			assertEquals(expected.getZ(i), actual.getZ(i), 0);
+			assertEquals(expected.getYaw(i), actual.getYaw(i), 0);
+			assertEquals(expected.getPitch(i), actual.getPitch(i), 0);
+		}
+	}
+}
\ No newline at end of file